@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AASXDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AASXSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.InMemoryFile;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.MetamodelContentType;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks for {@link AASXSerializer} and {@link AASXDeserializer}. Each file element of the
+ * environment references a supplementary file of {@code blobSize} bytes.
+ */
+public class AasxBenchmark extends AbstractEnvironmentBenchmark {
+
+  private AASXSerializer serializer;
+  private byte[] aasx;
+  private Path aasxFile;
+  private String filePath;
+
+  @Override
+  protected void setup() throws Exception {
+    serializer = new AASXSerializer();
+    aasx = serializeXml();
+    aasxFile = Files.createTempFile("benchmark", ".aasx");
+    aasxFile.toFile().deleteOnExit();
+    Files.write(aasxFile, aasx);
+    filePath = generator.getFiles().get(0).getPath();
+  }
+
+  @Benchmark
+  public byte[] serializeXml() throws Exception {
+    return serialize(MetamodelContentType.XML);
+  }
+
+  @Benchmark
+  public byte[] serializeJson() throws Exception {
+    return serialize(MetamodelContentType.JSON);
+  }
+
+  @Benchmark
+  public Environment deserialize() throws Exception {
+    return new AASXDeserializer(new ByteArrayInputStream(aasx)).read();
+  }
+
+  @Benchmark
+  public List<InMemoryFile> readRelatedFiles() throws Exception {
+    return new AASXDeserializer(new ByteArrayInputStream(aasx)).getRelatedFiles();
+  }
+
+  @Benchmark
+  public byte[] readSingleFileFromStream() throws Exception {
+    return new AASXDeserializer(new ByteArrayInputStream(aasx))
+        .getRelatedFileSource(filePath)
+        .readAllBytes();
+  }
+
+  @Benchmark
+  public byte[] readSingleFileFromPath() throws Exception {
+    try (AASXDeserializer deserializer = new AASXDeserializer(aasxFile)) {
+      return deserializer.getRelatedFileSource(filePath).readAllBytes();
+    }
+  }
+
+  private byte[] serialize(MetamodelContentType contentType) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    serializer.write(environment, generator.getFiles(), out, contentType);
+    return out.toByteArray();
+  }
+}
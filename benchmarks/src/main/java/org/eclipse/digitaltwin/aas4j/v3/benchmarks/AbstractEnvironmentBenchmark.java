@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base class for benchmarks operating on a synthetic environment. The size of the environment can
+ * be tuned using the JMH parameters {@code submodels}, {@code depth}, {@code fanOut} and {@code
+ * blobSize}, e.g. {@code -p submodels=100 -p depth=4}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class AbstractEnvironmentBenchmark {
+
+  @Param({"10"})
+  public int submodels;
+
+  @Param({"3"})
+  public int depth;
+
+  @Param({"5"})
+  public int fanOut;
+
+  @Param({"1024"})
+  public int blobSize;
+
+  protected EnvironmentGenerator generator;
+  protected Environment environment;
+
+  @Setup(Level.Trial)
+  public void setupEnvironment() throws Exception {
+    generator = new EnvironmentGenerator(submodels, depth, fanOut, blobSize);
+    environment = generator.generate();
+    setup();
+  }
+
+  /**
+   * Prepares benchmark specific state, called once per trial after the environment has been
+   * generated.
+   *
+   * @throws Exception if preparation fails
+   */
+  protected void setup() throws Exception {}
+}
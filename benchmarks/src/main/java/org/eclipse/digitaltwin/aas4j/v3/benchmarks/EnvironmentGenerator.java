@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.InMemoryFile;
+import org.eclipse.digitaltwin.aas4j.v3.model.AasSubmodelElements;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultFile;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultMultiLanguageProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultRange;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReferenceElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+
+/**
+ * Generates synthetic environments of configurable size for benchmarking.
+ *
+ * <p>The generated environment contains one shell referencing all submodels. Every submodel is a
+ * tree of the given depth in which each container holds {@code fanOut} children. Inner levels
+ * alternate between collections and lists (with each list item being a collection or, on the
+ * innermost level, a property), the innermost level cycles through properties, multi-language
+ * properties, ranges, reference elements, blobs and files. Blobs and the supplementary files
+ * referenced by file elements carry {@code blobSize} bytes of random content. Generation is
+ * deterministic, i.e. generators with the same parameters produce equal results.
+ */
+public class EnvironmentGenerator {
+
+  private static final String ID_PREFIX = "https://example.org/benchmark/";
+  private static final String FILE_PREFIX = "/aasx/files/";
+  private static final String BINARY_CONTENT_TYPE = "application/octet-stream";
+  private static final int LEAF_TYPES = 6;
+
+  private final int submodels;
+  private final int depth;
+  private final int fanOut;
+  private final int blobSize;
+
+  private Random random;
+  private List<Reference> leafReferences;
+  private List<InMemoryFile> files;
+
+  /**
+   * Creates a new generator
+   *
+   * @param submodels the number of submodels
+   * @param depth the nesting depth of submodel elements, 1 creates flat submodels
+   * @param fanOut the number of children of each submodel and container element
+   * @param blobSize the size of blob values and supplementary files in bytes
+   */
+  public EnvironmentGenerator(int submodels, int depth, int fanOut, int blobSize) {
+    if (submodels < 0 || depth < 1 || fanOut < 1 || blobSize < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "invalid generator parameters (submodels: %s, depth: %s, fanOut: %s, blobSize: %s)",
+              submodels, depth, fanOut, blobSize));
+    }
+    this.submodels = submodels;
+    this.depth = depth;
+    this.fanOut = fanOut;
+    this.blobSize = blobSize;
+  }
+
+  /**
+   * Generates a new environment. The references to all leaf elements and the supplementary files of
+   * the last generated environment are available via {@link #getLeafReferences()} and {@link
+   * #getFiles()}.
+   *
+   * @return the generated environment
+   */
+  public Environment generate() {
+    random = new Random(submodels * 31L + depth * 17L + fanOut);
+    leafReferences = new ArrayList<>();
+    files = new ArrayList<>();
+    List<ConceptDescription> conceptDescriptions = new ArrayList<>();
+    for (int i = 0; i < fanOut; i++) {
+      conceptDescriptions.add(
+          new DefaultConceptDescription.Builder()
+              .id(conceptDescriptionId(i))
+              .idShort("conceptDescription" + i)
+              .build());
+    }
+    List<Submodel> result = new ArrayList<>();
+    List<Reference> submodelReferences = new ArrayList<>();
+    for (int i = 0; i < submodels; i++) {
+      String id = ID_PREFIX + "submodel/" + i;
+      List<Key> keys = Collections.singletonList(key(KeyTypes.SUBMODEL, id));
+      result.add(
+          new DefaultSubmodel.Builder()
+              .id(id)
+              .idShort("submodel" + i)
+              .semanticId(externalReference(ID_PREFIX + "semantics/submodel"))
+              .submodelElements(createElements(keys, 1, "submodel" + i))
+              .build());
+      submodelReferences.add(
+          new DefaultReference.Builder().type(ReferenceTypes.MODEL_REFERENCE).keys(keys).build());
+    }
+    return new DefaultEnvironment.Builder()
+        .assetAdministrationShells(
+            new DefaultAssetAdministrationShell.Builder()
+                .id(ID_PREFIX + "shell")
+                .idShort("shell")
+                .assetInformation(
+                    new DefaultAssetInformation.Builder()
+                        .assetKind(AssetKind.INSTANCE)
+                        .globalAssetId(ID_PREFIX + "asset")
+                        .build())
+                .submodels(submodelReferences)
+                .build())
+        .submodels(result)
+        .conceptDescriptions(conceptDescriptions)
+        .build();
+  }
+
+  /**
+   * Returns model references to all leaf elements of the last generated environment
+   *
+   * @return the references in document order
+   */
+  public List<Reference> getLeafReferences() {
+    return leafReferences;
+  }
+
+  /**
+   * Returns the supplementary files referenced by the file elements of the last generated
+   * environment
+   *
+   * @return the supplementary files
+   */
+  public List<InMemoryFile> getFiles() {
+    return files;
+  }
+
+  private List<SubmodelElement> createElements(List<Key> parentKeys, int level, String path) {
+    List<SubmodelElement> result = new ArrayList<>(fanOut);
+    for (int i = 0; i < fanOut; i++) {
+      String idShort = "element" + i;
+      if (level >= depth) {
+        result.add(createLeaf(parentKeys, i % LEAF_TYPES, idShort, idShort, path));
+      } else if (i % 2 == 0) {
+        List<Key> keys = append(parentKeys, KeyTypes.SUBMODEL_ELEMENT_COLLECTION, idShort);
+        result.add(
+            new DefaultSubmodelElementCollection.Builder()
+                .idShort(idShort)
+                .value(createElements(keys, level + 1, path + "/" + idShort))
+                .build());
+      } else {
+        List<Key> keys = append(parentKeys, KeyTypes.SUBMODEL_ELEMENT_LIST, idShort);
+        boolean leafLevel = level + 1 >= depth;
+        result.add(
+            new DefaultSubmodelElementList.Builder()
+                .idShort(idShort)
+                .typeValueListElement(
+                    leafLevel
+                        ? AasSubmodelElements.PROPERTY
+                        : AasSubmodelElements.SUBMODEL_ELEMENT_COLLECTION)
+                .valueTypeListElement(leafLevel ? DataTypeDefXsd.STRING : null)
+                .value(createListElements(keys, level + 1, path + "/" + idShort))
+                .build());
+      }
+    }
+    return result;
+  }
+
+  private List<SubmodelElement> createListElements(List<Key> parentKeys, int level, String path) {
+    List<SubmodelElement> result = new ArrayList<>(fanOut);
+    for (int i = 0; i < fanOut; i++) {
+      String index = Integer.toString(i);
+      if (level >= depth) {
+        result.add(createLeaf(parentKeys, 0, null, index, path + "/" + index));
+      } else {
+        List<Key> keys = append(parentKeys, KeyTypes.SUBMODEL_ELEMENT_COLLECTION, index);
+        result.add(
+            new DefaultSubmodelElementCollection.Builder()
+                .value(createElements(keys, level + 1, path + "/" + index))
+                .build());
+      }
+    }
+    return result;
+  }
+
+  private SubmodelElement createLeaf(
+      List<Key> parentKeys, int leafType, String idShort, String keyValue, String parentPath) {
+    String path = parentPath + "/" + keyValue;
+    SubmodelElement result;
+    KeyTypes keyType;
+    switch (leafType) {
+      case 0:
+        keyType = KeyTypes.PROPERTY;
+        result =
+            new DefaultProperty.Builder()
+                .idShort(idShort)
+                .semanticId(modelReference(conceptDescriptionId(leafReferences.size() % fanOut)))
+                .valueType(DataTypeDefXsd.STRING)
+                .value("value of " + path)
+                .build();
+        break;
+      case 1:
+        keyType = KeyTypes.MULTI_LANGUAGE_PROPERTY;
+        result =
+            new DefaultMultiLanguageProperty.Builder()
+                .idShort(idShort)
+                .value(new DefaultLangStringTextType.Builder().language("en").text(path).build())
+                .value(new DefaultLangStringTextType.Builder().language("de").text(path).build())
+                .build();
+        break;
+      case 2:
+        keyType = KeyTypes.RANGE;
+        result =
+            new DefaultRange.Builder()
+                .idShort(idShort)
+                .valueType(DataTypeDefXsd.INT)
+                .min(Integer.toString(random.nextInt(1000)))
+                .max(Integer.toString(1000 + random.nextInt(1000)))
+                .build();
+        break;
+      case 3:
+        keyType = KeyTypes.REFERENCE_ELEMENT;
+        result =
+            new DefaultReferenceElement.Builder()
+                .idShort(idShort)
+                .value(
+                    leafReferences.isEmpty()
+                        ? modelReference(conceptDescriptionId(0))
+                        : leafReferences.get(random.nextInt(leafReferences.size())))
+                .build();
+        break;
+      case 4:
+        keyType = KeyTypes.BLOB;
+        result =
+            new DefaultBlob.Builder()
+                .idShort(idShort)
+                .contentType(BINARY_CONTENT_TYPE)
+                .value(randomBytes())
+                .build();
+        break;
+      default:
+        keyType = KeyTypes.FILE;
+        String filePath = FILE_PREFIX + path.replace('/', '_') + ".bin";
+        files.add(new InMemoryFile(randomBytes(), filePath));
+        result =
+            new DefaultFile.Builder()
+                .idShort(idShort)
+                .contentType(BINARY_CONTENT_TYPE)
+                .value(filePath)
+                .build();
+        break;
+    }
+    leafReferences.add(
+        new DefaultReference.Builder()
+            .type(ReferenceTypes.MODEL_REFERENCE)
+            .keys(append(parentKeys, keyType, keyValue))
+            .build());
+    return result;
+  }
+
+  private byte[] randomBytes() {
+    byte[] result = new byte[blobSize];
+    random.nextBytes(result);
+    return result;
+  }
+
+  private static String conceptDescriptionId(int index) {
+    return ID_PREFIX + "conceptDescription/" + index;
+  }
+
+  private static List<Key> append(List<Key> keys, KeyTypes type, String value) {
+    List<Key> result = new ArrayList<>(keys.size() + 1);
+    result.addAll(keys);
+    result.add(key(type, value));
+    return result;
+  }
+
+  private static Key key(KeyTypes type, String value) {
+    return new DefaultKey.Builder().type(type).value(value).build();
+  }
+
+  private static Reference modelReference(String conceptDescriptionId) {
+    return new DefaultReference.Builder()
+        .type(ReferenceTypes.MODEL_REFERENCE)
+        .keys(key(KeyTypes.CONCEPT_DESCRIPTION, conceptDescriptionId))
+        .build();
+  }
+
+  private static Reference externalReference(String value) {
+    return new DefaultReference.Builder()
+        .type(ReferenceTypes.EXTERNAL_REFERENCE)
+        .keys(key(KeyTypes.GLOBAL_REFERENCE, value))
+        .build();
+  }
+}
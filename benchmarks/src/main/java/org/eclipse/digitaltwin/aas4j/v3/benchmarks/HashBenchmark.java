@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.benchmarks;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.frozen.Freezer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/** Benchmarks for hashing and comparing large submodels, optionally frozen. */
+public class HashBenchmark extends AbstractEnvironmentBenchmark {
+
+  @Param({"false", "true"})
+  public boolean frozen;
+
+  private Submodel other;
+
+  @Override
+  protected void setup() throws Exception {
+    other = generator.generate().getSubmodels().get(0);
+    if (frozen) {
+      environment = Freezer.freeze(environment);
+      other = Freezer.freeze(other);
+    }
+  }
+
+  @Benchmark
+  public Set<Submodel> collectSubmodels() {
+    Set<Submodel> result = new HashSet<>();
+    result.addAll(environment.getSubmodels());
+    return result;
+  }
+
+  @Benchmark
+  public boolean compareSubmodels() {
+    boolean result = false;
+    for (Submodel submodel : environment.getSubmodels()) {
+      result |= submodel.equals(other);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonEnvironmentReader;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializationProfile;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/** Benchmarks for {@link JsonSerializer} and {@link JsonDeserializer}. */
+public class JsonBenchmark extends AbstractEnvironmentBenchmark {
+
+  private JsonSerializer serializer;
+  private JsonSerializer compactSerializer;
+  private JsonDeserializer deserializer;
+  private byte[] json;
+
+  @Override
+  protected void setup() throws Exception {
+    serializer = new JsonSerializer();
+    compactSerializer = new JsonSerializer(JsonSerializationProfile.COMPACT);
+    deserializer = new JsonDeserializer();
+    json = serializer.write(environment).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public String serialize() throws Exception {
+    return serializer.write(environment);
+  }
+
+  @Benchmark
+  public String serializeCompact() throws Exception {
+    return compactSerializer.write(environment);
+  }
+
+  @Benchmark
+  public Environment deserialize() throws Exception {
+    return deserializer.read(new ByteArrayInputStream(json), Environment.class);
+  }
+
+  @Benchmark
+  public int deserializeIncrementally() throws Exception {
+    int count = 0;
+    try (JsonEnvironmentReader reader =
+        deserializer.createEnvironmentReader(new ByteArrayInputStream(json))) {
+      while (reader.hasNext()) {
+        reader.next();
+        count++;
+      }
+    }
+    return count;
+  }
+}
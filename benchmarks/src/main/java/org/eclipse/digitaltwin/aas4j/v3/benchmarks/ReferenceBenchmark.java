@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.benchmarks;
+
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.AasUtils;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmarks for creating references to all elements of the environment. */
+public class ReferenceBenchmark extends AbstractEnvironmentBenchmark {
+
+  @Benchmark
+  public void toReferenceEach(Blackhole blackhole) {
+    for (Submodel submodel : environment.getSubmodels()) {
+      Reference reference = AasUtils.toReference(submodel);
+      blackhole.consume(reference);
+      toReferenceEach(reference, submodel.getSubmodelElements(), blackhole);
+    }
+  }
+
+  @Benchmark
+  public void forEachReference(Blackhole blackhole) {
+    for (Submodel submodel : environment.getSubmodels()) {
+      AasUtils.forEachReference(submodel, (x, y) -> blackhole.consume(y));
+    }
+  }
+
+  private static void toReferenceEach(
+      Reference parent, List<SubmodelElement> elements, Blackhole blackhole) {
+    if (elements == null) {
+      return;
+    }
+    for (SubmodelElement element : elements) {
+      Reference reference = AasUtils.toReference(parent, element);
+      blackhole.consume(reference);
+      if (element instanceof SubmodelElementCollection) {
+        toReferenceEach(reference, ((SubmodelElementCollection) element).getValue(), blackhole);
+      } else if (element instanceof SubmodelElementList) {
+        toReferenceEach(reference, ((SubmodelElementList) element).getValue(), blackhole);
+      }
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.visitor.AssetAdministrationShellElementWalkerVisitor;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.AasUtils;
+import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmarks for the type metadata lookups performed for every element of the environment. */
+public class ReflectionBenchmark extends AbstractEnvironmentBenchmark {
+
+  private final List<Referable> referables = new ArrayList<>();
+
+  @Override
+  protected void setup() {
+    referables.clear();
+    new AssetAdministrationShellElementWalkerVisitor() {
+      @Override
+      public void visit(Submodel submodel) {
+        referables.add(submodel);
+        AssetAdministrationShellElementWalkerVisitor.super.visit(submodel);
+      }
+
+      @Override
+      public void visit(SubmodelElement submodelElement) {
+        referables.add(submodelElement);
+        AssetAdministrationShellElementWalkerVisitor.super.visit(submodelElement);
+      }
+    }.visit(environment);
+  }
+
+  @Benchmark
+  public void referableToKeyType(Blackhole blackhole) {
+    for (Referable referable : referables) {
+      blackhole.consume(AasUtils.referableToKeyType(referable));
+    }
+  }
+
+  @Benchmark
+  public void getAasInterface(Blackhole blackhole) {
+    for (Referable referable : referables) {
+      blackhole.consume(ReflectionHelper.getAasInterface(referable.getClass()));
+    }
+  }
+
+  @Benchmark
+  public void getModelType(Blackhole blackhole) {
+    for (Referable referable : referables) {
+      blackhole.consume(ReflectionHelper.getModelType(referable.getClass()));
+    }
+  }
+
+  @Benchmark
+  public void getDefaultImplementation(Blackhole blackhole) {
+    for (Referable referable : referables) {
+      blackhole.consume(
+          ReflectionHelper.getDefaultImplementation(
+              ReflectionHelper.getAasInterface(referable.getClass())));
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.benchmarks;
+
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.AasUtils;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.EnvironmentIndex;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmarks for resolving references to all leaf elements of the environment. */
+public class ResolveBenchmark extends AbstractEnvironmentBenchmark {
+
+  private List<Reference> references;
+  private EnvironmentIndex index;
+
+  @Override
+  protected void setup() {
+    references = generator.getLeafReferences();
+    index = new EnvironmentIndex(environment);
+  }
+
+  @Benchmark
+  public void resolveEach(Blackhole blackhole) {
+    for (Reference reference : references) {
+      blackhole.consume(AasUtils.resolve(reference, environment));
+    }
+  }
+
+  @Benchmark
+  public void resolveAll(Blackhole blackhole) {
+    blackhole.consume(AasUtils.resolveAll(references, environment));
+  }
+
+  @Benchmark
+  public void resolveWithIndex(Blackhole blackhole) {
+    for (Reference reference : references) {
+      blackhole.consume(index.resolve(reference));
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.benchmarks;
+
+import java.util.Collections;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.frozen.EnvironmentSnapshot;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/** Benchmarks for reading and editing environment snapshots. */
+public class SnapshotBenchmark extends AbstractEnvironmentBenchmark {
+
+  private EnvironmentSnapshot snapshot;
+
+  private String submodelId;
+
+  private String idShortPath;
+
+  private SubmodelElement replacement;
+
+  @Override
+  protected void setup() throws Exception {
+    submodelId = environment.getSubmodels().get(0).getId();
+    idShortPath = String.join(".", Collections.nCopies(depth, "element0"));
+    replacement = new DefaultProperty.Builder().idShort("element0").value("replacement").build();
+    snapshot = EnvironmentSnapshot.freeze(environment);
+  }
+
+  @Benchmark
+  public SubmodelElement readElement() {
+    return snapshot.getSubmodelElement(submodelId, idShortPath);
+  }
+
+  @Benchmark
+  public EnvironmentSnapshot editElement() {
+    return snapshot.withSubmodelElement(submodelId, idShortPath, replacement);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.benchmarks;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.visitor.AssetAdministrationShellElementWalkerVisitor;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.visitor.ParallelEnvironmentWalker;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/** Benchmarks for walking the complete environment with the visitor infrastructure. */
+public class VisitorBenchmark extends AbstractEnvironmentBenchmark {
+
+  @Benchmark
+  public int walk() {
+    int[] count = new int[1];
+    new AssetAdministrationShellElementWalkerVisitor() {
+      @Override
+      public void visit(Key key) {
+        count[0]++;
+      }
+    }.visit(environment);
+    return count[0];
+  }
+
+  @Benchmark
+  public int walkSubmodelElements() {
+    int[] count = new int[1];
+    new AssetAdministrationShellElementWalkerVisitor() {
+      @Override
+      public void visit(SubmodelElement submodelElement) {
+        count[0]++;
+        AssetAdministrationShellElementWalkerVisitor.super.visit(submodelElement);
+      }
+    }.visit(environment);
+    return count[0];
+  }
+
+  @Benchmark
+  public int walkDataElements() {
+    int[] count = new int[1];
+    new AssetAdministrationShellElementWalkerVisitor() {
+      @Override
+      public void visit(DataElement dataElement) {
+        count[0]++;
+        AssetAdministrationShellElementWalkerVisitor.super.visit(dataElement);
+      }
+    }.visit(environment);
+    return count[0];
+  }
+
+  @Benchmark
+  public int walkParallel() {
+    return new ParallelEnvironmentWalker<>(KeyCounter::new, KeyCounter::merge)
+        .walk(environment)
+        .count;
+  }
+
+  private static class KeyCounter extends ParallelEnvironmentWalker.TaskVisitor {
+
+    private int count;
+
+    @Override
+    public void visit(Key key) {
+      count++;
+    }
+
+    private KeyCounter merge(KeyCounter other) {
+      count += other.count;
+      return this;
+    }
+  }
+}
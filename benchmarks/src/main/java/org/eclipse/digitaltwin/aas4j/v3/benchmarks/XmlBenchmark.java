@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/** Benchmarks for {@link XmlSerializer} and {@link XmlDeserializer}. */
+public class XmlBenchmark extends AbstractEnvironmentBenchmark {
+
+  private XmlSerializer serializer;
+  private XmlDeserializer deserializer;
+  private byte[] xml;
+
+  @Override
+  protected void setup() throws Exception {
+    serializer = new XmlSerializer();
+    deserializer = new XmlDeserializer();
+    xml = serializer.write(environment).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public String serialize() throws Exception {
+    return serializer.write(environment);
+  }
+
+  @Benchmark
+  public Environment deserialize() throws Exception {
+    return deserializer.read(new ByteArrayInputStream(xml));
+  }
+}
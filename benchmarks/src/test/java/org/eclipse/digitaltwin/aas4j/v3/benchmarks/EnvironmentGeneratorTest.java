@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.benchmarks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.EnvironmentIndex;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.junit.Test;
+
+public class EnvironmentGeneratorTest {
+
+  @Test
+  public void testGenerateIsDeterministic() {
+    assertEquals(
+        new EnvironmentGenerator(3, 3, 4, 16).generate(),
+        new EnvironmentGenerator(3, 3, 4, 16).generate());
+  }
+
+  @Test
+  public void testLeafReferencesResolve() {
+    EnvironmentGenerator generator = new EnvironmentGenerator(2, 3, 6, 8);
+    Environment environment = generator.generate();
+    assertEquals(2, environment.getSubmodels().size());
+    // every container has 6 children, i.e. 6 * 6 * 6 leaves per submodel
+    assertEquals(2 * 6 * 6 * 6, generator.getLeafReferences().size());
+    // lists of properties on the innermost level contain no files, all other leaf groups one
+    assertEquals(2 * (3 * 3 + 3 * 6), generator.getFiles().size());
+    EnvironmentIndex index = new EnvironmentIndex(environment);
+    for (Reference reference : generator.getLeafReferences()) {
+      assertNotNull(index.resolve(reference));
+    }
+  }
+
+  @Test
+  public void testJsonRoundTrip() throws Exception {
+    Environment expected = new EnvironmentGenerator(2, 3, 6, 8).generate();
+    assertEquals(
+        expected,
+        new JsonDeserializer().read(new JsonSerializer().write(expected), Environment.class));
+  }
+
+  @Test
+  public void testXmlRoundTrip() throws Exception {
+    Environment expected = new EnvironmentGenerator(2, 3, 6, 8).generate();
+    assertEquals(expected, new XmlDeserializer().read(new XmlSerializer().write(expected)));
+  }
+}
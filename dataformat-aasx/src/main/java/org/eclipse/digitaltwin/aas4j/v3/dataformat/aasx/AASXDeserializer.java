@@ -15,17 +15,20 @@
  */
 package org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.commons.io.IOUtils;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.openxml4j.opc.PackagePart;
 import org.apache.poi.openxml4j.opc.PackageRelationshipCollection;
 import org.apache.poi.openxml4j.opc.PackagingURIHelper;
@@ -42,8 +45,14 @@
 /**
  * The AASX package converter converts a aasx package into a list of aas, a list of submodels a list
  * of assets, a list of Concept descriptions
+ *
+ * <p>When created for a {@link Path}, the package is accessed randomly: only the directory of the
+ * package and its relationships are read when opening it, the content of a part is inflated when it
+ * is requested. This allows to e.g. read the thumbnail or a single file of a large package without
+ * reading the whole package or deserializing its aas environment. Such instances hold the package
+ * file open and must be closed after use.
  */
-public class AASXDeserializer {
+public class AASXDeserializer implements Closeable {
   private static Logger logger = LoggerFactory.getLogger(AASXDeserializer.class);
 
   // In an older version of AAS4J/AASX Package Explorer,
@@ -59,7 +68,8 @@ public class AASXDeserializer {
   private final OPCPackage aasxRoot;
 
   /**
-   * Constructor that takes the aasx package for this deserializer
+   * Constructor that takes the aasx package for this deserializer, using the shared deserializers
+   * of {@link AasCodecs}
    *
    * @param inputStream an input stream to an aasx package that can be read with this instance
    * @throws InvalidFormatException if aasx package format is invalid
@@ -67,8 +77,8 @@ public class AASXDeserializer {
    */
   public AASXDeserializer(InputStream inputStream) throws InvalidFormatException, IOException {
     aasxRoot = OPCPackage.open(inputStream);
-    this.xmlDeserializer = new XmlDeserializer();
-    this.jsonDeserializer = new JsonDeserializer();
+    this.xmlDeserializer = AasCodecs.xmlDeserializer();
+    this.jsonDeserializer = AasCodecs.jsonDeserializer();
   }
 
   /**
@@ -83,7 +93,7 @@ public AASXDeserializer(XmlDeserializer xmlDeserializer, InputStream inputStream
       throws InvalidFormatException, IOException {
     aasxRoot = OPCPackage.open(inputStream);
     this.xmlDeserializer = xmlDeserializer;
-    this.jsonDeserializer = new JsonDeserializer();
+    this.jsonDeserializer = AasCodecs.jsonDeserializer();
   }
 
   /**
@@ -103,6 +113,34 @@ public AASXDeserializer(
     this.jsonDeserializer = jsonDeserializer;
   }
 
+  /**
+   * Constructor that opens the aasx package at the given path for random access, using the shared
+   * deserializers of {@link AasCodecs}
+   *
+   * @param file the path of an aasx package that can be read with this instance
+   * @throws InvalidFormatException if aasx package format is invalid
+   */
+  public AASXDeserializer(Path file) throws InvalidFormatException {
+    this(AasCodecs.xmlDeserializer(), AasCodecs.jsonDeserializer(), file);
+  }
+
+  /**
+   * Constructor for custom deserialization that opens the aasx package at the given path for random
+   * access
+   *
+   * @param xmlDeserializer a custom XML deserializer used for deserializing the aas environment
+   * @param jsonDeserializer a custom JSON deserializer used for deserializing the aas environment
+   * @param file the path of an aasx package that can be read with this instance
+   * @throws InvalidFormatException if aasx package format is invalid
+   */
+  public AASXDeserializer(
+      XmlDeserializer xmlDeserializer, JsonDeserializer jsonDeserializer, Path file)
+      throws InvalidFormatException {
+    aasxRoot = OPCPackage.open(file.toFile(), PackageAccess.READ);
+    this.xmlDeserializer = xmlDeserializer;
+    this.jsonDeserializer = jsonDeserializer;
+  }
+
   /**
    * Reads the AASX package that belongs to this deserializer
    *
@@ -116,11 +154,14 @@ public Environment read() throws InvalidFormatException, IOException, Deserializ
     if (environment != null) {
       return environment;
     }
-    if (MetamodelContentType.XML.equals(getContentType())) {
-      environment = xmlDeserializer.read(getResourceString(aasxRoot));
-    }
-    if (MetamodelContentType.JSON.equals(getContentType())) {
-      environment = jsonDeserializer.read(getResourceString(aasxRoot), Environment.class);
+    MetamodelContentType contentType = getContentType();
+    try (InputStream in = getPackagePart(aasxRoot).getInputStream()) {
+      if (MetamodelContentType.XML.equals(contentType)) {
+        environment = xmlDeserializer.read(in, DEFAULT_CHARSET);
+      }
+      if (MetamodelContentType.JSON.equals(contentType)) {
+        environment = jsonDeserializer.read(in, DEFAULT_CHARSET, Environment.class);
+      }
     }
     return environment;
   }
@@ -186,14 +227,37 @@ public String getResourceString() throws InvalidFormatException, IOException {
    */
   public List<InMemoryFile> getRelatedFiles()
       throws InvalidFormatException, IOException, DeserializationException {
+    List<InMemoryFile> files = new ArrayList<>();
+    for (AasxFileSource source : getRelatedFileSources()) {
+      try {
+        files.add(new InMemoryFile(source.readAllBytes(), source.getPath()));
+      } catch (Exception e) {
+        logger.warn("Loading file {} failed and will not be included.", source.getPath(), e);
+      }
+    }
+    return files;
+  }
+
+  /**
+   * Retrieves a list of related files from the deserialized aasx package without reading their
+   * content. The content of a file is only read when it is opened via {@link
+   * AasxFileSource#openStream()}, which is possible as long as this deserializer is in use.
+   *
+   * @return the list of files contained in the package
+   * @throws InvalidFormatException if aasx package format is invalid
+   * @throws IOException if creating input streams for aasx fails
+   * @throws DeserializationException if deserialization of the serialized aas environment fails
+   */
+  public List<AasxFileSource> getRelatedFileSources()
+      throws InvalidFormatException, IOException, DeserializationException {
     List<String> filePaths =
         parseReferencedFilePathsFromAASX().stream()
             .filter(AASXUtils::isFilePath)
             .collect(Collectors.toList());
-    List<InMemoryFile> files = new ArrayList<>();
+    List<AasxFileSource> files = new ArrayList<>();
     for (String filePath : filePaths) {
       try {
-        files.add(readFile(aasxRoot, filePath));
+        files.add(getFileSource(aasxRoot, filePath));
       } catch (Exception e) {
         logger.warn("Loading file {} failed and will not be included.", filePath, e);
       }
@@ -201,6 +265,48 @@ public List<InMemoryFile> getRelatedFiles()
     return files;
   }
 
+  /**
+   * Retrieves a single file from the aasx package without deserializing the aas environment. The
+   * content of the file is only read when it is opened via {@link AasxFileSource#openStream()}.
+   *
+   * @param path the path of the file as referenced in the aas environment
+   * @return the file
+   * @throws InvalidFormatException if the file is not contained in the aasx package
+   */
+  public AasxFileSource getRelatedFileSource(String path) throws InvalidFormatException {
+    return getFileSource(aasxRoot, path);
+  }
+
+  /**
+   * Retrieves the thumbnail of the aasx package without deserializing the aas environment. The
+   * content of the thumbnail is only read when it is opened via {@link
+   * AasxFileSource#openStream()}.
+   *
+   * @return the thumbnail or null if the package does not contain a thumbnail
+   * @throws InvalidFormatException if aasx package format is invalid
+   */
+  public AasxFileSource getThumbnail() throws InvalidFormatException {
+    PackageRelationshipCollection relationships =
+        aasxRoot.getRelationshipsByType(AASXSerializer.AAS_THUMBNAIL_RELTYPE);
+    if (relationships.size() == 0) {
+      return null;
+    }
+    PackagePart part = aasxRoot.getPart(relationships.getRelationship(0));
+    if (part == null) {
+      throw new InvalidFormatException("Thumbnail is not contained in .aasx");
+    }
+    return AasxFileSource.of(part.getPartName().getName(), part::getInputStream);
+  }
+
+  /**
+   * Closes the aasx package without modifying it. Files retrieved from this instance can not be
+   * read any more afterwards.
+   */
+  @Override
+  public void close() {
+    aasxRoot.revert();
+  }
+
   private PackagePart getPackagePart(OPCPackage aasxPackage)
       throws InvalidFormatException, IOException {
     PackagePart originPart = getOriginPart(aasxPackage);
@@ -292,12 +398,14 @@ public void visit(File file) {
     return paths.stream().distinct().collect(Collectors.toList());
   }
 
-  private InMemoryFile readFile(OPCPackage aasxRoot, String filePath)
-      throws InvalidFormatException, IOException {
+  private AasxFileSource getFileSource(OPCPackage aasxRoot, String filePath)
+      throws InvalidFormatException {
     PackagePart part =
         aasxRoot.getPart(
             PackagingURIHelper.createPartName(AASXUtils.removeFilePartOfURI(filePath)));
-    InputStream stream = part.getInputStream();
-    return new InMemoryFile(stream.readAllBytes(), filePath);
+    if (part == null) {
+      throw new InvalidFormatException("File '" + filePath + "' is not contained in .aasx");
+    }
+    return AasxFileSource.of(filePath, part::getInputStream);
   }
 }
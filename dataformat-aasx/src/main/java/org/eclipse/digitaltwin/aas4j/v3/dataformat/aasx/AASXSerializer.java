@@ -20,9 +20,13 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.openxml4j.opc.PackagePart;
@@ -32,6 +36,8 @@
 import org.apache.poi.openxml4j.opc.TargetMode;
 import org.apache.poi.openxml4j.opc.internal.MemoryPackagePart;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.internal.AASXUtils;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.internal.FileSourcePackagePart;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.internal.ParallelPartMarshaller;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.visitor.AssetAdministrationShellElementWalkerVisitor;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
@@ -72,11 +78,11 @@ public class AASXSerializer {
 
   private final XmlSerializer xmlSerializer;
   private final JsonSerializer jsonSerializer;
+  private final Executor executor;
 
-  /** Default constructor */
+  /** Default constructor using the shared serializers of {@link AasCodecs} */
   public AASXSerializer() {
-    this.xmlSerializer = new XmlSerializer();
-    this.jsonSerializer = new JsonSerializer();
+    this(AasCodecs.xmlSerializer(), AasCodecs.jsonSerializer());
   }
 
   /**
@@ -85,8 +91,7 @@ public AASXSerializer() {
    * @param xmlSerializer a custom serializer used for serializing the aas environment in XML
    */
   public AASXSerializer(XmlSerializer xmlSerializer) {
-    this.xmlSerializer = xmlSerializer;
-    this.jsonSerializer = new JsonSerializer();
+    this(xmlSerializer, AasCodecs.jsonSerializer());
   }
 
   /**
@@ -96,8 +101,23 @@ public AASXSerializer(XmlSerializer xmlSerializer) {
    * @param jsonSerializer a custom serializer used for serializing the aas environment in JSON
    */
   public AASXSerializer(XmlSerializer xmlSerializer, JsonSerializer jsonSerializer) {
+    this(xmlSerializer, jsonSerializer, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructor with custom serializers and a custom executor for compressing the related files.
+   * Related files are compressed in parallel on the executor while the package is written, use
+   * {@code Runnable::run} to compress them on the calling thread.
+   *
+   * @param xmlSerializer a custom serializer used for serializing the aas environment in XML
+   * @param jsonSerializer a custom serializer used for serializing the aas environment in JSON
+   * @param executor the executor used for compressing related files
+   */
+  public AASXSerializer(
+      XmlSerializer xmlSerializer, JsonSerializer jsonSerializer, Executor executor) {
     this.xmlSerializer = xmlSerializer;
     this.jsonSerializer = jsonSerializer;
+    this.executor = Objects.requireNonNull(executor, "executor must be non-null");
   }
 
   /**
@@ -106,12 +126,14 @@ public AASXSerializer(XmlSerializer xmlSerializer, JsonSerializer jsonSerializer
    *
    * @param environment the aas environment that will be included in the aasx package as an xml
    *     serialization
-   * @param files related inMemory files that belong to the given aas environment
+   * @param files related files that belong to the given aas environment, their content is only
+   *     opened while writing the package
    * @param os an output stream for writing the aasx package
    * @throws SerializationException if serializing the given elements fails
    * @throws IOException if creating output streams for aasx fails
    */
-  public void write(Environment environment, Collection<InMemoryFile> files, OutputStream os)
+  public void write(
+      Environment environment, Collection<? extends AasxFileSource> files, OutputStream os)
       throws SerializationException, IOException {
 
     write(environment, files, os, MetamodelContentType.XML);
@@ -122,7 +144,8 @@ public void write(Environment environment, Collection<InMemoryFile> files, Outpu
    *
    * @param environment the aas environment that will be included in the aasx package as an xml
    *     serialization
-   * @param files related inMemory files that belong to the given aas environment
+   * @param files related files that belong to the given aas environment, their content is only
+   *     opened while writing the package
    * @param os an output stream for writing the aasx package
    * @param contentType the content type for the metamodel serialization
    * @throws SerializationException if serializing the given elements fails
@@ -130,10 +153,22 @@ public void write(Environment environment, Collection<InMemoryFile> files, Outpu
    */
   public void write(
       Environment environment,
-      Collection<InMemoryFile> files,
+      Collection<? extends AasxFileSource> files,
       OutputStream os,
       MetamodelContentType contentType)
       throws SerializationException, IOException {
+    try (ParallelPartMarshaller marshaller = new ParallelPartMarshaller(executor)) {
+      write(environment, indexByPath(files), os, contentType, marshaller);
+    }
+  }
+
+  private void write(
+      Environment environment,
+      Map<String, AasxFileSource> files,
+      OutputStream os,
+      MetamodelContentType contentType,
+      ParallelPartMarshaller marshaller)
+      throws SerializationException, IOException {
 
     OPCPackage rootPackage = OPCPackage.create(os);
 
@@ -194,8 +229,9 @@ public void write(
                     rootPackage,
                     rootPackage,
                     aas.getAssetInformation().getDefaultThumbnail().getContentType(),
-                    AAS_THUMBNAIL_RELTYPE));
-    storeFilesInAASX(environment, files, rootPackage, packagePart);
+                    AAS_THUMBNAIL_RELTYPE,
+                    marshaller));
+    storeFilesInAASX(environment, files, rootPackage, packagePart, marshaller);
 
     saveAASX(os, rootPackage);
   }
@@ -207,12 +243,14 @@ public void write(
    * @param files the content of the files
    * @param rootPackage the OPCPackage
    * @param xmlPart the Part the files should be related to
+   * @param marshaller the marshaller compressing the files
    */
   private void storeFilesInAASX(
       Environment environment,
-      Collection<InMemoryFile> files,
+      Map<String, AasxFileSource> files,
       OPCPackage rootPackage,
-      PackagePart xmlPart) {
+      PackagePart xmlPart,
+      ParallelPartMarshaller marshaller) {
     findFileElements(environment)
         .forEach(
             file ->
@@ -222,26 +260,29 @@ private void storeFilesInAASX(
                     rootPackage,
                     xmlPart,
                     file.getContentType(),
-                    AASSUPPL_RELTYPE));
+                    AASSUPPL_RELTYPE,
+                    marshaller));
   }
 
   /**
    * Adds a part to the .aasx file with the given file, filePath and contentType
    *
-   * @param files the content of the files
+   * @param files the content of the files by their path
    * @param filePath the path of the file
    * @param rootPackage the OPCPackage
    * @param xmlPart the Part the files should be related to
    * @param contentType the contentType of the file
    * @param relType the relationship type
+   * @param marshaller the marshaller compressing the file
    */
   private void createParts(
-      Collection<InMemoryFile> files,
+      Map<String, AasxFileSource> files,
       String filePath,
       OPCPackage rootPackage,
       RelationshipSource xmlPart,
       String contentType,
-      String relType) {
+      String relType,
+      ParallelPartMarshaller marshaller) {
     boolean exists = false;
     try {
       PackagePart part = rootPackage.getPart(PackagingURIHelper.createPartName(filePath));
@@ -258,14 +299,15 @@ private void createParts(
     }
     if (!exists) {
       try {
-        InMemoryFile content = findFileByPath(files, filePath);
+        AasxFileSource content = findFileByPath(files, filePath);
         logger.trace("Writing file '{}' to .aasx.", filePath);
-        createAASXPart(
-            rootPackage, xmlPart, filePath, contentType, relType, content.getFileContent());
+        FileSourcePackagePart part =
+            createAASXPart(rootPackage, xmlPart, filePath, contentType, relType, content);
+        rootPackage.addMarshaller(contentType, marshaller);
+        marshaller.prepare(part);
       } catch (RuntimeException e) {
         // Log that a file is missing and continue building the .aasx
-        logger.warn(
-            "Could not add File '{}'. It was not contained in given InMemoryFiles.", filePath, e);
+        logger.warn("Could not add File '{}'. It was not contained in given files.", filePath, e);
       }
     }
   }
@@ -310,21 +352,68 @@ private PackagePart createAASXPart(
       String mimeType,
       String relType,
       byte[] content) {
+    PackagePart part =
+        registerAASXPart(
+            root,
+            relateTo,
+            path,
+            mimeType,
+            relType,
+            partName -> new MemoryPackagePart(root, partName, mimeType));
+    writeDataToPart(part, content);
+    return part;
+  }
+
+  /**
+   * Creates a Part (a file in the .aasx) of the .aasx whose content is streamed from the given
+   * source when the package is saved and adds it to the Package
+   *
+   * @param root the OPCPackage
+   * @param relateTo the Part of the OPC the relationship of the new Part should be added to
+   * @param path the path inside the .aasx where the new Part should be created
+   * @param mimeType the mime-type of the file
+   * @param relType the type of the Relationship
+   * @param content the source of the data the new part should contain
+   * @return the created PackagePart
+   */
+  private FileSourcePackagePart createAASXPart(
+      OPCPackage root,
+      RelationshipSource relateTo,
+      String path,
+      String mimeType,
+      String relType,
+      AasxFileSource content) {
+    return (FileSourcePackagePart)
+        registerAASXPart(
+            root,
+            relateTo,
+            path,
+            mimeType,
+            relType,
+            partName -> new FileSourcePackagePart(root, partName, mimeType, content));
+  }
+
+  private PackagePart registerAASXPart(
+      OPCPackage root,
+      RelationshipSource relateTo,
+      String path,
+      String mimeType,
+      String relType,
+      PartFactory factory) {
     if (mimeType == null || mimeType.equals("")) {
       throw new RuntimeException(
           "Could not create AASX Part '" + path + "'. No MIME_TYPE specified.");
     }
 
     PackagePartName partName = null;
-    MemoryPackagePart part = null;
+    PackagePart part = null;
     try {
       partName = PackagingURIHelper.createPartName(path);
-      part = new MemoryPackagePart(root, partName, mimeType);
+      part = factory.create(partName);
     } catch (InvalidFormatException e) {
       // This occurs if the given MIME-Type is not valid according to RFC2046
       throw new RuntimeException("Could not create AASX Part '" + path + "'", e);
     }
-    writeDataToPart(part, content);
     root.registerPartAndContentType(part);
     relateTo.addRelationship(partName, TargetMode.INTERNAL, relType, createUniqueID());
     return part;
@@ -366,18 +455,42 @@ public void visit(File file) {
   }
 
   /**
-   * Finds an InMemoryFile by its path
+   * Indexes the given files by their path within the package. If multiple files share the same
+   * path, the first one is used.
    *
-   * @param files the InMemoryFiles
-   * @param path the path of the wanted file
-   * @return the InMemoryFile if it was found; else null
+   * @param files the files, may be null
+   * @return the files by their path
    */
-  private InMemoryFile findFileByPath(Collection<InMemoryFile> files, String path) {
-    for (InMemoryFile file : files) {
-      if (AASXUtils.removeFilePartOfURI(file.getPath()).equals(path)) {
-        return file;
+  private static Map<String, AasxFileSource> indexByPath(
+      Collection<? extends AasxFileSource> files) {
+    Map<String, AasxFileSource> result = new HashMap<>();
+    if (files != null) {
+      for (AasxFileSource file : files) {
+        result.putIfAbsent(AASXUtils.removeFilePartOfURI(file.getPath()), file);
       }
     }
-    throw new RuntimeException("The wanted file '" + path + "' was not found in the given files.");
+    return result;
+  }
+
+  /**
+   * Finds a file by its path
+   *
+   * @param files the files by their path
+   * @param path the path of the wanted file
+   * @return the file if it was found
+   * @throws RuntimeException if no file with the given path exists
+   */
+  private AasxFileSource findFileByPath(Map<String, AasxFileSource> files, String path) {
+    AasxFileSource file = files.get(path);
+    if (file == null) {
+      throw new RuntimeException(
+          "The wanted file '" + path + "' was not found in the given files.");
+    }
+    return file;
+  }
+
+  @FunctionalInterface
+  private interface PartFactory {
+    PackagePart create(PackagePartName partName) throws InvalidFormatException;
   }
 }
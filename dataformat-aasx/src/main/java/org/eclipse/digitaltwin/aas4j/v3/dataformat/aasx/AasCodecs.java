@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
+
+/**
+ * Registry of shared serializers and deserializers with default configuration, one per format.
+ * Building the underlying mappers is expensive, so {@link AASXSerializer} and {@link
+ * AASXDeserializer} use these instances unless custom ones are passed to their constructors.
+ *
+ * <p>Each instance is created and warmed up on first access and then shared for the lifetime of the
+ * class loader. All instances are safe to use from multiple threads concurrently. As reconfiguring
+ * them would affect all users, the deserializers are locked and reject {@link
+ * JsonDeserializer#useImplementation(Class, Class)} with an {@link IllegalStateException}; create a
+ * dedicated instance via the respective builder instead.
+ */
+public final class AasCodecs {
+
+  private AasCodecs() {}
+
+  /**
+   * Returns the shared JSON serializer
+   *
+   * @return the serializer
+   */
+  public static JsonSerializer jsonSerializer() {
+    return JsonSerializerHolder.INSTANCE;
+  }
+
+  /**
+   * Returns the shared JSON deserializer
+   *
+   * @return the deserializer
+   */
+  public static JsonDeserializer jsonDeserializer() {
+    return JsonDeserializerHolder.INSTANCE;
+  }
+
+  /**
+   * Returns the shared XML serializer
+   *
+   * @return the serializer
+   */
+  public static XmlSerializer xmlSerializer() {
+    return XmlSerializerHolder.INSTANCE;
+  }
+
+  /**
+   * Returns the shared XML deserializer
+   *
+   * @return the deserializer
+   */
+  public static XmlDeserializer xmlDeserializer() {
+    return XmlDeserializerHolder.INSTANCE;
+  }
+
+  // the holders are initialized by the JVM on first access, which is thread-safe without locking
+
+  private static class JsonSerializerHolder {
+    private static final JsonSerializer INSTANCE = new JsonSerializer();
+
+    static {
+      try {
+        INSTANCE.write(new DefaultEnvironment());
+      } catch (SerializationException e) {
+        throw new IllegalStateException("error initializing JSON serializer", e);
+      }
+    }
+  }
+
+  private static class JsonDeserializerHolder {
+    private static final JsonDeserializer INSTANCE = JsonDeserializer.builder().locked().build();
+  }
+
+  private static class XmlSerializerHolder {
+    private static final XmlSerializer INSTANCE = new XmlSerializer();
+
+    static {
+      try {
+        INSTANCE.write(new DefaultEnvironment());
+      } catch (SerializationException e) {
+        throw new IllegalStateException("error initializing XML serializer", e);
+      }
+    }
+  }
+
+  private static class XmlDeserializerHolder {
+    private static final XmlDeserializer INSTANCE = XmlDeserializer.builder().locked().build();
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Source of a supplementary file of an AASX package together with its path inside the package.
+ *
+ * <p>In contrast to {@link InMemoryFile} the content is not held in memory but opened on demand
+ * each time {@link #openStream()} is called. This allows writing and reading packages with large
+ * attachments without loading them into the heap. Sources returned by {@link
+ * AASXDeserializer#getRelatedFileSources()} are only valid as long as the underlying package is
+ * open.
+ */
+public abstract class AasxFileSource {
+
+  /** Supplier of a new input stream on the content of a file */
+  @FunctionalInterface
+  public interface StreamSupplier {
+    InputStream get() throws IOException;
+  }
+
+  /** Supplier of a new channel on the content of a file */
+  @FunctionalInterface
+  public interface ChannelSupplier {
+    SeekableByteChannel get() throws IOException;
+  }
+
+  private final String path;
+
+  protected AasxFileSource(String path) {
+    this.path = path;
+  }
+
+  /**
+   * Creates a source that reads the content from a file in the file system
+   *
+   * @param path the path of the file inside the AASX package
+   * @param file the file to read the content from
+   * @return the source
+   */
+  public static AasxFileSource of(String path, Path file) {
+    Objects.requireNonNull(file, "file must be non-null");
+    return new AasxFileSource(path) {
+      @Override
+      public InputStream openStream() throws IOException {
+        return Files.newInputStream(file);
+      }
+
+      @Override
+      public long getSize() {
+        try {
+          return Files.size(file);
+        } catch (IOException e) {
+          return -1;
+        }
+      }
+    };
+  }
+
+  /**
+   * Creates a source that reads the content from a stream supplied on demand
+   *
+   * @param path the path of the file inside the AASX package
+   * @param supplier the supplier that is called each time the content is opened
+   * @return the source
+   */
+  public static AasxFileSource of(String path, StreamSupplier supplier) {
+    Objects.requireNonNull(supplier, "supplier must be non-null");
+    return new AasxFileSource(path) {
+      @Override
+      public InputStream openStream() throws IOException {
+        return supplier.get();
+      }
+    };
+  }
+
+  /**
+   * Creates a source that reads the content from a channel supplied on demand
+   *
+   * @param path the path of the file inside the AASX package
+   * @param supplier the supplier that is called each time the content is opened
+   * @return the source
+   */
+  public static AasxFileSource ofChannel(String path, ChannelSupplier supplier) {
+    Objects.requireNonNull(supplier, "supplier must be non-null");
+    return new AasxFileSource(path) {
+      @Override
+      public InputStream openStream() throws IOException {
+        return Channels.newInputStream(supplier.get());
+      }
+    };
+  }
+
+  /**
+   * Creates a source for content that is already available in memory
+   *
+   * @param path the path of the file inside the AASX package
+   * @param content the content of the file
+   * @return the source
+   */
+  public static AasxFileSource of(String path, byte[] content) {
+    return new InMemoryFile(content, path);
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Opens a new stream on the content of the file. The caller is responsible for closing the
+   * stream.
+   *
+   * @return a new input stream on the content
+   * @throws IOException if the content cannot be opened
+   */
+  public abstract InputStream openStream() throws IOException;
+
+  /**
+   * Returns the size of the content in bytes if known without reading the content
+   *
+   * @return the size in bytes or -1 if unknown
+   */
+  public long getSize() {
+    return -1;
+  }
+
+  /**
+   * Reads the complete content of the file into memory
+   *
+   * @return the content
+   * @throws IOException if reading the content fails
+   */
+  public byte[] readAllBytes() throws IOException {
+    try (InputStream stream = openStream()) {
+      return stream.readAllBytes();
+    }
+  }
+
+  static InputStream openBytes(byte[] content) {
+    return new ByteArrayInputStream(content == null ? new byte[0] : content);
+  }
+}
@@ -15,13 +15,13 @@
  */
 package org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx;
 
+import java.io.InputStream;
 import java.util.Arrays;
 
 /** Container class for the content of a File and its Path */
-public class InMemoryFile {
+public class InMemoryFile extends AasxFileSource {
 
   private byte[] fileContent;
-  private String path;
 
   /**
    * Constructor for directly setting the InMemoryFile contents
@@ -30,21 +30,36 @@ public class InMemoryFile {
    * @param path relative or absolute path of the represented file
    */
   public InMemoryFile(byte[] fileContent, String path) {
+    super(path);
     this.fileContent = fileContent;
-    this.path = path;
   }
 
   public byte[] getFileContent() {
     return fileContent;
   }
 
-  public String getPath() {
-    return path;
+  @Override
+  public InputStream openStream() {
+    return openBytes(fileContent);
+  }
+
+  @Override
+  public long getSize() {
+    return fileContent == null ? 0 : fileContent.length;
+  }
+
+  @Override
+  public byte[] readAllBytes() {
+    return fileContent;
   }
 
   @Override
   public String toString() {
-    return "InMemoryFile [fileContent=" + Arrays.toString(fileContent) + ", path=" + path + "]";
+    return "InMemoryFile [fileContent="
+        + Arrays.toString(fileContent)
+        + ", path="
+        + getPath()
+        + "]";
   }
 
   @Override
@@ -52,7 +67,7 @@ public int hashCode() {
     final int prime = 31;
     int result = 1;
     result = prime * result + Arrays.hashCode(fileContent);
-    result = prime * result + ((path == null) ? 0 : path.hashCode());
+    result = prime * result + ((getPath() == null) ? 0 : getPath().hashCode());
     return result;
   }
 
@@ -63,9 +78,9 @@ public boolean equals(Object obj) {
     if (getClass() != obj.getClass()) return false;
     InMemoryFile other = (InMemoryFile) obj;
     if (!Arrays.equals(fileContent, other.fileContent)) return false;
-    if (path == null) {
-      if (other.path != null) return false;
-    } else if (!path.equals(other.path)) return false;
+    if (getPath() == null) {
+      if (other.getPath() != null) return false;
+    } else if (!getPath().equals(other.getPath())) return false;
     return true;
   }
 }
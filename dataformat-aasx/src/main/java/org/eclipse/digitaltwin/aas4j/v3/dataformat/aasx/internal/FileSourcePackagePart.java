@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.InvalidOperationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackagePartName;
+import org.apache.poi.openxml4j.opc.internal.marshallers.ZipPartMarshaller;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AasxFileSource;
+
+/**
+ * Read-only package part whose content is provided by an {@link AasxFileSource}. The content is
+ * only opened when the package is saved and is streamed directly into the resulting archive.
+ */
+public class FileSourcePackagePart extends PackagePart {
+
+  private final AasxFileSource source;
+
+  public FileSourcePackagePart(
+      OPCPackage pack, PackagePartName partName, String contentType, AasxFileSource source)
+      throws InvalidFormatException {
+    super(pack, partName, contentType);
+    this.source = source;
+  }
+
+  @Override
+  protected InputStream getInputStreamImpl() throws IOException {
+    return source.openStream();
+  }
+
+  @Override
+  protected OutputStream getOutputStreamImpl() {
+    throw new InvalidOperationException(
+        "Part '" + getPartName().getName() + "' is backed by a file source and cannot be written");
+  }
+
+  @Override
+  public long getSize() {
+    return source.getSize();
+  }
+
+  @Override
+  public boolean save(OutputStream os) throws OpenXML4JException {
+    return new ZipPartMarshaller().marshall(this, os);
+  }
+
+  @Override
+  public boolean load(InputStream ios) {
+    throw new InvalidOperationException("Method not implemented");
+  }
+
+  @Override
+  public void close() {
+    // nothing to do, streams are opened and closed on demand
+  }
+
+  @Override
+  public void flush() {
+    // nothing to do, streams are opened and closed on demand
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.ZipEntry;
+import org.apache.commons.compress.archivers.zip.ScatterZipOutputStream;
+import org.apache.commons.compress.archivers.zip.StreamCompressor;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntryRequest;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.parallel.ScatterGatherBackingStore;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackagePartName;
+import org.apache.poi.openxml4j.opc.internal.PartMarshaller;
+import org.apache.poi.openxml4j.opc.internal.ZipHelper;
+import org.apache.poi.openxml4j.opc.internal.marshallers.ZipPartMarshaller;
+
+/**
+ * Part marshaller that compresses the content of {@link FileSourcePackagePart}s on an executor
+ * ahead of saving the package, so that multiple parts are compressed in parallel while the package
+ * is written sequentially. Content that is compressed already, e.g. JPEG or PNG images, archives or
+ * PDF documents, is stored without compressing it again. All other parts are delegated to the
+ * default marshaller of POI.
+ */
+public class ParallelPartMarshaller implements PartMarshaller, Closeable {
+
+  private static final long IN_MEMORY_THRESHOLD = 4L * 1024 * 1024;
+
+  private static final Set<String> PRECOMPRESSED_CONTENT_TYPES =
+      Set.of(
+          "image/jpeg",
+          "image/jpg",
+          "image/png",
+          "image/gif",
+          "image/webp",
+          "application/zip",
+          "application/gzip",
+          "application/x-7z-compressed",
+          "application/pdf");
+
+  private static final Set<String> PRECOMPRESSED_EXTENSIONS =
+      Set.of(
+          "jpg", "jpeg", "png", "gif", "webp", "zip", "gz", "7z", "pdf", "aasx", "docx", "xlsx",
+          "pptx");
+
+  private final Executor executor;
+  private final Map<PackagePartName, CompletableFuture<ScatterZipOutputStream>> entries =
+      new HashMap<>();
+  private final PartMarshaller defaultMarshaller = new ZipPartMarshaller();
+
+  /**
+   * Creates a new marshaller
+   *
+   * @param executor the executor used for compressing parts
+   */
+  public ParallelPartMarshaller(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Starts compressing the content of the given part on the executor
+   *
+   * @param part the part to compress
+   */
+  public void prepare(FileSourcePackagePart part) {
+    entries.put(part.getPartName(), CompletableFuture.supplyAsync(() -> compress(part), executor));
+  }
+
+  @Override
+  public boolean marshall(PackagePart part, OutputStream os) throws OpenXML4JException {
+    CompletableFuture<ScatterZipOutputStream> entry = entries.remove(part.getPartName());
+    if (entry == null || !(os instanceof ZipArchiveOutputStream)) {
+      close(entry);
+      return defaultMarshaller.marshall(part, os);
+    }
+    ZipArchiveOutputStream zos = (ZipArchiveOutputStream) os;
+    try (ScatterZipOutputStream compressed = entry.join()) {
+      compressed.writeTo(zos);
+    } catch (CompletionException | IOException e) {
+      OpenXML4JException exception =
+          new OpenXML4JException(
+              "Failed to write content of AASX Part '" + part.getPartName().getName() + "'");
+      exception.initCause(e instanceof CompletionException ? e.getCause() : e);
+      throw exception;
+    }
+    if (part.hasRelationships()) {
+      return ZipPartMarshaller.marshallRelationshipPart(
+          part.getRelationships(), part.getPartName(), zos);
+    }
+    return true;
+  }
+
+  /** Releases the resources of all parts that have been prepared but not written. */
+  @Override
+  public void close() {
+    entries.values().forEach(ParallelPartMarshaller::close);
+    entries.clear();
+  }
+
+  /**
+   * Checks whether content is compressed already and should therefore be stored as it is
+   *
+   * @param contentType the content type of the content
+   * @param path the path of the content
+   * @return true if the content is compressed already
+   */
+  static boolean isPrecompressed(String contentType, String path) {
+    if (contentType != null
+        && PRECOMPRESSED_CONTENT_TYPES.contains(contentType.toLowerCase(Locale.ROOT))) {
+      return true;
+    }
+    int index = path == null ? -1 : path.lastIndexOf('.');
+    return index >= 0
+        && PRECOMPRESSED_EXTENSIONS.contains(path.substring(index + 1).toLowerCase(Locale.ROOT));
+  }
+
+  private static ScatterZipOutputStream compress(FileSourcePackagePart part) {
+    String name = ZipHelper.getZipItemNameFromOPCName(part.getPartName().getURI().toString());
+    ZipArchiveEntry entry = new ZipArchiveEntry(name);
+    ZipHelper.adjustEntryTime(entry);
+    entry.setMethod(
+        isPrecompressed(part.getContentType(), name) ? ZipEntry.STORED : ZipEntry.DEFLATED);
+    ScatterZipOutputStream result = null;
+    try {
+      result = createScatterStream(part.getSize());
+      result.addArchiveEntry(
+          ZipArchiveEntryRequest.createZipArchiveEntryRequest(entry, () -> open(part)));
+      return result;
+    } catch (IOException e) {
+      closeQuietly(result);
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      closeQuietly(result);
+      throw e;
+    }
+  }
+
+  private static ScatterZipOutputStream createScatterStream(long size) throws IOException {
+    if (size >= 0 && size <= IN_MEMORY_THRESHOLD) {
+      ScatterGatherBackingStore store = new InMemoryBackingStore();
+      return new ScatterZipOutputStream(store, StreamCompressor.create(store));
+    }
+    // the file based backing store deletes the file once the stream is closed
+    Path file = Files.createTempFile("aasx-part", ".tmp");
+    try {
+      return ScatterZipOutputStream.fileBased(file.toFile());
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+  }
+
+  private static InputStream open(PackagePart part) {
+    try {
+      return part.getInputStream();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void close(CompletableFuture<ScatterZipOutputStream> entry) {
+    if (entry != null) {
+      entry.thenAccept(ParallelPartMarshaller::closeQuietly);
+    }
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    if (closeable == null) {
+      return;
+    }
+    try {
+      closeable.close();
+    } catch (IOException e) {
+      // ignore
+    }
+  }
+
+  private static class InMemoryBackingStore implements ScatterGatherBackingStore {
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    @Override
+    public InputStream getInputStream() {
+      return new ByteArrayInputStream(buffer.toByteArray());
+    }
+
+    @Override
+    public void writeOut(byte[] data, int offset, int length) {
+      buffer.write(data, offset, length);
+    }
+
+    @Override
+    public void closeForWriting() {
+      // nothing to do
+    }
+
+    @Override
+    public void close() {
+      // nothing to do
+    }
+  }
+}
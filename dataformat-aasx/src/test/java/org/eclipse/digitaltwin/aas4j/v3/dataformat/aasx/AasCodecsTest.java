@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.AASFull;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.AASSimple;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.junit.Test;
+
+public class AasCodecsTest {
+
+  private static final int THREADS = 8;
+  private static final int ITERATIONS = 5;
+
+  @Test
+  public void whenAccessedConcurrently_returnsSameInstances() throws Exception {
+    List<Object[]> results =
+        runConcurrently(
+            () ->
+                new Object[] {
+                  AasCodecs.jsonSerializer(),
+                  AasCodecs.jsonDeserializer(),
+                  AasCodecs.xmlSerializer(),
+                  AasCodecs.xmlDeserializer()
+                });
+    for (Object[] result : results) {
+      for (int i = 0; i < result.length; i++) {
+        assertSame(results.get(0)[i], result[i]);
+      }
+    }
+  }
+
+  @Test
+  public void whenUsedConcurrently_roundTripsJsonAndXml() throws Exception {
+    Environment expected = AASFull.createEnvironment();
+    String json = AasCodecs.jsonSerializer().write(expected);
+    String xml = AasCodecs.xmlSerializer().write(expected);
+    JsonDeserializer jsonDeserializer = AasCodecs.jsonDeserializer();
+    XmlDeserializer xmlDeserializer = AasCodecs.xmlDeserializer();
+    runConcurrently(
+        () -> {
+          for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(json, AasCodecs.jsonSerializer().write(expected));
+            assertEquals(xml, AasCodecs.xmlSerializer().write(expected));
+            assertEquals(expected, jsonDeserializer.read(json, Environment.class));
+            assertEquals(expected, xmlDeserializer.read(xml));
+          }
+          return null;
+        });
+  }
+
+  @Test
+  public void whenAasxUsedConcurrently_roundTrips() throws Exception {
+    Environment expected = AASSimple.createEnvironment();
+    runConcurrently(
+        () -> {
+          for (int i = 0; i < ITERATIONS; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            new AASXSerializer().write(expected, List.of(), out);
+            try (AASXDeserializer deserializer =
+                new AASXDeserializer(new ByteArrayInputStream(out.toByteArray()))) {
+              assertEquals(expected, deserializer.read());
+            }
+          }
+          return null;
+        });
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void whenJsonDeserializerReconfigured_throws() {
+    AasCodecs.jsonDeserializer().useImplementation(Submodel.class, CustomSubmodel.class);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void whenXmlDeserializerReconfigured_throws() {
+    AasCodecs.xmlDeserializer().useImplementation(Submodel.class, CustomSubmodel.class);
+  }
+
+  /** Runs the task on multiple threads that are released at once and returns their results. */
+  private static <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<T>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return task.call();
+                }));
+      }
+      start.countDown();
+      List<T> results = new ArrayList<>();
+      for (Future<T> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static class CustomSubmodel extends DefaultSubmodel {}
+}
@@ -15,22 +15,30 @@
  */
 package org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.deserialization;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import javax.xml.parsers.ParserConfigurationException;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AASXDeserializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AASXSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AasxFileSource;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.InMemoryFile;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.MetamodelContentType;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.AASSimple;
@@ -97,6 +105,80 @@ public void roundTrip()
     assertTrue(CollectionUtils.isEqualCollection(fileList, deserializer.getRelatedFiles()));
   }
 
+  @Test
+  public void roundTripWithFileSources() throws Exception {
+    byte[] operationManualContent = {0, 1, 2, 3, 4};
+    byte[] thumbnail = {5, 6, 7, 8, 9};
+    java.io.File operationManual = tempFolder.newFile("OperatingManual.pdf");
+    Files.write(operationManual.toPath(), operationManualContent);
+    AtomicInteger thumbnailOpened = new AtomicInteger();
+    List<AasxFileSource> sources =
+        List.of(
+            AasxFileSource.of("file:///aasx/OperatingManual.pdf", operationManual.toPath()),
+            AasxFileSource.of(
+                "file:///master/verwaltungsschale-detail-part1.png",
+                () -> {
+                  thumbnailOpened.incrementAndGet();
+                  return new ByteArrayInputStream(thumbnail);
+                }));
+
+    java.io.File file = tempFolder.newFile("output-sources.aasx");
+    try (OutputStream out = new FileOutputStream(file)) {
+      new AASXSerializer().write(AASSimple.createEnvironment(), sources, out);
+    }
+    assertEquals(1, thumbnailOpened.get());
+
+    try (InputStream in = new FileInputStream(file)) {
+      AASXDeserializer deserializer = new AASXDeserializer(in);
+      Map<String, AasxFileSource> related =
+          deserializer.getRelatedFileSources().stream()
+              .collect(Collectors.toMap(AasxFileSource::getPath, x -> x));
+      assertEquals(2, related.size());
+      assertArrayEquals(
+          operationManualContent, related.get("file:///aasx/OperatingManual.pdf").readAllBytes());
+      assertArrayEquals(
+          thumbnail,
+          related.get("file:///master/verwaltungsschale-detail-part1.png").readAllBytes());
+    }
+  }
+
+  @Test
+  public void randomAccessFromPath() throws Exception {
+    byte[] operationManualContent = {0, 1, 2, 3, 4};
+    byte[] thumbnail = {5, 6, 7, 8, 9};
+    List<InMemoryFile> fileList =
+        List.of(
+            new InMemoryFile(operationManualContent, "file:///aasx/OperatingManual.pdf"),
+            new InMemoryFile(thumbnail, "file:///master/verwaltungsschale-detail-part1.png"));
+    java.io.File file = tempFolder.newFile("output-random-access.aasx");
+    try (OutputStream out = new FileOutputStream(file)) {
+      new AASXSerializer().write(AASSimple.createEnvironment(), fileList, out);
+    }
+
+    try (AASXDeserializer deserializer = new AASXDeserializer(file.toPath())) {
+      AasxFileSource thumbnailSource = deserializer.getThumbnail();
+      assertEquals("/master/verwaltungsschale-detail-part1.png", thumbnailSource.getPath());
+      assertArrayEquals(thumbnail, thumbnailSource.readAllBytes());
+      assertArrayEquals(
+          operationManualContent,
+          deserializer.getRelatedFileSource("file:///aasx/OperatingManual.pdf").readAllBytes());
+      assertTrue(deserializer.getResourceString().contains("environment"));
+      assertEquals(AASSimple.createEnvironment(), deserializer.read());
+      assertTrue(CollectionUtils.isEqualCollection(fileList, deserializer.getRelatedFiles()));
+    }
+  }
+
+  @Test(expected = InvalidFormatException.class)
+  public void randomAccessFromPathWithUnknownFile() throws Exception {
+    java.io.File file = tempFolder.newFile("output-unknown-file.aasx");
+    try (OutputStream out = new FileOutputStream(file)) {
+      new AASXSerializer().write(AASSimple.createEnvironment(), List.of(), out);
+    }
+    try (AASXDeserializer deserializer = new AASXDeserializer(file.toPath())) {
+      deserializer.getRelatedFileSource("file:///aasx/OperatingManual.pdf");
+    }
+  }
+
   @Test
   public void relatedFilesAreOnlyResolvedIfWithinAASX()
       throws IOException, SerializationException, InvalidFormatException, DeserializationException {
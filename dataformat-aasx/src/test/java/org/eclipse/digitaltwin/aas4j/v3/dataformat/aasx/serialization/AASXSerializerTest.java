@@ -24,11 +24,15 @@
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiConsumer;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -40,6 +44,8 @@
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.AASFull;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.AASSimple;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlSerializer;
 import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
@@ -145,6 +151,55 @@ public void testSharedExternalFiles() throws Exception {
     assertEquals(files, deserializer.getRelatedFiles());
   }
 
+  @Test
+  public void testParallelWriteStoresPrecompressedFiles() throws Exception {
+    String submodelId = "http://example.org/submodel/1";
+    String pathImage = "/image.jpg";
+    String pathText = "/notes.txt";
+    byte[] contentImage = new byte[64 * 1024];
+    byte[] contentText = new byte[64 * 1024];
+    Arrays.fill(contentText, (byte) 'a');
+    Environment environment =
+        new DefaultEnvironment.Builder()
+            .submodels(
+                new DefaultSubmodel.Builder()
+                    .id(submodelId)
+                    .submodelElements(
+                        new DefaultFile.Builder()
+                            .idShort("image")
+                            .value(pathImage)
+                            .contentType("image/jpeg")
+                            .build())
+                    .submodelElements(
+                        new DefaultFile.Builder()
+                            .idShort("notes")
+                            .value(pathText)
+                            .contentType("text/plain")
+                            .build())
+                    .build())
+            .build();
+    List<InMemoryFile> files =
+        List.of(new InMemoryFile(contentImage, pathImage), new InMemoryFile(contentText, pathText));
+    java.io.File file = tempFolder.newFile("parallel.aasx");
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try (FileOutputStream out = new FileOutputStream(file)) {
+      new AASXSerializer(new XmlSerializer(), new JsonSerializer(), executor)
+          .write(environment, files, out, MetamodelContentType.XML);
+    } finally {
+      executor.shutdown();
+    }
+
+    try (ZipFile zip = new ZipFile(file)) {
+      assertEquals(ZipEntry.STORED, zip.getEntry("image.jpg").getMethod());
+      assertEquals(ZipEntry.DEFLATED, zip.getEntry("notes.txt").getMethod());
+    }
+    try (FileInputStream in = new FileInputStream(file)) {
+      AASXDeserializer deserializer = new AASXDeserializer(in);
+      assertEquals(environment, deserializer.read());
+      assertEquals(new HashSet<>(files), new HashSet<>(deserializer.getRelatedFiles()));
+    }
+  }
+
   @Test
   public void testBuildAASXFull()
       throws IOException,
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.BinaryValueStore;
+
+/**
+ * Deserializes Base64 encoded binary values. The encoded text is decoded while it is read from the
+ * parser, so that parsers supporting it (e.g. for JSON) do not need to buffer the whole encoded
+ * string. Other parsers provide the value decoded at once. If a {@link BinaryValueStore} is
+ * configured, the decoded content is handed to the store instead of being collected in memory.
+ */
+public class Base64Deserializer extends JsonDeserializer<byte[]> {
+
+  private final BinaryValueStore store;
+
+  public Base64Deserializer() {
+    this(null);
+  }
+
+  /**
+   * Constructor for a deserializer handing all values to the given store
+   *
+   * @param store the store or null if values should be kept in memory
+   */
+  public Base64Deserializer(BinaryValueStore store) {
+    this.store = store;
+  }
+
+  @Override
+  public byte[] deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+      Object value = parser.getEmbeddedObject();
+      if (value == null || value instanceof byte[]) {
+        return (byte[]) value;
+      }
+    }
+    if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_EMBEDDED_OBJECT) {
+      return (byte[]) ctxt.handleUnexpectedToken(byte[].class, parser);
+    }
+    if (store != null) {
+      return store.store(out -> readBinaryValue(parser, ctxt, out));
+    }
+    try (ByteArrayBuilder builder = new ByteArrayBuilder()) {
+      readBinaryValue(parser, ctxt, builder);
+      return builder.toByteArray();
+    }
+  }
+
+  private static void readBinaryValue(
+      JsonParser parser, DeserializationContext ctxt, OutputStream out) throws IOException {
+    try {
+      parser.readBinaryValue(ctxt.getBase64Variant(), out);
+    } catch (UnsupportedOperationException e) {
+      // parsers not supporting incremental decoding, e.g. for XML, only provide the whole value
+      out.write(parser.getBinaryValue(ctxt.getBase64Variant()));
+    }
+  }
+
+  @Override
+  public Class<?> handledType() {
+    return byte[].class;
+  }
+}
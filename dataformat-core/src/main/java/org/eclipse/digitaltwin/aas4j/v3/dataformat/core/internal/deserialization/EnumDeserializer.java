@@ -20,31 +20,56 @@
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.serialization.EnumSerializer;
 
 /**
- * Deserializes enum values converting element names from UpperCamelCase to SCREAMING_SNAKE_CASE
+ * Deserializes enum values converting element names from UpperCamelCase to SCREAMING_SNAKE_CASE.
+ * The names written by {@link EnumSerializer} and the plain constant names are resolved via a table
+ * computed once per deserializer, other spellings are converted as before.
  *
  * @param <T> Type of enum to deserialize
  */
 public class EnumDeserializer<T extends Enum<T>> extends JsonDeserializer<T> {
 
   protected final Class<T> type;
+  private final Map<String, T> values = new HashMap<>();
 
   public EnumDeserializer(Class<T> type) {
     this.type = type;
+    for (T value : type.getEnumConstants()) {
+      for (String name : Arrays.asList(value.name(), EnumSerializer.getName(value))) {
+        // only names that resolve to the value anyway are added, so results do not change
+        if (name != null && parseOrNull(name) == value) {
+          values.putIfAbsent(name, value);
+        }
+      }
+    }
   }
 
   @Override
   public T deserialize(JsonParser parser, DeserializationContext context)
       throws IOException, JsonProcessingException {
-
     String value = parser.getText();
+    T result = values.get(value);
+    return result != null ? result : parse(value);
+  }
 
+  private T parseOrNull(String value) {
+    try {
+      return parse(value);
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      return null;
+    }
+  }
+
+  private T parse(String value) {
     if (value.startsWith("xs:")) {
       value = value.substring(3);
       value = value.substring(0, 1).toUpperCase() + value.substring(1);
     }
-
     return Enum.valueOf(type, deserializeEnumName(value));
   }
 
@@ -55,18 +80,18 @@ public T deserialize(JsonParser parser, DeserializationContext context)
    * @return name in SCREAMING_SNAKE_CASE
    */
   public static String deserializeEnumName(String input) {
-    String result = "";
     if (input == null || input.isEmpty()) {
-      return result;
+      return "";
     }
-    result += Character.toUpperCase(input.charAt(0));
+    StringBuilder result = new StringBuilder(input.length() + 4);
+    result.append(Character.toUpperCase(input.charAt(0)));
     for (int i = 1; i < input.length(); i++) {
       char currentChar = input.charAt(i), previousChar = input.charAt(i - 1);
       if (Character.isUpperCase(currentChar) && Character.isLowerCase(previousChar)) {
-        result += "_";
+        result.append('_');
       }
-      result += Character.toUpperCase(currentChar);
+      result.append(Character.toUpperCase(currentChar));
     }
-    return result;
+    return result.toString();
   }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.BinaryValueStore;
+
+/**
+ * Serializes binary values as Base64. The encoding is written to the generator in chunks, i.e.
+ * without creating the encoded string in memory. Values that are handles of a {@link
+ * BinaryValueStore} are streamed from the store. Handles of other stores are rejected.
+ */
+public class Base64Serializer extends JsonSerializer<byte[]> {
+
+  private final BinaryValueStore store;
+
+  public Base64Serializer() {
+    this(null);
+  }
+
+  /**
+   * Constructor for a serializer resolving the handles of the given store
+   *
+   * @param store the store or null if no values are externalized
+   */
+  public Base64Serializer(BinaryValueStore store) {
+    this.store = store;
+  }
+
+  @Override
+  public void serialize(byte[] value, JsonGenerator gen, SerializerProvider serializers)
+      throws IOException {
+    if (store == null || !store.contains(value)) {
+      if (BinaryValueStore.isHandle(value)) {
+        throw new IOException("binary value is a handle of a store not known to this serializer");
+      }
+      gen.writeBinary(serializers.getConfig().getBase64Variant(), value, 0, value.length);
+      return;
+    }
+    long size = store.size(value);
+    if (size > Integer.MAX_VALUE) {
+      throw new IOException("binary value of " + size + " bytes exceeds the supported size");
+    }
+    try (InputStream in = store.open(value)) {
+      gen.writeBinary(serializers.getConfig().getBase64Variant(), in, (int) size);
+    }
+  }
+
+  @Override
+  public boolean isEmpty(SerializerProvider provider, byte[] value) {
+    return value == null || (value.length == 0 && (store == null || !store.contains(value)));
+  }
+
+  @Override
+  public Class<byte[]> handledType() {
+    return byte[].class;
+  }
+}
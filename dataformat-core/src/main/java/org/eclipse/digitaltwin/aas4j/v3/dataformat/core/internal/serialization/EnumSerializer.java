@@ -17,6 +17,8 @@
 package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.serialization;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import java.io.IOException;
@@ -29,50 +31,80 @@
 
 /**
  * Serializes enum values. If enum is part of the AAS Java model, the name will be converted from
- * SCREAMING_SNAKE_CASE to UpperCamelCase, else default serialization will be used
+ * SCREAMING_SNAKE_CASE to UpperCamelCase, else default serialization will be used. The serialized
+ * names are computed once per enum class and written as pre-encoded strings.
  */
 @SuppressWarnings("rawtypes")
 public class EnumSerializer extends JsonSerializer<Enum> {
 
+  /** Serialized names of the values of an enum indexed by ordinal, or null for non-AAS enums. */
+  private static final ClassValue<SerializableString[]> NAMES =
+      new ClassValue<SerializableString[]>() {
+        @Override
+        protected SerializableString[] computeValue(Class<?> type) {
+          if (!type.isEnum()) {
+            return null;
+          }
+          Enum[] values = (Enum[]) type.getEnumConstants();
+          SerializableString[] result = new SerializableString[values.length];
+          for (Enum value : values) {
+            String name = computeName(value);
+            if (name == null) {
+              return null;
+            }
+            result[value.ordinal()] = new SerializedString(name);
+          }
+          return result;
+        }
+      };
+
   @Override
   public void serialize(Enum value, JsonGenerator gen, SerializerProvider provider)
       throws IOException {
+    SerializableString[] names = NAMES.get(value.getDeclaringClass());
+    if (names != null) {
+      gen.writeString(names[value.ordinal()]);
+    } else {
+      provider.findValueSerializer(Enum.class).serialize(value, gen, provider);
+    }
+  }
+
+  /**
+   * Returns the serialized name of an enum value of the AAS Java model
+   *
+   * @param value the enum value
+   * @return the serialized name or null if the enum is not part of the AAS Java model
+   */
+  public static String getName(Enum<?> value) {
+    SerializableString[] names = NAMES.get(value.getDeclaringClass());
+    return names != null ? names[value.ordinal()].getValue() : null;
+  }
+
+  private static String computeName(Enum<?> value) {
     if (value instanceof DataTypeDefXsd) {
       // only for the DataTypeDefXsd notation
       if (value.equals(DataTypeDefXsd.ANY_URI)) {
-        gen.writeString("xs:anyURI");
+        return "xs:anyURI";
       } else if (value.equals(DataTypeDefXsd.NON_NEGATIVE_INTEGER)) {
-        gen.writeString("xs:nonNegativeInteger");
-      } else if (isTimeRelatedValue(value)) {
-        handleTimeRelatedValue(gen, value);
-      } else {
-        // pattern: 'xs:' + camelCase
-        String enumString = serializeEnumName(value.name());
-        gen.writeString("xs:" + enumString.substring(0, 1).toLowerCase() + enumString.substring(1));
+        return "xs:nonNegativeInteger";
       }
+      String enumString = serializeEnumName(value.name());
+      if (enumString.startsWith("G")) {
+        // time related values, e.g. xs:gYearMonth
+        return "xs:g" + enumString.substring(1, 2).toUpperCase() + enumString.substring(2);
+      }
+      // pattern: 'xs:' + camelCase
+      return "xs:" + enumString.substring(0, 1).toLowerCase() + enumString.substring(1);
     } else if (value instanceof DataTypeIec61360) {
-      gen.writeString(value.name().toUpperCase());
+      return value.name().toUpperCase();
     } else if (value instanceof SecurityTypeEnum) {
-      gen.writeString(value.name().toUpperCase());
+      return value.name().toUpperCase();
     } else if (value instanceof Direction || value instanceof StateOfEvent) {
-      gen.writeString(value.name().toLowerCase());
-    } else if (ReflectionHelper.ENUMS.contains(value.getClass())) {
-      gen.writeString(serializeEnumName(value.name()));
-    } else {
-      provider.findValueSerializer(Enum.class).serialize(value, gen, provider);
+      return value.name().toLowerCase();
+    } else if (ReflectionHelper.ENUMS.contains(value.getDeclaringClass())) {
+      return serializeEnumName(value.name());
     }
-  }
-
-  private void handleTimeRelatedValue(JsonGenerator gen, Enum<?> value) throws IOException {
-    String enumString = serializeEnumName(value.name());
-    String adaptedEnumString =
-        "xs:g" + enumString.substring(1, 2).toUpperCase() + enumString.substring(2);
-    gen.writeString(adaptedEnumString);
-  }
-
-  private boolean isTimeRelatedValue(Enum<?> value) {
-    String enumString = serializeEnumName(value.name());
-    return enumString.startsWith("G");
+    return null;
   }
 
   /**
@@ -0,0 +1,501 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ClassInfoList;
+import io.github.classgraph.ScanResult;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Metadata about the types of the AAS model, i.e. its interfaces, enums and default
+ * implementations, as needed by {@link ReflectionHelper}.
+ *
+ * <p>The metadata is generated when this module is built and stored as resource next to this class,
+ * so that it does not have to be computed by scanning the classpath at runtime. The resource
+ * records the {@link #fingerprint() fingerprint} of the model it was generated from, which the
+ * model artifact writes when it is built. If the resource is not available, its fingerprint does
+ * not match the one of the model on the classpath, or additional types have been defined in the
+ * model packages outside of the model artifact, the metadata is computed by scanning the model
+ * packages instead.
+ */
+public class ModelTypeRegistry {
+
+  private static final Logger logger = LoggerFactory.getLogger(ModelTypeRegistry.class);
+
+  static final String RESOURCE_NAME = "model-types.properties";
+
+  private static final String MODEL_FINGERPRINT_RESOURCE =
+      ReflectionHelper.MODEL_PACKAGE_NAME.replace('.', '/') + "/model-fingerprint.properties";
+
+  private static final String FINGERPRINT = "fingerprint";
+
+  private static final String MODEL_TYPES = "modelTypes";
+  private static final String TYPES_WITH_MODEL_TYPE = "typesWithModelType";
+  private static final String ENUMS = "enums";
+  private static final String DEFAULT_IMPLEMENTATIONS = "defaultImplementations";
+  private static final String SUBTYPES_PREFIX = "subtypes.";
+  private static final String SEPARATOR = ",";
+  private static final String IMPLEMENTATION_SEPARATOR = ":";
+
+  private final String fingerprint;
+  private final List<Class<?>> modelTypes;
+  private final Set<Class<?>> typesWithModelType;
+  private final Map<Class<?>, Set<Class<?>>> subtypes;
+  private final Map<Class<?>, Class<?>> defaultImplementations;
+
+  @SuppressWarnings("rawtypes")
+  private final List<Class<Enum>> enums;
+
+  @SuppressWarnings("rawtypes")
+  private ModelTypeRegistry(
+      String fingerprint,
+      List<Class<?>> modelTypes,
+      Set<Class<?>> typesWithModelType,
+      Map<Class<?>, Set<Class<?>>> subtypes,
+      Map<Class<?>, Class<?>> defaultImplementations,
+      List<Class<Enum>> enums) {
+    this.fingerprint = fingerprint;
+    this.modelTypes = modelTypes;
+    this.typesWithModelType = typesWithModelType;
+    this.subtypes = subtypes;
+    this.defaultImplementations = defaultImplementations;
+    this.enums = enums;
+  }
+
+  /**
+   * Returns the registry generated at build time if available and matching the model on the
+   * classpath, otherwise scans the classpath. The classpath is scanned as well if the model
+   * packages are provided by more than one location, i.e. if additional types have been defined in
+   * these packages outside of the model.
+   *
+   * @return the registry
+   */
+  public static ModelTypeRegistry get() {
+    if (isModelPackageSplit()) {
+      logger.debug("model packages are split across the classpath, scanning classpath instead");
+      return scan();
+    }
+    return get(load());
+  }
+
+  /**
+   * Returns the given registry if its fingerprint matches the one of the model artifact on the
+   * classpath, otherwise scans the classpath.
+   *
+   * @param generated the registry generated at build time, may be null
+   * @return the registry
+   */
+  public static ModelTypeRegistry get(ModelTypeRegistry generated) {
+    String fingerprint = fingerprint();
+    if (generated != null
+        && fingerprint != null
+        && Objects.equals(generated.getFingerprint(), fingerprint)) {
+      return generated;
+    }
+    logger.debug(
+        "no generated model type registry matching the classpath available, scanning classpath"
+            + " instead");
+    return scan();
+  }
+
+  /**
+   * Loads the registry generated at build time without checking whether it matches the model on the
+   * classpath, see {@link #get()}
+   *
+   * @return the registry or null if it is not available or refers to classes which are not
+   *     available
+   */
+  public static ModelTypeRegistry load() {
+    try (InputStream in = ModelTypeRegistry.class.getResourceAsStream(RESOURCE_NAME)) {
+      if (in == null) {
+        return null;
+      }
+      return load(new InputStreamReader(in, StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      logger.debug("could not load generated model type registry", e);
+      return null;
+    }
+  }
+
+  /**
+   * Loads a registry in the format written by {@link #write(Writer)}
+   *
+   * @param reader the reader to read from
+   * @return the registry or null if it refers to classes which are not available
+   * @throws IOException if reading fails
+   */
+  public static ModelTypeRegistry load(Reader reader) throws IOException {
+    Properties properties = new Properties();
+    properties.load(reader);
+    try {
+      return fromProperties(properties);
+    } catch (ClassNotFoundException | ClassCastException e) {
+      logger.debug("could not load generated model type registry", e);
+      return null;
+    }
+  }
+
+  /**
+   * Reads the fingerprint of the model on the classpath, i.e. the version of the model artifact and
+   * a hash of the names of the classes in the model packages, as written by the model artifact when
+   * it has been built. This only reads a single resource and neither lists nor inspects any
+   * classes.
+   *
+   * @return the fingerprint or null if the model artifact does not provide one
+   */
+  public static String fingerprint() {
+    try (InputStream in =
+        ModelTypeRegistry.class.getClassLoader().getResourceAsStream(MODEL_FINGERPRINT_RESOURCE)) {
+      if (in == null) {
+        return null;
+      }
+      Properties properties = new Properties();
+      properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+      String version = properties.getProperty("version");
+      String classes = properties.getProperty("classes");
+      if (version == null || classes == null) {
+        return null;
+      }
+      return version + "-" + classes;
+    } catch (IOException e) {
+      logger.debug("could not read fingerprint of the model on the classpath", e);
+      return null;
+    }
+  }
+
+  /**
+   * Computes the registry by scanning the model packages on the classpath
+   *
+   * @return the registry
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public static ModelTypeRegistry scan() {
+    try (ScanResult modelScan =
+        new ClassGraph()
+            .enableClassInfo()
+            .acceptPackagesNonRecursive(ReflectionHelper.MODEL_PACKAGE_NAME)
+            .scan()) {
+      List<Class<?>> modelTypes = new ArrayList<>(modelScan.getAllClasses().loadClasses());
+      modelTypes.sort(Comparator.comparing(Class::getName));
+      return new ModelTypeRegistry(
+          fingerprint(),
+          modelTypes,
+          scanModelTypes(modelScan),
+          scanSubtypes(modelScan),
+          scanDefaultImplementations(modelScan),
+          (List) modelScan.getAllEnums().loadClasses(Enum.class));
+    }
+  }
+
+  /**
+   * Generates the registry by scanning the classpath and writes it as resource to the given output
+   * directory. Used when building this module.
+   *
+   * @param args the output directory, i.e. the root of the class output
+   * @throws IOException if writing the registry fails
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("usage: ModelTypeRegistry <output directory>");
+    }
+    Path file =
+        Paths.get(args[0])
+            .resolve(ModelTypeRegistry.class.getPackage().getName().replace('.', '/'))
+            .resolve(RESOURCE_NAME);
+    Files.createDirectories(file.getParent());
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      scan().write(writer);
+    }
+  }
+
+  /**
+   * Writes the registry in the format of the generated resource. Entries are sorted so that the
+   * output is reproducible.
+   *
+   * @param writer the writer to write to
+   * @throws IOException if writing fails
+   */
+  public void write(Writer writer) throws IOException {
+    writer.write("# Generated by " + ModelTypeRegistry.class.getName() + ", do not edit\n");
+    writeEntry(
+        writer,
+        FINGERPRINT,
+        fingerprint == null ? Collections.emptyList() : Collections.singletonList(fingerprint));
+    writeEntry(writer, MODEL_TYPES, names(modelTypes));
+    writeEntry(writer, TYPES_WITH_MODEL_TYPE, names(typesWithModelType));
+    writeEntry(writer, ENUMS, names(enums));
+    writeEntry(
+        writer,
+        DEFAULT_IMPLEMENTATIONS,
+        defaultImplementations.entrySet().stream()
+            .map(x -> x.getKey().getName() + IMPLEMENTATION_SEPARATOR + x.getValue().getName())
+            .sorted()
+            .collect(Collectors.toList()));
+    for (String type : names(subtypes.keySet())) {
+      writeEntry(
+          writer,
+          SUBTYPES_PREFIX + type,
+          names(
+              subtypes.entrySet().stream()
+                  .filter(x -> x.getKey().getName().equals(type))
+                  .findFirst()
+                  .get()
+                  .getValue()));
+    }
+  }
+
+  /**
+   * Returns the fingerprint of the model this registry has been computed from, see {@link
+   * #fingerprint()}
+   *
+   * @return the fingerprint or null if it is not known
+   */
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * Returns all classes defined in the MODEL_PACKAGE_NAME package
+   *
+   * @return the classes sorted by name
+   */
+  public List<Class<?>> getModelTypes() {
+    return modelTypes;
+  }
+
+  /**
+   * Returns all classes that shall be annotated with the modelType property
+   *
+   * @return the classes
+   */
+  public Set<Class<?>> getTypesWithModelType() {
+    return typesWithModelType;
+  }
+
+  /**
+   * Returns all interfaces defined in the MODEL_PACKAGE_NAME package together with their direct
+   * subinterfaces
+   *
+   * @return the interfaces and their subinterfaces
+   */
+  public Map<Class<?>, Set<Class<?>>> getSubtypes() {
+    return subtypes;
+  }
+
+  /**
+   * Returns all interfaces that have a default implementation together with that implementation
+   *
+   * @return the interfaces and their default implementations
+   */
+  public Map<Class<?>, Class<?>> getDefaultImplementations() {
+    return defaultImplementations;
+  }
+
+  /**
+   * Returns all enums defined in the MODEL_PACKAGE_NAME package
+   *
+   * @return the enums
+   */
+  @SuppressWarnings("rawtypes")
+  public List<Class<Enum>> getEnums() {
+    return enums;
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static ModelTypeRegistry fromProperties(Properties properties)
+      throws ClassNotFoundException {
+    Map<Class<?>, Set<Class<?>>> subtypes = new HashMap<>();
+    for (String key : properties.stringPropertyNames()) {
+      if (key.startsWith(SUBTYPES_PREFIX)) {
+        subtypes.put(
+            loadClass(key.substring(SUBTYPES_PREFIX.length())),
+            new HashSet<>(loadClasses(properties.getProperty(key))));
+      }
+    }
+    Map<Class<?>, Class<?>> defaultImplementations = new LinkedHashMap<>();
+    for (String entry : split(properties.getProperty(DEFAULT_IMPLEMENTATIONS))) {
+      String[] names = entry.split(IMPLEMENTATION_SEPARATOR);
+      Class<?> interfaceType = loadClass(names[0]);
+      Class<?> implementationType = loadClass(names[1]);
+      if (!interfaceType.isAssignableFrom(implementationType)) {
+        throw new ClassCastException(
+            implementationType.getName() + " does not implement " + interfaceType.getName());
+      }
+      defaultImplementations.put(interfaceType, implementationType);
+    }
+    List<Class<Enum>> enums = new ArrayList<>();
+    for (Class<?> type : loadClasses(properties.getProperty(ENUMS))) {
+      enums.add((Class) type.asSubclass(Enum.class));
+    }
+    String fingerprint = properties.getProperty(FINGERPRINT);
+    return new ModelTypeRegistry(
+        fingerprint == null || fingerprint.isEmpty() ? null : fingerprint,
+        loadClasses(properties.getProperty(MODEL_TYPES)),
+        new HashSet<>(loadClasses(properties.getProperty(TYPES_WITH_MODEL_TYPE))),
+        subtypes,
+        defaultImplementations,
+        enums);
+  }
+
+  private static boolean isModelPackageSplit() {
+    for (String packageName :
+        Arrays.asList(
+            ReflectionHelper.MODEL_PACKAGE_NAME,
+            ReflectionHelper.DEFAULT_IMPLEMENTATION_PACKAGE_NAME)) {
+      String path = packageName.replace('.', '/') + "/";
+      Set<URL> locations = new HashSet<>();
+      try {
+        for (ClassLoader classLoader :
+            Arrays.asList(
+                ModelTypeRegistry.class.getClassLoader(),
+                Thread.currentThread().getContextClassLoader())) {
+          if (classLoader != null) {
+            locations.addAll(Collections.list(classLoader.getResources(path)));
+          }
+        }
+      } catch (IOException e) {
+        logger.debug("could not determine locations of package {}", path, e);
+        return true;
+      }
+      if (locations.size() > 1) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static List<String> split(String value) {
+    if (value == null || value.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return Arrays.asList(value.split(SEPARATOR));
+  }
+
+  private static List<Class<?>> loadClasses(String value) throws ClassNotFoundException {
+    List<Class<?>> result = new ArrayList<>();
+    for (String name : split(value)) {
+      result.add(loadClass(name));
+    }
+    return result;
+  }
+
+  private static Class<?> loadClass(String name) throws ClassNotFoundException {
+    return Class.forName(name, false, ModelTypeRegistry.class.getClassLoader());
+  }
+
+  private static List<String> names(Collection<? extends Class<?>> types) {
+    return types.stream().map(Class::getName).sorted().collect(Collectors.toList());
+  }
+
+  private static void writeEntry(Writer writer, String key, List<String> values)
+      throws IOException {
+    writer.write(key + "=" + String.join(SEPARATOR, values) + "\n");
+  }
+
+  private static Set<Class<?>> scanModelTypes(ScanResult modelScan) {
+    Set<Class<?>> typesWithModelTypes =
+        ReflectionHelper.MODEL_TYPE_SUPERCLASSES.stream()
+            .flatMap(x -> modelScan.getClassesImplementing(x.getName()).loadClasses().stream())
+            .collect(Collectors.toSet());
+    typesWithModelTypes.addAll(ReflectionHelper.MODEL_TYPE_SUPERCLASSES);
+    return typesWithModelTypes;
+  }
+
+  private static Map<Class<?>, Set<Class<?>>> scanSubtypes(ScanResult modelScan) {
+    return modelScan.getAllInterfaces().stream()
+        .filter(x -> !getSubclasses(x).isEmpty())
+        .collect(Collectors.toMap(ClassInfo::loadClass, ModelTypeRegistry::getSubclasses));
+  }
+
+  private static Set<Class<?>> getSubclasses(ClassInfo clazzInfo) {
+    return clazzInfo
+        .getClassesImplementing()
+        .directOnly()
+        .filter(ClassInfo::isInterface)
+        .loadClasses()
+        .stream()
+        .collect(Collectors.toSet());
+  }
+
+  private static Map<Class<?>, Class<?>> scanDefaultImplementations(ScanResult modelScan) {
+    Map<Class<?>, Class<?>> defaultImplementations = new LinkedHashMap<>();
+    try (ScanResult defaulImplementationScan =
+        new ClassGraph()
+            .enableClassInfo()
+            .acceptPackagesNonRecursive(ReflectionHelper.DEFAULT_IMPLEMENTATION_PACKAGE_NAME)
+            .scan()) {
+      defaulImplementationScan
+          .getAllClasses()
+          .filter(x -> x.getSimpleName().startsWith(ReflectionHelper.DEFAULT_IMPLEMENTATION_PREFIX))
+          .loadClasses()
+          .stream()
+          .forEach(
+              x -> {
+                String interfaceName =
+                    x.getSimpleName()
+                        .substring(
+                            ReflectionHelper.DEFAULT_IMPLEMENTATION_PREFIX
+                                .length()); // using conventions
+                ClassInfoList interfaceClassInfos =
+                    modelScan
+                        .getAllClasses()
+                        .filter(
+                            y ->
+                                y.isInterface()
+                                    && Objects.equals(y.getSimpleName(), interfaceName));
+                if (interfaceClassInfos.isEmpty()) {
+                  logger.warn(
+                      "could not find interface realized by default implementation class '{}'",
+                      x.getSimpleName());
+                } else {
+                  defaultImplementations.put(interfaceClassInfos.get(0).loadClass(), x);
+                  logger.debug(
+                      "using default implementation class '{}' for interface '{}'",
+                      x.getSimpleName(),
+                      interfaceClassInfos.get(0).getName());
+                }
+              });
+    }
+    return defaultImplementations;
+  }
+}
@@ -16,17 +16,12 @@
 package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util;
 
 import com.google.common.reflect.TypeToken;
-import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ClassInfo;
-import io.github.classgraph.ClassInfoList;
-import io.github.classgraph.ScanResult;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ClassUtils;
@@ -43,6 +38,40 @@ public class ReflectionHelper {
   private static final Logger logger = LoggerFactory.getLogger(ReflectionHelper.class);
   private static final String ROOT_PACKAGE_NAME = "org.eclipse.digitaltwin.aas4j.v3";
 
+  /**
+   * Caches for the metadata of a class that is looked up on hot paths, e.g. for every reference
+   * created. The metadata is derived from the static model information collected below which does
+   * not change after initialization, so each lookup only has to be computed once per class.
+   */
+  private static final ClassValue<Class<?>> AAS_INTERFACE =
+      new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+          return computeAasInterface(type);
+        }
+      };
+
+  private static final ClassValue<String> MODEL_TYPE =
+      new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+          return computeModelType(type);
+        }
+      };
+
+  private static final ClassValue<Class<?>> MOST_SPECIFIC_TYPE_WITH_MODEL_TYPE =
+      new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+          return computeMostSpecificTypeWithModelType(type);
+        }
+      };
+
+  /** Default implementation by interface, the first registered implementation wins */
+  private static final Map<Class<?>, Class<?>> DEFAULT_IMPLEMENTATION_BY_INTERFACE;
+
+  private static final Set<Class<?>> DEFAULT_IMPLEMENTATION_TYPES;
+
   /** Name of package where the generated model classes are defined */
   public static final String MODEL_PACKAGE_NAME = ROOT_PACKAGE_NAME + ".model";
 
@@ -151,8 +180,7 @@ public static boolean isModelInterface(Class<?> type) {
    * @return whether the given class is a default implementation or not
    */
   public static boolean isDefaultImplementation(Class<?> type) {
-    return DEFAULT_IMPLEMENTATIONS.stream()
-        .anyMatch(x -> Objects.equals(x.getImplementationType(), type));
+    return DEFAULT_IMPLEMENTATION_TYPES.contains(type);
   }
 
   /**
@@ -162,8 +190,7 @@ public static boolean isDefaultImplementation(Class<?> type) {
    * @return whether the given interface has a default implementation or not
    */
   public static boolean hasDefaultImplementation(Class<?> interfaceType) {
-    return DEFAULT_IMPLEMENTATIONS.stream()
-        .anyMatch(x -> x.getInterfaceType().equals(interfaceType));
+    return DEFAULT_IMPLEMENTATION_BY_INTERFACE.containsKey(interfaceType);
   }
 
   /**
@@ -180,14 +207,7 @@ public static <T> Class<? extends T> getDefaultImplementation(Class<T> interface
     if (isDefaultImplementation(interfaceType)) {
       return interfaceType;
     }
-    if (hasDefaultImplementation(interfaceType)) {
-      return DEFAULT_IMPLEMENTATIONS.stream()
-          .filter(x -> x.getInterfaceType().equals(interfaceType))
-          .findFirst()
-          .get()
-          .getImplementationType();
-    }
-    return null;
+    return (Class<? extends T>) DEFAULT_IMPLEMENTATION_BY_INTERFACE.get(interfaceType);
   }
 
   /**
@@ -202,7 +222,17 @@ public static boolean isModelInterfaceOrDefaultImplementation(Class<?> type) {
     return isModelInterface(type) || isDefaultImplementation(type);
   }
 
+  /**
+   * Returns the most specific AAS interface implemented by the given class or null if there is none
+   *
+   * @param type the class to find the AAS interface for
+   * @return the most specific AAS interface implemented by the given class or null if there is none
+   */
   public static Class<?> getAasInterface(Class<?> type) {
+    return type != null ? AAS_INTERFACE.get(type) : null;
+  }
+
+  private static Class<?> computeAasInterface(Class<?> type) {
     Set<Class<?>> implementedAasInterfaces = getAasInterfaces(type);
     if (implementedAasInterfaces.isEmpty()) {
       return null;
@@ -244,6 +274,10 @@ public static Set<Class<?>> getAasInterfaces(Class<?> type) {
    *     type information should not be included
    */
   public static String getModelType(Class<?> clazz) {
+    return MODEL_TYPE.get(clazz);
+  }
+
+  private static String computeModelType(Class<?> clazz) {
     Class<?> type = getMostSpecificTypeWithModelType(clazz);
     if (type != null) {
       return type.getSimpleName();
@@ -270,9 +304,10 @@ public static String getModelType(Class<?> clazz) {
    *     null if there is none
    */
   public static Class<?> getMostSpecificTypeWithModelType(Class<?> clazz) {
-    if (clazz == null) {
-      return null;
-    }
+    return clazz != null ? MOST_SPECIFIC_TYPE_WITH_MODEL_TYPE.get(clazz) : null;
+  }
+
+  private static Class<?> computeMostSpecificTypeWithModelType(Class<?> clazz) {
     return TYPES_WITH_MODEL_TYPE.stream()
         .filter(x -> clazz.isInterface() ? x.equals(clazz) : x.isAssignableFrom(clazz))
         .sorted(
@@ -296,23 +331,26 @@ public static Class<?> getMostSpecificTypeWithModelType(Class<?> clazz) {
   }
 
   static {
-    ScanResult modelScan =
-        new ClassGraph().enableClassInfo().acceptPackagesNonRecursive(MODEL_PACKAGE_NAME).scan();
-    TYPES_WITH_MODEL_TYPE = scanModelTypes(modelScan);
-    SUBTYPES = scanSubtypes(modelScan);
-    JSON_MIXINS = scanMixins(modelScan, JSON_MIXINS_PACKAGE_NAME);
-    XML_MIXINS = scanMixins(modelScan, XML_MIXINS_PACKAGE_NAME);
-    DEFAULT_IMPLEMENTATIONS = scanDefaultImplementations(modelScan);
+    ModelTypeRegistry registry = ModelTypeRegistry.get();
+    TYPES_WITH_MODEL_TYPE = new HashSet<>(registry.getTypesWithModelType());
+    SUBTYPES = new HashMap<>();
+    registry.getSubtypes().forEach((x, y) -> SUBTYPES.put(x, new HashSet<>(y)));
+    JSON_MIXINS = findMixins(registry, JSON_MIXINS_PACKAGE_NAME);
+    XML_MIXINS = findMixins(registry, XML_MIXINS_PACKAGE_NAME);
+    DEFAULT_IMPLEMENTATIONS = getDefaultImplementations(registry);
+    DEFAULT_IMPLEMENTATION_BY_INTERFACE = new HashMap<>();
+    DEFAULT_IMPLEMENTATION_TYPES = new HashSet<>();
+    for (ImplementationInfo<?> info : DEFAULT_IMPLEMENTATIONS) {
+      DEFAULT_IMPLEMENTATION_BY_INTERFACE.putIfAbsent(
+          info.getInterfaceType(), info.getImplementationType());
+      DEFAULT_IMPLEMENTATION_TYPES.add(info.getImplementationType());
+    }
     INTERFACES = scanAasInterfaces();
-    ENUMS = modelScan.getAllEnums().loadClasses(Enum.class);
+    ENUMS = new ArrayList<>(registry.getEnums());
     INTERFACES_WITHOUT_DEFAULT_IMPLEMENTATION =
-        getInterfacesWithoutDefaultImplementation(modelScan);
-  }
-
-  private static Set<Class<?>> getInterfacesWithoutDefaultImplementation(ScanResult modelScan) {
-    return modelScan.getAllInterfaces().loadClasses().stream()
-        .filter(x -> !hasDefaultImplementation(x))
-        .collect(Collectors.toSet());
+        registry.getModelTypes().stream()
+            .filter(x -> x.isInterface() && !hasDefaultImplementation(x))
+            .collect(Collectors.toSet());
   }
 
   public static Set<Class<?>> getSuperTypes(Class<?> clazz, boolean recursive) {
@@ -331,41 +369,11 @@ public static Set<Class<?>> getSuperTypes(Class<?> clazz, boolean recursive) {
   }
 
   @SuppressWarnings({"rawtypes", "unchecked"})
-  private static List<ImplementationInfo> scanDefaultImplementations(ScanResult modelScan) {
-    ScanResult defaulImplementationScan =
-        new ClassGraph()
-            .enableClassInfo()
-            .acceptPackagesNonRecursive(DEFAULT_IMPLEMENTATION_PACKAGE_NAME)
-            .scan();
+  private static List<ImplementationInfo> getDefaultImplementations(ModelTypeRegistry registry) {
     List<ImplementationInfo> defaultImplementations = new ArrayList<>();
-    defaulImplementationScan
-        .getAllClasses()
-        .filter(x -> x.getSimpleName().startsWith(DEFAULT_IMPLEMENTATION_PREFIX))
-        .loadClasses()
-        .stream()
-        .forEach(
-            x -> {
-              String interfaceName =
-                  x.getSimpleName()
-                      .substring(DEFAULT_IMPLEMENTATION_PREFIX.length()); // using conventions
-              ClassInfoList interfaceClassInfos =
-                  modelScan
-                      .getAllClasses()
-                      .filter(
-                          y -> y.isInterface() && Objects.equals(y.getSimpleName(), interfaceName));
-              if (interfaceClassInfos.isEmpty()) {
-                logger.warn(
-                    "could not find interface realized by default implementation class '{}'",
-                    x.getSimpleName());
-              } else {
-                Class<?> implementedClass = interfaceClassInfos.get(0).loadClass();
-                defaultImplementations.add(new ImplementationInfo(implementedClass, x));
-                logger.debug(
-                    "using default implementation class '{}' for interface '{}'",
-                    x.getSimpleName(),
-                    interfaceClassInfos.get(0).getName());
-              }
-            });
+    registry
+        .getDefaultImplementations()
+        .forEach((x, y) -> defaultImplementations.add(new ImplementationInfo(x, y)));
     return defaultImplementations;
   }
 
@@ -374,65 +382,37 @@ private static Set<Class> scanAasInterfaces() {
     return DEFAULT_IMPLEMENTATIONS.stream().map(x -> x.interfaceType).collect(Collectors.toSet());
   }
 
-  private static Map<Class<?>, Class<?>> scanMixins(ScanResult modelScan, String packageName) {
-    ScanResult mixinScan =
-        new ClassGraph().enableClassInfo().acceptPackagesNonRecursive(packageName).scan();
+  /**
+   * Finds the mixins in the given package by probing for a class named after each model type, which
+   * avoids scanning the classpath for them.
+   */
+  private static Map<Class<?>, Class<?>> findMixins(
+      ModelTypeRegistry registry, String packageName) {
     Map<Class<?>, Class<?>> mixins = new HashMap<>();
-    mixinScan
-        .getAllClasses()
-        .filter(x -> x.getSimpleName().endsWith(MIXIN_SUFFIX))
-        .loadClasses()
-        .forEach(
-            x -> {
-              String modelClassName =
-                  x.getSimpleName()
-                      .substring(0, x.getSimpleName().length() - MIXIN_SUFFIX.length());
-              ClassInfoList modelClassInfos =
-                  modelScan
-                      .getAllClasses()
-                      .filter(y -> Objects.equals(y.getSimpleName(), modelClassName));
-              if (modelClassInfos.isEmpty()) {
-                logger.warn(
-                    "could not auto-resolve target class for mixin '{}'", x.getSimpleName());
-              } else {
-                mixins.put(modelClassInfos.get(0).loadClass(), x);
-                logger.debug(
-                    "using mixin '{}' for class '{}'",
-                    x.getSimpleName(),
-                    modelClassInfos.get(0).getName());
-              }
-            });
+    for (Class<?> modelType : registry.getModelTypes()) {
+      Class<?> mixin = findClass(packageName + "." + modelType.getSimpleName() + MIXIN_SUFFIX);
+      if (mixin != null) {
+        mixins.put(modelType, mixin);
+        logger.debug("using mixin '{}' for class '{}'", mixin.getSimpleName(), modelType.getName());
+      }
+    }
     return mixins;
   }
 
-  private static Map<Class<?>, Set<Class<?>>> scanSubtypes(ScanResult modelScan) {
-    return modelScan.getAllInterfaces().stream()
-        .filter(ReflectionHelper::hasSubclass)
-        .collect(Collectors.toMap(ClassInfo::loadClass, ReflectionHelper::getSubclasses));
-  }
-
-  private static Set<Class<?>> getSubclasses(ClassInfo clazzInfo) {
-    return clazzInfo
-        .getClassesImplementing()
-        .directOnly()
-        .filter(ClassInfo::isInterface)
-        .loadClasses()
-        .stream()
-        .collect(Collectors.toSet());
-  }
-
-  private static boolean hasSubclass(ClassInfo clazzInfo) {
-    return !getSubclasses(clazzInfo).isEmpty();
-  }
-
-  private static Set<Class<?>> scanModelTypes(ScanResult modelScan) {
-    Set<Class<?>> typesWithModelTypes;
-    typesWithModelTypes =
-        MODEL_TYPE_SUPERCLASSES.stream()
-            .flatMap(x -> modelScan.getClassesImplementing(x.getName()).loadClasses().stream())
-            .collect(Collectors.toSet());
-    typesWithModelTypes.addAll(MODEL_TYPE_SUPERCLASSES);
-    return typesWithModelTypes;
+  private static Class<?> findClass(String name) {
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    if (contextClassLoader != null) {
+      try {
+        return Class.forName(name, false, contextClassLoader);
+      } catch (ClassNotFoundException | LinkageError e) {
+        // fall back to the class loader of this class
+      }
+    }
+    try {
+      return Class.forName(name, false, ReflectionHelper.class.getClassLoader());
+    } catch (ClassNotFoundException | LinkageError e) {
+      return null;
+    }
   }
 
   private ReflectionHelper() {}
@@ -441,7 +421,11 @@ private ReflectionHelper() {}
    * Overrides empty list fields with null
    *
    * @param element to perform the empty-to-null conversion on
+   * @deprecated modifies the given element and therefore is not safe to use while the element is
+   *     accessed concurrently. Serializers should instead omit empty lists at write time, e.g. by
+   *     implementing {@link com.fasterxml.jackson.databind.JsonSerializer#isEmpty}.
    */
+  @Deprecated
   public static List<Runnable> setEmptyListsToNull(Object element) {
     List<Runnable> resetRunnables = new ArrayList<>();
 
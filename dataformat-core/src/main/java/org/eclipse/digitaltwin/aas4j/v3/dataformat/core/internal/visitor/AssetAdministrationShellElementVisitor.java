@@ -63,147 +63,43 @@
 public interface AssetAdministrationShellElementVisitor {
 
   public default void visit(DataElement dataElement) {
-    if (dataElement == null) {
-      return;
-    }
-    Class<?> type = dataElement.getClass();
-    if (Property.class.isAssignableFrom(type)) {
-      visit((Property) dataElement);
-    } else if (MultiLanguageProperty.class.isAssignableFrom(type)) {
-      visit((MultiLanguageProperty) dataElement);
-    } else if (Range.class.isAssignableFrom(type)) {
-      visit((Range) dataElement);
-    } else if (ReferenceElement.class.isAssignableFrom(type)) {
-      visit((ReferenceElement) dataElement);
-    } else if (File.class.isAssignableFrom(type)) {
-      visit((File) dataElement);
-    } else if (Blob.class.isAssignableFrom(type)) {
-      visit((Blob) dataElement);
-    }
+    VisitorDispatch.DATA_ELEMENT.dispatch(this, dataElement);
   }
 
   public default void visit(EventElement event) {
-    if (event == null) {
-      return;
-    }
-    Class<?> type = event.getClass();
-    if (BasicEventElement.class.isAssignableFrom(type)) {
-      visit((BasicEventElement) event);
-    }
+    VisitorDispatch.EVENT_ELEMENT.dispatch(this, event);
   }
 
   public default void visit(HasDataSpecification hasDataSpecification) {
-    if (hasDataSpecification == null) {
-      return;
-    }
-    Class<?> type = hasDataSpecification.getClass();
-    if (AssetAdministrationShell.class.isAssignableFrom(type)) {
-      visit((AssetAdministrationShell) hasDataSpecification);
-    } else if (Submodel.class.isAssignableFrom(type)) {
-      visit((Submodel) hasDataSpecification);
-    } else if (SubmodelElement.class.isAssignableFrom(type)) {
-      visit((SubmodelElement) hasDataSpecification);
-    }
+    VisitorDispatch.HAS_DATA_SPECIFICATION.dispatch(this, hasDataSpecification);
   }
 
   public default void visit(HasExtensions hasExtensions) {
-    if (hasExtensions == null) {
-      return;
-    }
-    Class<?> type = hasExtensions.getClass();
-    if (Referable.class.isAssignableFrom(type)) {
-      visit((Referable) hasExtensions);
-    }
+    VisitorDispatch.HAS_EXTENSIONS.dispatch(this, hasExtensions);
   }
 
   public default void visit(HasKind hasKind) {
-    if (hasKind == null) {
-      return;
-    }
-    Class<?> type = hasKind.getClass();
-    if (Submodel.class.isAssignableFrom(type)) {
-      visit((Submodel) hasKind);
-    }
+    VisitorDispatch.HAS_KIND.dispatch(this, hasKind);
   }
 
   public default void visit(HasSemantics hasSemantics) {
-    if (hasSemantics == null) {
-      return;
-    }
-    Class<?> type = hasSemantics.getClass();
-    if (Extension.class.isAssignableFrom(type)) {
-      visit((Extension) hasSemantics);
-    } else if (SpecificAssetId.class.isAssignableFrom(type)) {
-      visit((SpecificAssetId) hasSemantics);
-    } else if (Submodel.class.isAssignableFrom(type)) {
-      visit((Submodel) hasSemantics);
-    } else if (SubmodelElement.class.isAssignableFrom(type)) {
-      visit((SubmodelElement) hasSemantics);
-    } else if (Qualifier.class.isAssignableFrom(type)) {
-      visit((Qualifier) hasSemantics);
-    }
+    VisitorDispatch.HAS_SEMANTICS.dispatch(this, hasSemantics);
   }
 
   public default void visit(Identifiable identifiable) {
-    if (identifiable == null) {
-      return;
-    }
-    Class<?> type = identifiable.getClass();
-    if (AssetAdministrationShell.class.isAssignableFrom(type)) {
-      visit((AssetAdministrationShell) identifiable);
-    } else if (Submodel.class.isAssignableFrom(type)) {
-      visit((Submodel) identifiable);
-    } else if (ConceptDescription.class.isAssignableFrom(type)) {
-      visit((ConceptDescription) identifiable);
-    }
+    VisitorDispatch.IDENTIFIABLE.dispatch(this, identifiable);
   }
 
   public default void visit(SubmodelElement submodelElement) {
-    if (submodelElement == null) {
-      return;
-    }
-    Class<?> type = submodelElement.getClass();
-    if (RelationshipElement.class.isAssignableFrom(type)) {
-      visit((RelationshipElement) submodelElement);
-    } else if (DataElement.class.isAssignableFrom(type)) {
-      visit((DataElement) submodelElement);
-    } else if (Capability.class.isAssignableFrom(type)) {
-      visit((Capability) submodelElement);
-    } else if (SubmodelElementCollection.class.isAssignableFrom(type)) {
-      visit((SubmodelElementCollection) submodelElement);
-    } else if (SubmodelElementList.class.isAssignableFrom(type)) {
-      visit((SubmodelElementList) submodelElement);
-    } else if (Operation.class.isAssignableFrom(type)) {
-      visit((Operation) submodelElement);
-    } else if (EventElement.class.isAssignableFrom(type)) {
-      visit((EventElement) submodelElement);
-    } else if (Entity.class.isAssignableFrom(type)) {
-      visit((Entity) submodelElement);
-    }
+    VisitorDispatch.SUBMODEL_ELEMENT.dispatch(this, submodelElement);
   }
 
   public default void visit(Qualifiable qualifiable) {
-    if (qualifiable == null) {
-      return;
-    }
-    Class<?> type = qualifiable.getClass();
-    if (Submodel.class.isAssignableFrom(type)) {
-      visit((Submodel) qualifiable);
-    } else if (SubmodelElement.class.isAssignableFrom(type)) {
-      visit((SubmodelElement) qualifiable);
-    }
+    VisitorDispatch.QUALIFIABLE.dispatch(this, qualifiable);
   }
 
   public default void visit(Referable referable) {
-    if (referable == null) {
-      return;
-    }
-    Class<?> type = referable.getClass();
-    if (Identifiable.class.isAssignableFrom(type)) {
-      visit((Identifiable) referable);
-    } else if (SubmodelElement.class.isAssignableFrom(type)) {
-      visit((SubmodelElement) referable);
-    }
+    VisitorDispatch.REFERABLE.dispatch(this, referable);
   }
 
   public default void visit(Environment assetAdministrationShellEnvironment) {}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.visitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+
+/**
+ * Walks an environment in parallel using fork/join tasks. The work is split per submodel and per
+ * chunk of the shells, concept descriptions and the elements of large submodels, submodel element
+ * collections and submodel element lists.
+ *
+ * <p>Every task visits its part of the environment with its own visitor instance created by the
+ * visitor factory, so visitors do not need to be thread-safe. When a task completes, the visitors
+ * of the tasks it forked are merged into its own visitor using the merge function, which finally
+ * yields a single visitor holding the result for the whole environment. Elements visited by
+ * different tasks are visited in no particular order, e.g. a collection may be visited before its
+ * elements have been visited.
+ *
+ * <p>Visitors are implemented by extending {@link TaskVisitor}, which behaves like a sequential
+ * {@link AssetAdministrationShellElementWalkerVisitor} when used outside of a walk.
+ *
+ * @param <V> the type of the visitors
+ */
+public class ParallelEnvironmentWalker<V extends ParallelEnvironmentWalker.TaskVisitor> {
+
+  /** Default number of elements of a single list walked by one task */
+  public static final int DEFAULT_THRESHOLD = 64;
+
+  private final ForkJoinPool pool;
+  private final Supplier<V> visitorFactory;
+  private final BinaryOperator<V> merger;
+  private final int threshold;
+
+  /**
+   * Creates a walker running in the common fork/join pool
+   *
+   * @param visitorFactory creates a new visitor for each task
+   * @param merger merges the visitor of a forked task into the visitor of its parent task and
+   *     returns the merged visitor
+   */
+  public ParallelEnvironmentWalker(Supplier<V> visitorFactory, BinaryOperator<V> merger) {
+    this(ForkJoinPool.commonPool(), visitorFactory, merger, DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Creates a walker
+   *
+   * @param pool the pool to run the tasks in
+   * @param visitorFactory creates a new visitor for each task
+   * @param merger merges the visitor of a forked task into the visitor of its parent task and
+   *     returns the merged visitor
+   * @param threshold the number of elements of a single list walked by one task, lists with more
+   *     elements are split into multiple tasks
+   */
+  public ParallelEnvironmentWalker(
+      ForkJoinPool pool, Supplier<V> visitorFactory, BinaryOperator<V> merger, int threshold) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException("threshold must be positive");
+    }
+    this.pool = Objects.requireNonNull(pool, "pool must be non-null");
+    this.visitorFactory = Objects.requireNonNull(visitorFactory, "visitorFactory must be non-null");
+    this.merger = Objects.requireNonNull(merger, "merger must be non-null");
+    this.threshold = threshold;
+  }
+
+  /**
+   * Walks the given environment
+   *
+   * @param environment the environment to walk
+   * @return the visitor resulting from merging the visitors of all tasks
+   */
+  public V walk(Environment environment) {
+    return pool.invoke(new WalkTask(x -> x.visit(environment)));
+  }
+
+  /**
+   * Walks the given submodel
+   *
+   * @param submodel the submodel to walk
+   * @return the visitor resulting from merging the visitors of all tasks
+   */
+  public V walk(Submodel submodel) {
+    return pool.invoke(new WalkTask(x -> x.visit(submodel)));
+  }
+
+  private final class WalkTask extends RecursiveTask<V> {
+
+    private final Consumer<V> work;
+    private final List<WalkTask> forked = new ArrayList<>();
+
+    private WalkTask(Consumer<V> work) {
+      this.work = work;
+    }
+
+    @Override
+    protected V compute() {
+      V visitor = visitorFactory.get();
+      TaskVisitor taskVisitor = visitor;
+      taskVisitor.task = this;
+      try {
+        work.accept(visitor);
+      } finally {
+        taskVisitor.task = null;
+      }
+      V result = visitor;
+      for (WalkTask task : forked) {
+        result = merger.apply(result, task.join());
+      }
+      return result;
+    }
+
+    private int threshold() {
+      return threshold;
+    }
+
+    private <T> void visitAll(
+        List<T> values, int chunkSize, TaskVisitor visitor, BiConsumer<TaskVisitor, T> action) {
+      if (values.size() <= chunkSize) {
+        values.forEach(x -> action.accept(visitor, x));
+        return;
+      }
+      for (int i = 0; i < values.size(); i += chunkSize) {
+        List<T> chunk = values.subList(i, Math.min(values.size(), i + chunkSize));
+        WalkTask task = new WalkTask(x -> chunk.forEach(y -> action.accept(x, y)));
+        task.fork();
+        forked.add(task);
+      }
+    }
+  }
+
+  /**
+   * Base class for visitors used with a {@link ParallelEnvironmentWalker}. Subclasses override the
+   * visit methods just like for {@link AssetAdministrationShellElementWalkerVisitor} and call the
+   * super method to continue walking. An instance is only used by a single task at a time.
+   */
+  public abstract static class TaskVisitor implements AssetAdministrationShellElementWalkerVisitor {
+
+    private ParallelEnvironmentWalker<?>.WalkTask task;
+
+    @Override
+    public void visit(Environment environment) {
+      if (task == null) {
+        AssetAdministrationShellElementWalkerVisitor.super.visit(environment);
+        return;
+      }
+      if (environment == null) {
+        return;
+      }
+      visitAll(environment.getAssetAdministrationShells(), task.threshold(), (v, x) -> v.visit(x));
+      visitAll(environment.getConceptDescriptions(), task.threshold(), (v, x) -> v.visit(x));
+      visitAll(environment.getSubmodels(), 1, (v, x) -> v.visit(x));
+    }
+
+    @Override
+    public void visit(Submodel submodel) {
+      if (task == null) {
+        AssetAdministrationShellElementWalkerVisitor.super.visit(submodel);
+        return;
+      }
+      if (submodel == null) {
+        return;
+      }
+      visitAll(submodel.getSubmodelElements(), task.threshold(), (v, x) -> v.visit(x));
+    }
+
+    @Override
+    public void visit(SubmodelElementCollection submodelElementCollection) {
+      if (task == null) {
+        AssetAdministrationShellElementWalkerVisitor.super.visit(submodelElementCollection);
+        return;
+      }
+      if (submodelElementCollection == null) {
+        return;
+      }
+      visitAll(submodelElementCollection.getValue(), task.threshold(), (v, x) -> v.visit(x));
+    }
+
+    @Override
+    public void visit(SubmodelElementList submodelElementList) {
+      if (task == null) {
+        AssetAdministrationShellElementWalkerVisitor.super.visit(submodelElementList);
+        return;
+      }
+      if (submodelElementList == null) {
+        return;
+      }
+      visitAll(submodelElementList.getValue(), task.threshold(), (v, x) -> v.visit(x));
+    }
+
+    private <T> void visitAll(List<T> values, int chunkSize, BiConsumer<TaskVisitor, T> action) {
+      if (values != null) {
+        task.visitAll(values, chunkSize, this, action);
+      }
+    }
+  }
+}
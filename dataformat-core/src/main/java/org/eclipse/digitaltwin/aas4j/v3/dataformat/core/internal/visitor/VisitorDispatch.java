@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.visitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.BasicEventElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.Capability;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.EventElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Extension;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.HasDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.HasExtensions;
+import org.eclipse.digitaltwin.aas4j.v3.model.HasKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.HasSemantics;
+import org.eclipse.digitaltwin.aas4j.v3.model.Identifiable;
+import org.eclipse.digitaltwin.aas4j.v3.model.MultiLanguageProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Qualifiable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
+import org.eclipse.digitaltwin.aas4j.v3.model.Range;
+import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.RelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+
+/**
+ * Dispatch tables for the default methods of {@link AssetAdministrationShellElementVisitor} that
+ * delegate an abstract type to the overload of a more specific type. The overload to call is
+ * resolved once per runtime class instead of walking a chain of {@code isAssignableFrom} checks for
+ * every visited element. The cases of each table are checked in the order they are registered, so
+ * the first matching case wins exactly as in an if/else chain.
+ */
+final class VisitorDispatch {
+
+  static final Dispatcher<DataElement> DATA_ELEMENT =
+      new Dispatcher<DataElement>()
+          .on(Property.class, (v, x) -> v.visit(x))
+          .on(MultiLanguageProperty.class, (v, x) -> v.visit(x))
+          .on(Range.class, (v, x) -> v.visit(x))
+          .on(ReferenceElement.class, (v, x) -> v.visit(x))
+          .on(File.class, (v, x) -> v.visit(x))
+          .on(Blob.class, (v, x) -> v.visit(x));
+
+  static final Dispatcher<EventElement> EVENT_ELEMENT =
+      new Dispatcher<EventElement>().on(BasicEventElement.class, (v, x) -> v.visit(x));
+
+  static final Dispatcher<HasDataSpecification> HAS_DATA_SPECIFICATION =
+      new Dispatcher<HasDataSpecification>()
+          .on(AssetAdministrationShell.class, (v, x) -> v.visit(x))
+          .on(Submodel.class, (v, x) -> v.visit(x))
+          .on(SubmodelElement.class, (v, x) -> v.visit(x));
+
+  static final Dispatcher<HasExtensions> HAS_EXTENSIONS =
+      new Dispatcher<HasExtensions>().on(Referable.class, (v, x) -> v.visit(x));
+
+  static final Dispatcher<HasKind> HAS_KIND =
+      new Dispatcher<HasKind>().on(Submodel.class, (v, x) -> v.visit(x));
+
+  static final Dispatcher<HasSemantics> HAS_SEMANTICS =
+      new Dispatcher<HasSemantics>()
+          .on(Extension.class, (v, x) -> v.visit(x))
+          .on(SpecificAssetId.class, (v, x) -> v.visit(x))
+          .on(Submodel.class, (v, x) -> v.visit(x))
+          .on(SubmodelElement.class, (v, x) -> v.visit(x))
+          .on(Qualifier.class, (v, x) -> v.visit(x));
+
+  static final Dispatcher<Identifiable> IDENTIFIABLE =
+      new Dispatcher<Identifiable>()
+          .on(AssetAdministrationShell.class, (v, x) -> v.visit(x))
+          .on(Submodel.class, (v, x) -> v.visit(x))
+          .on(ConceptDescription.class, (v, x) -> v.visit(x));
+
+  static final Dispatcher<SubmodelElement> SUBMODEL_ELEMENT =
+      new Dispatcher<SubmodelElement>()
+          .on(RelationshipElement.class, (v, x) -> v.visit(x))
+          .on(DataElement.class, (v, x) -> v.visit(x))
+          .on(Capability.class, (v, x) -> v.visit(x))
+          .on(SubmodelElementCollection.class, (v, x) -> v.visit(x))
+          .on(SubmodelElementList.class, (v, x) -> v.visit(x))
+          .on(Operation.class, (v, x) -> v.visit(x))
+          .on(EventElement.class, (v, x) -> v.visit(x))
+          .on(Entity.class, (v, x) -> v.visit(x));
+
+  static final Dispatcher<Qualifiable> QUALIFIABLE =
+      new Dispatcher<Qualifiable>()
+          .on(Submodel.class, (v, x) -> v.visit(x))
+          .on(SubmodelElement.class, (v, x) -> v.visit(x));
+
+  static final Dispatcher<Referable> REFERABLE =
+      new Dispatcher<Referable>()
+          .on(Identifiable.class, (v, x) -> v.visit(x))
+          .on(SubmodelElement.class, (v, x) -> v.visit(x));
+
+  private VisitorDispatch() {}
+
+  /**
+   * Maps the runtime class of an element of the abstract type {@code T} to the visitor overload of
+   * the first registered case it is assignable to. Classes without a matching case are mapped to a
+   * handler doing nothing.
+   *
+   * @param <T> the abstract type dispatched by this table
+   */
+  static final class Dispatcher<T>
+      extends ClassValue<BiConsumer<AssetAdministrationShellElementVisitor, T>> {
+
+    private final BiConsumer<AssetAdministrationShellElementVisitor, T> noop = (v, x) -> {};
+    private final List<Class<?>> types = new ArrayList<>();
+    private final List<BiConsumer<AssetAdministrationShellElementVisitor, T>> handlers =
+        new ArrayList<>();
+
+    @SuppressWarnings("unchecked")
+    private <S extends T> Dispatcher<T> on(
+        Class<S> type, BiConsumer<AssetAdministrationShellElementVisitor, S> handler) {
+      types.add(type);
+      handlers.add((BiConsumer<AssetAdministrationShellElementVisitor, T>) handler);
+      return this;
+    }
+
+    void dispatch(AssetAdministrationShellElementVisitor visitor, T element) {
+      if (element == null) {
+        return;
+      }
+      get(element.getClass()).accept(visitor, element);
+    }
+
+    @Override
+    protected BiConsumer<AssetAdministrationShellElementVisitor, T> computeValue(Class<?> type) {
+      for (int i = 0; i < types.size(); i++) {
+        if (types.get(i).isAssignableFrom(type)) {
+          return handlers.get(i);
+        }
+      }
+      return noop;
+    }
+  }
+}
@@ -15,26 +15,35 @@
  */
 package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.deserialization.EnumDeserializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.serialization.EnumSerializer;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.GetChildrenVisitor;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.GetIdentifierVisitor;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.HasSemantics;
 import org.eclipse.digitaltwin.aas4j.v3.model.Identifiable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Key;
 import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
 
 /** Provides utility functions related to AAS */
@@ -44,6 +53,19 @@ public class AasUtils {
           ReferenceTypes.EXTERNAL_REFERENCE, "ExternalRef",
           ReferenceTypes.MODEL_REFERENCE, "ModelRef");
 
+  private static final ClassValue<KeyTypes> KEY_TYPES =
+      new ClassValue<>() {
+        @Override
+        protected KeyTypes computeValue(Class<?> type) {
+          Class<?> aasInterface = ReflectionHelper.getAasInterface(type);
+          if (aasInterface != null) {
+            return KeyTypes.valueOf(
+                EnumDeserializer.deserializeEnumName(aasInterface.getSimpleName()));
+          }
+          return null;
+        }
+      };
+
   private AasUtils() {}
 
   /**
@@ -309,11 +331,72 @@ public static Reference toReference(
    *     KeyElements type
    */
   public static KeyTypes referableToKeyType(Referable referable) {
-    Class<?> aasInterface = ReflectionHelper.getAasInterface(referable.getClass());
-    if (aasInterface != null) {
-      return KeyTypes.valueOf(EnumDeserializer.deserializeEnumName(aasInterface.getSimpleName()));
+    return KEY_TYPES.get(referable.getClass());
+  }
+
+  /**
+   * Creates references for a submodel and all submodel elements contained in it, including the
+   * elements of nested collections and lists, the statements of entities, the annotations of
+   * annotated relationship elements and the values of operation variables, and passes each element
+   * together with its reference to the given consumer. Elements are passed in depth-first order
+   * starting with the submodel itself. The submodel is walked only once and the references of all
+   * children of an element share the key instances of the reference of that element, therefore
+   * neither the references nor their keys must be modified. Elements of a {@link
+   * SubmodelElementList} are addressed by their index.
+   *
+   * @param submodel the submodel to create the references for
+   * @param referenceType implementation type of Reference interface
+   * @param keyType implementation type of Key interface
+   * @param consumer the consumer receiving each element and its reference
+   */
+  public static void forEachReference(
+      Submodel submodel,
+      Class<? extends Reference> referenceType,
+      Class<? extends Key> keyType,
+      BiConsumer<? super Referable, ? super Reference> consumer) {
+    if (submodel == null) {
+      return;
+    }
+    try {
+      new ReferenceWalker(referenceType, keyType, consumer).walk(submodel);
+    } catch (NoSuchMethodException
+        | SecurityException
+        | InstantiationException
+        | IllegalAccessException
+        | IllegalArgumentException
+        | InvocationTargetException ex) {
+      throw new IllegalArgumentException(
+          "error parsing reference - could not instantiate reference type", ex);
     }
-    return null;
+  }
+
+  /**
+   * Creates references for a submodel and all submodel elements contained in it, see {@link
+   * #forEachReference(Submodel, Class, Class, BiConsumer)}
+   *
+   * @param submodel the submodel to create the references for
+   * @param consumer the consumer receiving each element and its reference
+   */
+  public static void forEachReference(
+      Submodel submodel, BiConsumer<? super Referable, ? super Reference> consumer) {
+    forEachReference(
+        submodel,
+        ReflectionHelper.getDefaultImplementation(Reference.class),
+        ReflectionHelper.getDefaultImplementation(Key.class),
+        consumer);
+  }
+
+  /**
+   * Creates references for a submodel and all submodel elements contained in it, see {@link
+   * #forEachReference(Submodel, Class, Class, BiConsumer)}
+   *
+   * @param submodel the submodel to create the references for
+   * @return the references in depth-first order starting with the reference to the submodel itself
+   */
+  public static List<Reference> toReferences(Submodel submodel) {
+    List<Reference> result = new ArrayList<>();
+    forEachReference(submodel, (x, y) -> result.add(y));
+    return result;
   }
 
   /**
@@ -433,57 +516,27 @@ public static Referable resolve(Reference reference, Environment env) {
    *     null
    * @throws IllegalArgumentException if something goes wrong while resolving
    */
-  @SuppressWarnings("unchecked")
   public static <T extends Referable> T resolve(
       Reference reference, Environment env, Class<T> type) {
     if (reference == null || reference.getKeys() == null || reference.getKeys().isEmpty()) {
       return null;
     }
-    GetChildrenVisitor findChildrenVisitor = new GetChildrenVisitor(env);
-    findChildrenVisitor.visit(env);
-    Referable current = null;
-    for (int i = 0; i < reference.getKeys().size(); i++) {
-      Key key = reference.getKeys().get(i);
-      try {
-        int index = Integer.parseInt(key.getValue());
-        if (Objects.isNull(current)
-            || !SubmodelElementList.class.isAssignableFrom(current.getClass())) {
-          throw new IllegalArgumentException(
-              "reference uses index notation on an element that is not a SubmodelElementList");
-        }
-        List<SubmodelElement> list = ((SubmodelElementList) current).getValue();
-        if (list.size() <= index) {
-          throw new IllegalArgumentException(
-              String.format(
-                  "index notation out of bounds (list size: %s, requested index: %s)",
-                  list.size(), index));
-        }
-        current = list.get(index);
-      } catch (NumberFormatException e) {
-        current =
-            findChildrenVisitor.getChildren().stream()
-                .filter(x -> Objects.equals(key.getValue(), GetIdentifierVisitor.getIdentifier(x)))
-                .findFirst()
-                .orElseThrow(
-                    () ->
-                        new IllegalArgumentException(
-                            String.format(
-                                "unable to resolve reference '%s' as element '%s' does not exist",
-                                asString(reference), key.getValue())));
-      }
-      findChildrenVisitor.reset();
-      findChildrenVisitor.visit(current);
-    }
-    if (current == null) {
-      return null;
-    }
-    if (!type.isAssignableFrom(current.getClass())) {
-      throw new IllegalArgumentException(
-          String.format(
-              "reference '%s' could not be resolved as target type is not assignable from actual type (target: %s, actual: %s)",
-              asString(reference), type.getName(), current.getClass().getName()));
-    }
-    return type.cast(current);
+    return new EnvironmentIndex(env).resolve(reference, type);
+  }
+
+  /**
+   * Resolves multiple References within an AssetAdministrationShellEnvironment. The environment is
+   * indexed only once, therefore this is considerably faster than calling {@link
+   * #resolve(Reference, Environment)} for each reference. For repeated resolution against the same
+   * environment, consider creating and keeping an {@link EnvironmentIndex} instead.
+   *
+   * @param references The references to resolve
+   * @param env The AssetAdministrationShellEnvironment to resolve the references against
+   * @return the resolved elements in the same order as the given references
+   * @throws IllegalArgumentException if something goes wrong while resolving any of the references
+   */
+  public static List<Referable> resolveAll(Collection<Reference> references, Environment env) {
+    return new EnvironmentIndex(env).resolveAll(references);
   }
 
   private static Reference handleReferredSemanticId(
@@ -494,4 +547,91 @@ private static Reference handleReferredSemanticId(
 
     return reference;
   }
+
+  /**
+   * Creates model references to all elements of a submodel in a single walk. The keys of a parent
+   * reference are shared by the references of its children instead of being copied per element.
+   */
+  private static class ReferenceWalker {
+
+    private final Constructor<? extends Reference> referenceConstructor;
+    private final Constructor<? extends Key> keyConstructor;
+    private final BiConsumer<? super Referable, ? super Reference> consumer;
+
+    private ReferenceWalker(
+        Class<? extends Reference> referenceType,
+        Class<? extends Key> keyType,
+        BiConsumer<? super Referable, ? super Reference> consumer)
+        throws NoSuchMethodException {
+      this.referenceConstructor = referenceType.getConstructor();
+      this.keyConstructor = keyType.getConstructor();
+      this.consumer = consumer;
+    }
+
+    private void walk(Submodel submodel)
+        throws InstantiationException, IllegalAccessException, InvocationTargetException {
+      Key[] keys = {newKey(submodel, submodel.getId())};
+      consumer.accept(submodel, newReference(keys));
+      walk(submodel.getSubmodelElements(), keys, false);
+    }
+
+    private void walk(List<? extends SubmodelElement> elements, Key[] parentKeys, boolean indexed)
+        throws InstantiationException, IllegalAccessException, InvocationTargetException {
+      if (elements == null) {
+        return;
+      }
+      for (int i = 0; i < elements.size(); i++) {
+        SubmodelElement element = elements.get(i);
+        if (element == null) {
+          continue;
+        }
+        Key[] keys = Arrays.copyOf(parentKeys, parentKeys.length + 1);
+        keys[parentKeys.length] =
+            newKey(element, indexed ? Integer.toString(i) : element.getIdShort());
+        consumer.accept(element, newReference(keys));
+        if (element instanceof SubmodelElementCollection) {
+          walk(((SubmodelElementCollection) element).getValue(), keys, false);
+        } else if (element instanceof SubmodelElementList) {
+          walk(((SubmodelElementList) element).getValue(), keys, true);
+        } else if (element instanceof Entity) {
+          walk(((Entity) element).getStatements(), keys, false);
+        } else if (element instanceof AnnotatedRelationshipElement) {
+          walk(((AnnotatedRelationshipElement) element).getAnnotations(), keys, false);
+        } else if (element instanceof Operation) {
+          Operation operation = (Operation) element;
+          walkVariables(operation.getInputVariables(), keys);
+          walkVariables(operation.getOutputVariables(), keys);
+          walkVariables(operation.getInoutputVariables(), keys);
+        }
+      }
+    }
+
+    private void walkVariables(List<OperationVariable> variables, Key[] parentKeys)
+        throws InstantiationException, IllegalAccessException, InvocationTargetException {
+      if (variables == null) {
+        return;
+      }
+      List<SubmodelElement> values = new ArrayList<>(variables.size());
+      for (OperationVariable variable : variables) {
+        values.add(variable != null ? variable.getValue() : null);
+      }
+      walk(values, parentKeys, false);
+    }
+
+    private Key newKey(Referable referable, String value)
+        throws InstantiationException, IllegalAccessException, InvocationTargetException {
+      Key key = keyConstructor.newInstance();
+      key.setType(referableToKeyType(referable));
+      key.setValue(value);
+      return key;
+    }
+
+    private Reference newReference(Key[] keys)
+        throws InstantiationException, IllegalAccessException, InvocationTargetException {
+      Reference reference = referenceConstructor.newInstance();
+      reference.setType(ReferenceTypes.MODEL_REFERENCE);
+      reference.setKeys(Collections.unmodifiableList(Arrays.asList(keys)));
+      return reference;
+    }
+  }
 }
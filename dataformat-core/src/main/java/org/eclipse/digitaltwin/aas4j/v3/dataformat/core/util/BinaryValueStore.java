@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Hook to keep large binary values of the model, i.e. {@code Blob.value} and {@code
+ * EventPayload.payload}, out of the heap while de-/serializing. When reading a document, the
+ * decoded content of each binary value is handed to {@link #store(ContentWriter)} and the model
+ * receives the returned value instead, which is either the content itself or a handle created by
+ * the store. When writing a document, handles are recognized by {@link #contains(byte[])} and their
+ * content is streamed from {@link #open(byte[])}. Handles start with {@link #HANDLE_PREFIX}, so
+ * that a handle written by a serializer without the store that created it fails instead of silently
+ * replacing the content.
+ *
+ * <p>Implementations must be thread-safe if used with a deserializer or serializer that is shared
+ * between threads.
+ */
+public interface BinaryValueStore {
+
+  /** Prefix of all handles created by stores */
+  String HANDLE_PREFIX = "\0aas4j-binary-value:";
+
+  /**
+   * Returns whether the given value of the model is a handle created by any store, see {@link
+   * #HANDLE_PREFIX}
+   *
+   * @param value the value of the model
+   * @return whether the value is a handle
+   */
+  static boolean isHandle(byte[] value) {
+    if (value == null || value.length < HANDLE_PREFIX.length()) {
+      return false;
+    }
+    for (int i = 0; i < HANDLE_PREFIX.length(); i++) {
+      if (value[i] != (byte) HANDLE_PREFIX.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Stores a binary value read from a document
+   *
+   * @param content writes the decoded content of the value, must be invoked exactly once
+   * @return the value to set in the model, either the content itself or a handle to it, which must
+   *     start with {@link #HANDLE_PREFIX}
+   * @throws IOException if reading or storing the content fails
+   */
+  byte[] store(ContentWriter content) throws IOException;
+
+  /**
+   * Returns whether the given value of the model is a handle created by this store
+   *
+   * @param value the value of the model
+   * @return whether the value is a handle created by this store
+   */
+  boolean contains(byte[] value);
+
+  /**
+   * Returns the size of the content referenced by the given handle
+   *
+   * @param handle a handle created by this store
+   * @return the size of the content in bytes
+   * @throws IOException if the content is not available
+   */
+  long size(byte[] handle) throws IOException;
+
+  /**
+   * Opens the content referenced by the given handle
+   *
+   * @param handle a handle created by this store
+   * @return the content, to be closed by the caller
+   * @throws IOException if the content is not available
+   */
+  InputStream open(byte[] handle) throws IOException;
+
+  /** Writes the decoded content of a binary value to a stream provided by the store. */
+  @FunctionalInterface
+  interface ContentWriter {
+
+    /**
+     * Writes the content to the given stream
+     *
+     * @param out the stream to write to, which is not closed by this method
+     * @throws IOException if reading or writing the content fails
+     */
+    void writeTo(OutputStream out) throws IOException;
+  }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Identifiable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+
+/**
+ * Lookup index over an {@link Environment} that allows resolving references in time proportional to
+ * the number of keys instead of scanning the element tree for every key.
+ *
+ * <p>Identifiables are indexed when the index is created. Child maps of shells, submodels,
+ * collections, lists, entities, annotated relationship elements and operations are built lazily on
+ * first access and cached afterwards. The index reflects the state of the environment at the time
+ * the respective part has been indexed, i.e. it must be re-created if the environment is modified.
+ * Instances are safe to be shared across threads as long as the underlying environment is not
+ * modified.
+ */
+public class EnvironmentIndex {
+
+  private final Map<String, Identifiable> identifiables = new HashMap<>();
+  private final Map<String, Submodel> submodels = new HashMap<>();
+  private final Map<Referable, Map<String, Referable>> children = new IdentityHashMap<>();
+
+  /**
+   * Creates a new index for the given environment
+   *
+   * @param environment the environment to index
+   */
+  public EnvironmentIndex(Environment environment) {
+    Objects.requireNonNull(environment, "environment must be non-null");
+    addAll(identifiables, environment.getAssetAdministrationShells());
+    addAll(identifiables, environment.getConceptDescriptions());
+    addAll(identifiables, environment.getSubmodels());
+    addAll(submodels, environment.getSubmodels());
+  }
+
+  /**
+   * Returns the identifiable with the given id
+   *
+   * @param id the id of the identifiable
+   * @return the identifiable or null if no top-level element with given id exists
+   */
+  public Identifiable getIdentifiable(String id) {
+    return identifiables.get(id);
+  }
+
+  /**
+   * Returns the submodel with the given id
+   *
+   * @param id the id of the submodel
+   * @return the submodel or null if no submodel with given id exists
+   */
+  public Submodel getSubmodel(String id) {
+    return submodels.get(id);
+  }
+
+  /**
+   * Returns the direct child of a container element with the given identifier. Children of an
+   * {@link AssetAdministrationShell} are the submodels it references, children of a {@link
+   * Submodel}, {@link SubmodelElementCollection} and {@link SubmodelElementList} are the contained
+   * submodel elements identified by their idShort.
+   *
+   * @param parent the container element
+   * @param identifier the id or idShort of the child
+   * @return the child or null if there is no such child
+   */
+  public Referable getChild(Referable parent, String identifier) {
+    return getChildren(parent).get(identifier);
+  }
+
+  /**
+   * Returns the submodel element addressed by an idShort path within a submodel, e.g. {@code
+   * collection.list[2].property}
+   *
+   * @param submodelId the id of the submodel
+   * @param idShortPath the idShort path relative to the submodel
+   * @return the submodel element or null if the path could not be resolved
+   */
+  public SubmodelElement getSubmodelElement(String submodelId, String idShortPath) {
+    Referable current = getSubmodel(submodelId);
+    if (current == null || idShortPath == null || idShortPath.isEmpty()) {
+      return null;
+    }
+    for (String segment : idShortPath.split("\\.")) {
+      int bracket = segment.indexOf('[');
+      String idShort = bracket < 0 ? segment : segment.substring(0, bracket);
+      current = getChild(current, idShort);
+      while (current != null && bracket >= 0) {
+        int end = segment.indexOf(']', bracket);
+        if (end < 0 || !(current instanceof SubmodelElementList)) {
+          return null;
+        }
+        current =
+            getListElement((SubmodelElementList) current, segment.substring(bracket + 1, end));
+        bracket = segment.indexOf('[', end);
+      }
+      if (current == null) {
+        return null;
+      }
+    }
+    return current instanceof SubmodelElement ? (SubmodelElement) current : null;
+  }
+
+  /**
+   * Resolves a Reference and returns the targeted object if available, null otherwise
+   *
+   * @param reference The reference to resolve
+   * @return returns the targeted element if the reference could successfully be resolved, otherwise
+   *     null
+   * @throws IllegalArgumentException if something goes wrong while resolving
+   */
+  public Referable resolve(Reference reference) {
+    return resolve(reference, Referable.class);
+  }
+
+  /**
+   * Resolves a Reference and returns the targeted object if available, null otherwise
+   *
+   * @param <T> sub-type of Referable of the targeted type. If unknown use Referable.class
+   * @param reference The reference to resolve
+   * @param type desired return type, use Referable.class is unknwon/not needed
+   * @return returns an instance of T if the reference could successfully be resolved, otherwise
+   *     null
+   * @throws IllegalArgumentException if something goes wrong while resolving
+   */
+  public <T extends Referable> T resolve(Reference reference, Class<T> type) {
+    if (reference == null || reference.getKeys() == null || reference.getKeys().isEmpty()) {
+      return null;
+    }
+    Referable current = null;
+    for (Key key : reference.getKeys()) {
+      Integer index = parseIndex(key.getValue());
+      if (index != null) {
+        if (!(current instanceof SubmodelElementList)) {
+          throw new IllegalArgumentException(
+              "reference uses index notation on an element that is not a SubmodelElementList");
+        }
+        List<SubmodelElement> list = ((SubmodelElementList) current).getValue();
+        if (index < 0 || list.size() <= index) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "index notation out of bounds (list size: %s, requested index: %s)",
+                  list.size(), index));
+        }
+        current = list.get(index);
+      } else {
+        Referable child =
+            current == null ? identifiables.get(key.getValue()) : getChild(current, key.getValue());
+        if (child == null) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "unable to resolve reference '%s' as element '%s' does not exist",
+                  AasUtils.asString(reference), key.getValue()));
+        }
+        current = child;
+      }
+    }
+    if (current == null) {
+      return null;
+    }
+    if (!type.isAssignableFrom(current.getClass())) {
+      throw new IllegalArgumentException(
+          String.format(
+              "reference '%s' could not be resolved as target type is not assignable from actual type (target: %s, actual: %s)",
+              AasUtils.asString(reference), type.getName(), current.getClass().getName()));
+    }
+    return type.cast(current);
+  }
+
+  /**
+   * Resolves multiple references at once
+   *
+   * @param references the references to resolve
+   * @return the resolved elements in the same order as the given references
+   * @throws IllegalArgumentException if something goes wrong while resolving any of the references
+   */
+  public List<Referable> resolveAll(Collection<Reference> references) {
+    List<Referable> result = new ArrayList<>(references.size());
+    for (Reference reference : references) {
+      result.add(resolve(reference));
+    }
+    return result;
+  }
+
+  private Map<String, Referable> getChildren(Referable parent) {
+    if (!isContainer(parent)) {
+      return Collections.emptyMap();
+    }
+    synchronized (children) {
+      return children.computeIfAbsent(parent, this::indexChildren);
+    }
+  }
+
+  private Map<String, Referable> indexChildren(Referable parent) {
+    Map<String, Referable> result = new HashMap<>();
+    if (parent instanceof AssetAdministrationShell) {
+      List<Reference> submodelRefs = ((AssetAdministrationShell) parent).getSubmodels();
+      if (submodelRefs != null) {
+        for (Reference submodelRef : submodelRefs) {
+          if (submodelRef == null
+              || submodelRef.getKeys() == null
+              || submodelRef.getKeys().isEmpty()) {
+            continue;
+          }
+          String id = submodelRef.getKeys().get(submodelRef.getKeys().size() - 1).getValue();
+          Submodel submodel = submodels.get(id);
+          if (submodel != null) {
+            result.putIfAbsent(id, submodel);
+          }
+        }
+      }
+    } else if (parent instanceof Submodel) {
+      addAll(result, ((Submodel) parent).getSubmodelElements());
+    } else if (parent instanceof SubmodelElementCollection) {
+      addAll(result, ((SubmodelElementCollection) parent).getValue());
+    } else if (parent instanceof SubmodelElementList) {
+      addAll(result, ((SubmodelElementList) parent).getValue());
+    } else if (parent instanceof Entity) {
+      addAll(result, ((Entity) parent).getStatements());
+    } else if (parent instanceof AnnotatedRelationshipElement) {
+      addAll(result, ((AnnotatedRelationshipElement) parent).getAnnotations());
+    } else if (parent instanceof Operation) {
+      Operation operation = (Operation) parent;
+      addVariables(result, operation.getInputVariables());
+      addVariables(result, operation.getOutputVariables());
+      addVariables(result, operation.getInoutputVariables());
+    }
+    return result;
+  }
+
+  private static boolean isContainer(Referable referable) {
+    return referable instanceof AssetAdministrationShell
+        || referable instanceof Submodel
+        || referable instanceof SubmodelElementCollection
+        || referable instanceof SubmodelElementList
+        || referable instanceof Entity
+        || referable instanceof AnnotatedRelationshipElement
+        || referable instanceof Operation;
+  }
+
+  private static SubmodelElement getListElement(SubmodelElementList list, String value) {
+    Integer index = parseIndex(value);
+    if (index == null || index < 0 || list.getValue() == null || list.getValue().size() <= index) {
+      return null;
+    }
+    return list.getValue().get(index);
+  }
+
+  private static Integer parseIndex(String value) {
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static <T extends Referable> void addAll(
+      Map<String, ? super T> map, Collection<? extends T> elements) {
+    if (elements == null) {
+      return;
+    }
+    for (T element : elements) {
+      if (element != null) {
+        map.putIfAbsent(getIdentifier(element), element);
+      }
+    }
+  }
+
+  private static void addVariables(
+      Map<String, Referable> map, Collection<OperationVariable> variables) {
+    if (variables == null) {
+      return;
+    }
+    for (OperationVariable variable : variables) {
+      if (variable != null && variable.getValue() != null) {
+        map.putIfAbsent(getIdentifier(variable.getValue()), variable.getValue());
+      }
+    }
+  }
+
+  private static String getIdentifier(Referable referable) {
+    if (referable instanceof Identifiable) {
+      return ((Identifiable) referable).getId();
+    }
+    return referable.getIdShort();
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link BinaryValueStore} keeping binary values larger than a threshold in files of a directory.
+ * Smaller values are kept in the model as usual. The handles set in the model for externalized
+ * values consist of {@link BinaryValueStore#HANDLE_PREFIX}, an id of the store and an id of the
+ * value, so copies of a handle are recognized as well while handles of other stores are rejected.
+ * Files are kept until the store is closed, which deletes all files created by it.
+ */
+public class FileBinaryValueStore implements BinaryValueStore, Closeable {
+
+  /** Default size in bytes above which values are stored in files */
+  public static final int DEFAULT_THRESHOLD = 1024 * 1024;
+
+  private final Path directory;
+  private final int threshold;
+  private final String handlePrefix = HANDLE_PREFIX + UUID.randomUUID() + "/";
+  private final AtomicLong nextId = new AtomicLong();
+  private final Map<String, Path> files = new ConcurrentHashMap<>();
+  private volatile boolean closed;
+
+  /**
+   * Creates a store using {@link #DEFAULT_THRESHOLD}
+   *
+   * @param directory the directory to create the files in
+   */
+  public FileBinaryValueStore(Path directory) {
+    this(directory, DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Creates a store
+   *
+   * @param directory the directory to create the files in
+   * @param threshold size in bytes above which values are stored in files
+   */
+  public FileBinaryValueStore(Path directory, int threshold) {
+    this.directory = directory;
+    this.threshold = threshold;
+  }
+
+  @Override
+  public byte[] store(ContentWriter content) throws IOException {
+    if (closed) {
+      throw new IOException("binary value store has been closed");
+    }
+    ThresholdOutputStream out = new ThresholdOutputStream();
+    try {
+      content.writeTo(out);
+      out.close();
+      if (out.file == null) {
+        return out.buffer.toByteArray();
+      }
+      String handle = handlePrefix + nextId.incrementAndGet();
+      files.put(handle, out.file);
+      if (closed) {
+        // closed concurrently, so close() may have missed the file
+        files.remove(handle);
+        throw new IOException("binary value store has been closed");
+      }
+      return handle.getBytes(StandardCharsets.ISO_8859_1);
+    } catch (Throwable e) {
+      try {
+        out.discard();
+      } catch (IOException suppressed) {
+        e.addSuppressed(suppressed);
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean contains(byte[] value) {
+    String handle = toHandle(value);
+    return handle != null && files.containsKey(handle);
+  }
+
+  @Override
+  public long size(byte[] handle) throws IOException {
+    return Files.size(getFile(handle));
+  }
+
+  @Override
+  public InputStream open(byte[] handle) throws IOException {
+    return Files.newInputStream(getFile(handle));
+  }
+
+  /**
+   * Returns the file containing the content referenced by the given handle
+   *
+   * @param handle a handle created by this store
+   * @return the file
+   * @throws IOException if the handle has not been created by this store or the store has been
+   *     closed
+   */
+  public Path getFile(byte[] handle) throws IOException {
+    if (!BinaryValueStore.isHandle(handle)) {
+      throw new IOException("not a binary value handle");
+    }
+    String name = toHandle(handle);
+    if (name == null) {
+      throw new IOException("binary value handle of another store");
+    }
+    Path result = files.get(name);
+    if (result == null) {
+      throw new IOException("unknown binary value handle, the store may have been closed");
+    }
+    return result;
+  }
+
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    IOException exception = null;
+    for (String handle : files.keySet()) {
+      Path file = files.remove(handle);
+      try {
+        if (file != null) {
+          Files.deleteIfExists(file);
+        }
+      } catch (IOException e) {
+        exception = e;
+      }
+    }
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  private String toHandle(byte[] value) {
+    if (value == null || value.length <= handlePrefix.length()) {
+      return null;
+    }
+    for (int i = 0; i < handlePrefix.length(); i++) {
+      if (value[i] != (byte) handlePrefix.charAt(i)) {
+        return null;
+      }
+    }
+    return new String(value, StandardCharsets.ISO_8859_1);
+  }
+
+  /** Buffers the content in memory until the threshold is exceeded and then moves it to a file. */
+  private class ThresholdOutputStream extends OutputStream {
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private Path file;
+    private OutputStream fileOut;
+
+    @Override
+    public void write(int b) throws IOException {
+      target(1).write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      target(len).write(b, off, len);
+    }
+
+    private OutputStream target(int len) throws IOException {
+      if (fileOut != null) {
+        return fileOut;
+      }
+      if (buffer.size() + len <= threshold) {
+        return buffer;
+      }
+      file = Files.createTempFile(directory, "blob", ".bin");
+      fileOut = Files.newOutputStream(file);
+      buffer.writeTo(fileOut);
+      buffer = null;
+      return fileOut;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (fileOut != null) {
+        fileOut.close();
+      }
+    }
+
+    /** Closes this stream and deletes the file if it has been created, e.g. after a failure. */
+    private void discard() throws IOException {
+      try {
+        close();
+      } finally {
+        if (file != null) {
+          Files.deleteIfExists(file);
+        }
+      }
+    }
+  }
+}
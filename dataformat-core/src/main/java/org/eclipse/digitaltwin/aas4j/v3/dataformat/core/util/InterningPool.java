@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
+import org.eclipse.digitaltwin.aas4j.v3.model.AbstractLangString;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.frozen.Freezer;
+
+/**
+ * Bounded pool of canonical instances of values that typically occur many times within an
+ * environment, i.e. {@link Reference}, {@link Key} and {@link AbstractLangString} values as well as
+ * the Strings they contain. Deserializers configured with a pool replace every such value by its
+ * canonical instance, so that equal semantic IDs, keys and descriptions are kept in memory only
+ * once.
+ *
+ * <p>Canonical instances are shared by all elements referring to them, so the pool holds frozen
+ * copies created by {@link Freezer}, which reject any modification. Like all frozen elements, they
+ * have the same hash code as equal values of the default implementations but are not equal to them,
+ * i.e. elements containing canonical instances only equal elements containing equal frozen values;
+ * freeze both sides to compare them with elements read without a pool. To modify an element
+ * referring to a canonical instance, replace the instance instead. Once the pool holds the maximum
+ * number of values, values not yet contained are no longer added but returned as they are.
+ * Instances are thread-safe and may be shared across deserializers.
+ */
+public class InterningPool {
+
+  /** Default maximum number of values held by a pool */
+  public static final int DEFAULT_MAX_SIZE = 100_000;
+
+  private static final ClassValue<List<Property>> PROPERTIES =
+      new ClassValue<>() {
+        @Override
+        protected List<Property> computeValue(Class<?> type) {
+          return findProperties(type);
+        }
+      };
+
+  private final int maxSize;
+  private final ConcurrentHashMap<Object, Object> values = new ConcurrentHashMap<>();
+
+  /** Creates a pool holding at most {@link #DEFAULT_MAX_SIZE} values */
+  public InterningPool() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Creates a pool
+   *
+   * @param maxSize the maximum number of values held by the pool
+   */
+  public InterningPool(int maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("maxSize must not be negative");
+    }
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the canonical instance of the given String. If the pool does not contain an equal
+   * String yet, the given String becomes the canonical instance unless the pool is full.
+   *
+   * @param value the value
+   * @return the canonical instance equal to the given value or the value itself
+   */
+  public String intern(String value) {
+    return (String) internValue(value);
+  }
+
+  /**
+   * Returns the canonical instance of the given reference, see {@link #internAll(Object)}.
+   *
+   * @param value the value
+   * @return the frozen canonical instance equal to a frozen copy of the given value, or the value
+   *     itself if the pool is full
+   */
+  public Reference intern(Reference value) {
+    return (Reference) internObject(value);
+  }
+
+  /**
+   * Returns the canonical instance of the given key, see {@link #internAll(Object)}.
+   *
+   * @param value the value
+   * @return the frozen canonical instance equal to a frozen copy of the given value, or the value
+   *     itself if the pool is full
+   */
+  public Key intern(Key value) {
+    return (Key) internObject(value);
+  }
+
+  /**
+   * Returns the canonical instance of the given lang string, see {@link #internAll(Object)}.
+   *
+   * @param value the value
+   * @return the frozen canonical instance equal to a frozen copy of the given value, or the value
+   *     itself if the pool is full
+   */
+  public AbstractLangString intern(AbstractLangString value) {
+    return (AbstractLangString) internObject(value);
+  }
+
+  /**
+   * Replaces all {@link Reference}, {@link Key} and {@link AbstractLangString} values contained in
+   * the given element and its children by their canonical instances. The Strings of these values
+   * are replaced by their canonical instances before the values are frozen. The element is modified
+   * in place, frozen elements other than these values are left as they are. As canonical instances
+   * are not instances of the default implementations, the element and the lists it contains must be
+   * typed by the model interfaces.
+   *
+   * @param <T> the type of the element, e.g. {@link Reference} but not a class implementing it
+   * @param element the element, e.g. an environment
+   * @return the given element or its canonical instance if it is a value held by the pool itself
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T internAll(T element) {
+    return (T) internObject(element);
+  }
+
+  /**
+   * Returns the number of values held by the pool
+   *
+   * @return the number of values held by the pool
+   */
+  public int size() {
+    return values.size();
+  }
+
+  /** Removes all values from the pool */
+  public void clear() {
+    values.clear();
+  }
+
+  private Object internObject(Object value) {
+    if (value instanceof List) {
+      internList((List<?>) value);
+      return value;
+    }
+    if (value == null || !isModelType(value.getClass())) {
+      return value;
+    }
+    boolean canonicalizable = isCanonicalizable(value);
+    if (Freezer.isFrozen(value)) {
+      return canonicalizable ? internValue(value) : value;
+    }
+    for (Property property : PROPERTIES.get(value.getClass())) {
+      Object current = property.get(value);
+      if (current == null) {
+        continue;
+      }
+      Object replacement;
+      if (current instanceof String) {
+        replacement = canonicalizable ? internValue(current) : current;
+      } else {
+        replacement = internObject(current);
+      }
+      if (replacement != current) {
+        property.set(value, replacement);
+      }
+    }
+    if (!canonicalizable) {
+      return value;
+    }
+    Object result = canonical(freeze(value));
+    return result != null ? result : value;
+  }
+
+  private Object internValue(Object value) {
+    if (value == null) {
+      return null;
+    }
+    Object result = canonical(value);
+    return result != null ? result : value;
+  }
+
+  /** Returns the canonical instance of the value, or null if there is none and the pool is full. */
+  private Object canonical(Object value) {
+    Object result = values.get(value);
+    if (result != null) {
+      return result;
+    }
+    if (values.mappingCount() >= maxSize) {
+      return null;
+    }
+    result = values.putIfAbsent(value, value);
+    return result != null ? result : value;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object freeze(Object value) {
+    return Freezer.freeze(
+        (Class<Object>) ReflectionHelper.getAasInterface(value.getClass()), value);
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void internList(List list) {
+    ListIterator iterator = list.listIterator();
+    while (iterator.hasNext()) {
+      Object current = iterator.next();
+      Object replacement = internObject(current);
+      if (replacement != current) {
+        try {
+          iterator.set(replacement);
+        } catch (UnsupportedOperationException e) {
+          // list is read-only, keep the equal value
+        }
+      }
+    }
+  }
+
+  private static boolean isCanonicalizable(Object value) {
+    return value instanceof Reference
+        || value instanceof Key
+        || value instanceof AbstractLangString;
+  }
+
+  private static boolean isModelType(Class<?> type) {
+    return ReflectionHelper.getAasInterface(type) != null;
+  }
+
+  /**
+   * Finds the properties defined by the AAS interface of the given class that may hold values to
+   * intern, i.e. lists, other model types and, for the values to intern themselves, Strings.
+   */
+  private static List<Property> findProperties(Class<?> type) {
+    Class<?> aasInterface = ReflectionHelper.getAasInterface(type);
+    if (aasInterface == null) {
+      return Collections.emptyList();
+    }
+    boolean canonicalizable =
+        Reference.class.isAssignableFrom(type)
+            || Key.class.isAssignableFrom(type)
+            || AbstractLangString.class.isAssignableFrom(type);
+    List<Property> result = new ArrayList<>();
+    for (Method getter : aasInterface.getMethods()) {
+      if (!getter.getName().startsWith("get") || getter.getParameterCount() != 0) {
+        continue;
+      }
+      Class<?> propertyType = getter.getReturnType();
+      Method setter = findSetter(aasInterface, getter);
+      if (List.class.isAssignableFrom(propertyType)) {
+        result.add(new Property(getter, null));
+      } else if (ReflectionHelper.isModelInterface(propertyType)
+          || (canonicalizable && propertyType == String.class && setter != null)) {
+        result.add(new Property(getter, setter));
+      }
+    }
+    return result;
+  }
+
+  private static Method findSetter(Class<?> type, Method getter) {
+    try {
+      return type.getMethod("s" + getter.getName().substring(1), getter.getReturnType());
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private static class Property {
+
+    private final Method getter;
+    private final Method setter;
+
+    private Property(Method getter, Method setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    private Object get(Object element) {
+      try {
+        return getter.invoke(element);
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        throw new IllegalStateException("error reading property " + getter.getName(), e);
+      }
+    }
+
+    private void set(Object element, Object value) {
+      if (setter == null) {
+        return;
+      }
+      try {
+        setter.invoke(element, value);
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        throw new IllegalStateException("error writing property " + setter.getName(), e);
+      }
+    }
+  }
+}
@@ -19,9 +19,14 @@
 import static org.junit.Assert.assertEquals;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import java.io.IOException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.deserialization.EnumDeserializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.serialization.EnumSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
 import org.eclipse.digitaltwin.aas4j.v3.model.*;
 import org.junit.Before;
 import org.junit.Test;
@@ -40,12 +45,12 @@ public void setUp() throws Exception {
     jsonGeneratorMock = Mockito.mock(JsonGenerator.class);
     Mockito.doAnswer(
             invocationOnMock -> {
-              String serializedEnum = invocationOnMock.getArgument(0);
-              serializationOutput.append(serializedEnum);
+              SerializableString serializedEnum = invocationOnMock.getArgument(0);
+              serializationOutput.append(serializedEnum.getValue());
               return null;
             })
         .when(jsonGeneratorMock)
-        .writeString(Mockito.anyString());
+        .writeString(Mockito.any(SerializableString.class));
     serializerProviderMock = Mockito.mock(SerializerProvider.class);
     this.enumSerializer = new EnumSerializer();
   }
@@ -91,6 +96,29 @@ public void whenSerializingEnum_usingDataTypeDefXsd_shouldReturnCamelCase() {
     assertSerialization(DataTypeDefXsd.BASE64BINARY, "xs:base64Binary");
   }
 
+  @Test
+  public void whenSerializingEnum_usingAllModelEnums_shouldMatchDeserialization() {
+    for (Class<Enum> type : ReflectionHelper.ENUMS) {
+      EnumDeserializer deserializer = new EnumDeserializer<>(type);
+      for (Enum value : type.getEnumConstants()) {
+        String name = EnumSerializer.getName(value);
+        assertSerialization(value, name);
+        assertEquals(value, deserializeText(deserializer, name));
+        assertEquals(value, deserializeText(deserializer, value.name()));
+      }
+    }
+  }
+
+  private static Object deserializeText(EnumDeserializer<?> deserializer, String text) {
+    try {
+      JsonParser parser = Mockito.mock(JsonParser.class);
+      Mockito.doReturn(text).when(parser).getText();
+      return deserializer.deserialize(parser, Mockito.mock(DeserializationContext.class));
+    } catch (IOException ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
   private void assertSerialization(Enum value, String expected) {
     this.serializationOutput.setLength(0);
     try {
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.visitor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.CustomSubProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.junit.Test;
+
+public class AssetAdministrationShellElementVisitorTest {
+
+  @Test
+  public void testDispatchVisitsEveryIntermediateType() {
+    List<String> visited = new ArrayList<>();
+    AssetAdministrationShellElementVisitor visitor =
+        new AssetAdministrationShellElementVisitor() {
+          @Override
+          public void visit(SubmodelElement submodelElement) {
+            visited.add("SubmodelElement");
+            AssetAdministrationShellElementVisitor.super.visit(submodelElement);
+          }
+
+          @Override
+          public void visit(DataElement dataElement) {
+            visited.add("DataElement");
+            AssetAdministrationShellElementVisitor.super.visit(dataElement);
+          }
+
+          @Override
+          public void visit(Property property) {
+            visited.add("Property");
+          }
+
+          @Override
+          public void visit(Submodel submodel) {
+            visited.add("Submodel");
+          }
+        };
+    visitor.visit((Referable) new CustomSubProperty());
+    visitor.visit((Referable) new DefaultSubmodel());
+    visitor.visit((Referable) new DefaultSubmodelElementCollection());
+    visitor.visit((Referable) null);
+    assertEquals(
+        Arrays.asList("SubmodelElement", "DataElement", "Property", "Submodel", "SubmodelElement"),
+        visited);
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.visitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.AASFull;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+public class ParallelEnvironmentWalkerTest {
+
+  private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+  @AfterClass
+  public static void shutdown() {
+    POOL.shutdown();
+  }
+
+  @Test
+  public void testWalkFullEnvironment() {
+    assertSameAsSequentialWalk(AASFull.ENVIRONMENT, 1);
+    assertSameAsSequentialWalk(AASFull.ENVIRONMENT, ParallelEnvironmentWalker.DEFAULT_THRESHOLD);
+  }
+
+  @Test
+  public void testWalkSplitsLargeCollectionsAndLists() {
+    List<Submodel> submodels = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      List<SubmodelElement> properties = new ArrayList<>();
+      List<SubmodelElement> collections = new ArrayList<>();
+      for (int j = 0; j < 100; j++) {
+        properties.add(property("property" + j));
+        collections.add(
+            new DefaultSubmodelElementCollection.Builder()
+                .idShort("collection" + j)
+                .value(property("a"))
+                .value(property("b"))
+                .build());
+      }
+      submodels.add(
+          new DefaultSubmodel.Builder()
+              .id("http://example.org/submodel/" + i)
+              .submodelElements(
+                  new DefaultSubmodelElementCollection.Builder()
+                      .idShort("collection")
+                      .value(properties)
+                      .build())
+              .submodelElements(
+                  new DefaultSubmodelElementList.Builder()
+                      .idShort("list")
+                      .value(collections)
+                      .build())
+              .build());
+    }
+    Environment environment = new DefaultEnvironment.Builder().submodels(submodels).build();
+    CountingVisitor result = assertSameAsSequentialWalk(environment, 8);
+    assertEquals(4 * (2 + 100 + 100 * 3), result.elements.size());
+    assertTrue(result.tasks > 4);
+  }
+
+  @Test
+  public void testTaskVisitorWithoutWalkerIsSequential() {
+    CountingVisitor visitor = new CountingVisitor();
+    visitor.visit(AASFull.ENVIRONMENT);
+    CountingVisitor expected = walkSequential(AASFull.ENVIRONMENT);
+    assertEquals(expected.keys, visitor.keys);
+    assertEquals(expected.elements, visitor.elements);
+  }
+
+  private static CountingVisitor assertSameAsSequentialWalk(
+      Environment environment, int threshold) {
+    CountingVisitor expected = walkSequential(environment);
+    CountingVisitor actual =
+        new ParallelEnvironmentWalker<>(
+                POOL, CountingVisitor::new, CountingVisitor::merge, threshold)
+            .walk(environment);
+    assertEquals(expected.keys, actual.keys);
+    assertEquals(expected.elements, actual.elements);
+    return actual;
+  }
+
+  private static CountingVisitor walkSequential(Environment environment) {
+    CountingVisitor result = new CountingVisitor();
+    new AssetAdministrationShellElementWalkerVisitor() {
+      @Override
+      public void visit(Key key) {
+        result.keys++;
+      }
+
+      @Override
+      public void visit(SubmodelElement submodelElement) {
+        result.elements.add(submodelElement);
+        AssetAdministrationShellElementWalkerVisitor.super.visit(submodelElement);
+      }
+    }.visit(environment);
+    return result;
+  }
+
+  private static SubmodelElement property(String idShort) {
+    return new DefaultProperty.Builder()
+        .idShort(idShort)
+        .valueId(
+            new DefaultReference.Builder()
+                .keys(
+                    new DefaultKey.Builder().type(KeyTypes.GLOBAL_REFERENCE).value(idShort).build())
+                .build())
+        .build();
+  }
+
+  private static class CountingVisitor extends ParallelEnvironmentWalker.TaskVisitor {
+
+    private int keys;
+    private int tasks = 1;
+    private final Set<SubmodelElement> elements =
+        Collections.newSetFromMap(new IdentityHashMap<>());
+
+    @Override
+    public void visit(Key key) {
+      keys++;
+    }
+
+    @Override
+    public void visit(SubmodelElement submodelElement) {
+      elements.add(submodelElement);
+      super.visit(submodelElement);
+    }
+
+    private CountingVisitor merge(CountingVisitor other) {
+      keys += other.keys;
+      tasks += other.tasks;
+      elements.addAll(other.elements);
+      return this;
+    }
+  }
+}
@@ -19,9 +19,15 @@
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import junitparams.JUnitParamsRunner;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.AASFull;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.CustomSubProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
 import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
@@ -33,8 +39,12 @@
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
@@ -230,6 +240,124 @@ public void whenResolve_withElementWithinSubmodelElementList_success() {
     Assert.assertEquals(expected, actual);
   }
 
+  @Test
+  public void whenReferableToKeyType_withCustomAndDefaultTypes_success() {
+    for (int i = 0; i < 2; i++) {
+      assertEquals(KeyTypes.PROPERTY, AasUtils.referableToKeyType(new DefaultProperty()));
+      assertEquals(KeyTypes.PROPERTY, AasUtils.referableToKeyType(new CustomSubProperty()));
+      assertEquals(KeyTypes.SUBMODEL, AasUtils.referableToKeyType(new DefaultSubmodel()));
+      assertEquals(
+          KeyTypes.SUBMODEL_ELEMENT_LIST,
+          AasUtils.referableToKeyType(new DefaultSubmodelElementList()));
+    }
+  }
+
+  @Test
+  public void whenForEachReference_withNestedElements_allReferencesResolve() {
+    SubmodelElement property = new DefaultProperty.Builder().idShort("property").build();
+    SubmodelElement listElement = new DefaultProperty.Builder().build();
+    SubmodelElementList list =
+        new DefaultSubmodelElementList.Builder()
+            .idShort("list")
+            .value(new DefaultProperty.Builder().build())
+            .value(listElement)
+            .build();
+    SubmodelElementCollection collection =
+        new DefaultSubmodelElementCollection.Builder()
+            .idShort("collection")
+            .value(property)
+            .value(list)
+            .build();
+    Submodel submodel =
+        new DefaultSubmodel.Builder()
+            .id("http://example.org/submodel")
+            .submodelElements(collection)
+            .build();
+    Environment environment = new DefaultEnvironment.Builder().submodels(submodel).build();
+
+    List<Referable> elements = new ArrayList<>();
+    List<Reference> references = new ArrayList<>();
+    AasUtils.forEachReference(
+        submodel,
+        (element, reference) -> {
+          elements.add(element);
+          references.add(reference);
+        });
+
+    assertEquals(
+        Arrays.asList(submodel, collection, property, list, list.getValue().get(0), listElement),
+        elements);
+    assertEquals(references, AasUtils.toReferences(submodel));
+    for (int i = 0; i < elements.size(); i++) {
+      Assert.assertSame(elements.get(i), AasUtils.resolve(references.get(i), environment));
+    }
+    Reference collectionReference =
+        AasUtils.toReference(AasUtils.toReference(submodel), collection);
+    assertEquals(collectionReference, references.get(1));
+    assertEquals(AasUtils.toReference(collectionReference, property), references.get(2));
+    assertEquals("1", references.get(5).getKeys().get(3).getValue());
+  }
+
+  @Test
+  public void whenForEachReference_withEntityAnnotationsAndOperation_allReferencesResolve() {
+    SubmodelElement statement = new DefaultProperty.Builder().idShort("statement").build();
+    Entity entity = new DefaultEntity.Builder().idShort("entity").statements(statement).build();
+    DataElement annotation = new DefaultProperty.Builder().idShort("annotation").build();
+    AnnotatedRelationshipElement relationship =
+        new DefaultAnnotatedRelationshipElement.Builder()
+            .idShort("relationship")
+            .annotations(annotation)
+            .build();
+    SubmodelElement input = new DefaultProperty.Builder().idShort("input").build();
+    SubmodelElement output = new DefaultProperty.Builder().idShort("output").build();
+    SubmodelElement inoutput = new DefaultProperty.Builder().idShort("inoutput").build();
+    Operation operation =
+        new DefaultOperation.Builder()
+            .idShort("operation")
+            .inputVariables(new DefaultOperationVariable.Builder().value(input).build())
+            .outputVariables(new DefaultOperationVariable.Builder().value(output).build())
+            .inoutputVariables(new DefaultOperationVariable.Builder().value(inoutput).build())
+            .build();
+    Submodel submodel =
+        new DefaultSubmodel.Builder()
+            .id("http://example.org/submodel")
+            .submodelElements(entity)
+            .submodelElements(relationship)
+            .submodelElements(operation)
+            .build();
+    Environment environment = new DefaultEnvironment.Builder().submodels(submodel).build();
+
+    List<Referable> elements = new ArrayList<>();
+    List<Reference> references = new ArrayList<>();
+    AasUtils.forEachReference(
+        submodel,
+        (element, reference) -> {
+          elements.add(element);
+          references.add(reference);
+        });
+
+    assertEquals(
+        Arrays.asList(
+            submodel,
+            entity,
+            statement,
+            relationship,
+            annotation,
+            operation,
+            input,
+            output,
+            inoutput),
+        elements);
+    for (int i = 0; i < elements.size(); i++) {
+      Assert.assertSame(elements.get(i), AasUtils.resolve(references.get(i), environment));
+    }
+    assertEquals(
+        AasUtils.toReference(
+            AasUtils.toReference(AasUtils.toReference(submodel), entity), statement),
+        references.get(2));
+    assertEquals("input", references.get(6).getKeys().get(2).getValue());
+  }
+
   @Test
   public void whenSameAs_withDifferentKeyTypesButSameValues_success() {
     String value = "0173-1#01-ADS698#010";
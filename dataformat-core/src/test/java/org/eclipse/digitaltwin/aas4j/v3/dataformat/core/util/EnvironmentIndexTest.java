@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.AASFull;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.junit.Test;
+
+public class EnvironmentIndexTest {
+
+  private static final String SUBMODEL_ID = "http://example.org/submodel";
+
+  private final SubmodelElement property =
+      new DefaultProperty.Builder().idShort("property").value("bar").build();
+  private final SubmodelElement listElement = new DefaultProperty.Builder().value("baz").build();
+  private final Environment environment =
+      new DefaultEnvironment.Builder()
+          .submodels(
+              new DefaultSubmodel.Builder()
+                  .id(SUBMODEL_ID)
+                  .submodelElements(
+                      new DefaultSubmodelElementCollection.Builder()
+                          .idShort("collection")
+                          .value(property)
+                          .value(
+                              new DefaultSubmodelElementList.Builder()
+                                  .idShort("list")
+                                  .value(listElement)
+                                  .build())
+                          .build())
+                  .build())
+          .build();
+
+  @Test
+  public void whenResolve_withNestedElement_success() {
+    Reference reference =
+        new DefaultReference.Builder()
+            .keys(new DefaultKey.Builder().type(KeyTypes.SUBMODEL).value(SUBMODEL_ID).build())
+            .keys(
+                new DefaultKey.Builder()
+                    .type(KeyTypes.SUBMODEL_ELEMENT_COLLECTION)
+                    .value("collection")
+                    .build())
+            .keys(new DefaultKey.Builder().type(KeyTypes.PROPERTY).value("property").build())
+            .build();
+    assertSame(property, new EnvironmentIndex(environment).resolve(reference));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void whenResolve_withUnknownElement_fail() {
+    Reference reference =
+        new DefaultReference.Builder()
+            .type(ReferenceTypes.MODEL_REFERENCE)
+            .keys(new DefaultKey.Builder().type(KeyTypes.SUBMODEL).value(SUBMODEL_ID).build())
+            .keys(new DefaultKey.Builder().type(KeyTypes.PROPERTY).value("unknown").build())
+            .build();
+    new EnvironmentIndex(environment).resolve(reference);
+  }
+
+  @Test
+  public void whenResolveAll_withFullEnvironment_success() {
+    Environment full = AASFull.createEnvironment();
+    List<Reference> references = AASFull.AAS_1.getSubmodels();
+    List<Referable> actual = new EnvironmentIndex(full).resolveAll(references);
+    assertEquals(references.size(), actual.size());
+    for (int i = 0; i < references.size(); i++) {
+      assertEquals(AasUtils.resolve(references.get(i), full), actual.get(i));
+    }
+  }
+
+  @Test
+  public void whenGetSubmodelElement_withIdShortPath_success() {
+    EnvironmentIndex index = new EnvironmentIndex(environment);
+    assertSame(property, index.getSubmodelElement(SUBMODEL_ID, "collection.property"));
+    assertSame(listElement, index.getSubmodelElement(SUBMODEL_ID, "collection.list[0]"));
+    assertNull(index.getSubmodelElement(SUBMODEL_ID, "collection.list[1]"));
+    assertNull(index.getSubmodelElement(SUBMODEL_ID, "collection.unknown"));
+  }
+
+  @Test
+  public void whenGetSubmodel_success() {
+    EnvironmentIndex index = new EnvironmentIndex(environment);
+    Submodel submodel = environment.getSubmodels().get(0);
+    assertSame(submodel, index.getSubmodel(SUBMODEL_ID));
+    assertSame(submodel, index.getIdentifiable(SUBMODEL_ID));
+    assertNull(index.getSubmodel("http://example.org/unknown"));
+  }
+}
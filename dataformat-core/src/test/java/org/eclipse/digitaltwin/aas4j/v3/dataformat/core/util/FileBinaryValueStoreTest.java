@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileBinaryValueStoreTest {
+
+  @Rule public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void whenStore_belowThreshold_keepsContent() throws IOException {
+    try (FileBinaryValueStore store = new FileBinaryValueStore(tempFolder.getRoot().toPath(), 8)) {
+      byte[] value = store.store(out -> out.write(new byte[] {1, 2, 3}));
+      assertArrayEquals(new byte[] {1, 2, 3}, value);
+      assertFalse(store.contains(value));
+      assertFalse(store.contains(new byte[] {1, 2, 3}));
+    }
+  }
+
+  @Test
+  public void whenStore_aboveThreshold_externalizesContent() throws IOException {
+    byte[] content = new byte[100];
+    Arrays.fill(content, (byte) 42);
+    Path file;
+    try (FileBinaryValueStore store = new FileBinaryValueStore(tempFolder.getRoot().toPath(), 8)) {
+      byte[] handle =
+          store.store(
+              out -> {
+                out.write(content, 0, 5);
+                out.write(content, 5, 95);
+              });
+      assertTrue(store.contains(handle));
+      assertTrue(BinaryValueStore.isHandle(handle));
+      assertTrue(store.contains(handle.clone()));
+      assertEquals(100, store.size(handle));
+      try (InputStream in = store.open(handle)) {
+        assertArrayEquals(content, in.readAllBytes());
+      }
+      file = store.getFile(handle);
+      assertEquals(tempFolder.getRoot().toPath(), file.getParent());
+    }
+    assertFalse(Files.exists(file));
+  }
+
+  @Test
+  public void whenStore_failsAfterExternalizing_deletesFile() throws IOException {
+    try (FileBinaryValueStore store = new FileBinaryValueStore(tempFolder.getRoot().toPath(), 8)) {
+      assertThrows(
+          IOException.class,
+          () ->
+              store.store(
+                  out -> {
+                    out.write(new byte[100]);
+                    throw new IOException("truncated");
+                  }));
+      assertEquals(0, tempFolder.getRoot().list().length);
+    }
+  }
+
+  @Test
+  public void whenGetFile_withForeignHandle_throws() throws IOException {
+    try (FileBinaryValueStore store = new FileBinaryValueStore(tempFolder.getRoot().toPath(), 8);
+        FileBinaryValueStore other = new FileBinaryValueStore(tempFolder.getRoot().toPath(), 8)) {
+      byte[] handle = other.store(out -> out.write(new byte[100]));
+      assertFalse(store.contains(handle));
+      assertThrows(IOException.class, () -> store.getFile(handle));
+      assertThrows(IOException.class, () -> store.getFile(new byte[100]));
+    }
+  }
+
+  @Test
+  public void whenClosed_handlesAreRejected() throws IOException {
+    FileBinaryValueStore store = new FileBinaryValueStore(tempFolder.getRoot().toPath(), 8);
+    byte[] handle = store.store(out -> out.write(new byte[100]));
+    store.close();
+    assertFalse(store.contains(handle));
+    assertThrows(IOException.class, () -> store.open(handle));
+    assertThrows(IOException.class, () -> store.store(out -> out.write(new byte[100])));
+    assertEquals(0, tempFolder.getRoot().list().length);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.frozen.Freezer;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.junit.Test;
+
+public class InterningPoolTest {
+
+  private static final String ECLASS_IRI = "0173-1#02-AAO677#002";
+
+  @Test
+  public void testInternReturnsCanonicalInstance() {
+    InterningPool pool = new InterningPool();
+    Reference first = pool.intern(reference(ECLASS_IRI));
+    assertTrue(Freezer.isFrozen(first));
+    assertEquals(reference(ECLASS_IRI).hashCode(), first.hashCode());
+    assertSame(first, pool.intern(reference(ECLASS_IRI)));
+    assertSame(first, pool.intern(first));
+    assertEquals(3, pool.size());
+  }
+
+  @Test
+  public void testInternStopsAddingWhenFull() {
+    InterningPool pool = new InterningPool(1);
+    String first = pool.intern(new String(ECLASS_IRI));
+    String other = new String("0173-1#02-AAO676#003");
+    assertSame(other, pool.intern(other));
+    String equalToOther = new String("0173-1#02-AAO676#003");
+    assertSame(equalToOther, pool.intern(equalToOther));
+    assertSame(first, pool.intern(new String(ECLASS_IRI)));
+    Reference reference = reference("0173-1#02-AAO676#003");
+    assertSame(reference, pool.intern(reference));
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  public void testInternAllSharesEqualValues() {
+    Environment environment = environment();
+    InterningPool pool = new InterningPool();
+
+    assertSame(environment, pool.internAll(environment));
+
+    Property first = (Property) environment.getSubmodels().get(0).getSubmodelElements().get(0);
+    Property second = (Property) environment.getSubmodels().get(1).getSubmodelElements().get(0);
+    assertNotSame(first, second);
+    assertSame(first.getSemanticId(), second.getSemanticId());
+    assertSame(first.getValueId(), second.getValueId());
+    assertSame(first.getDescription().get(0), second.getDescription().get(0));
+    assertSame(first.getSemanticId().getKeys().get(0), first.getValueId().getKeys().get(0));
+    assertEquals(Freezer.freeze(environment()), Freezer.freeze(environment));
+    assertEquals(environment().hashCode(), environment.hashCode());
+  }
+
+  @Test
+  public void testCanonicalInstancesRejectModification() {
+    Environment environment = new InterningPool().internAll(environment());
+    Property property = (Property) environment.getSubmodels().get(0).getSubmodelElements().get(0);
+
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> property.getSemanticId().getKeys().get(0).setValue("other"));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> property.getSemanticId().getKeys().add(property.getSemanticId().getKeys().get(0)));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> property.getDescription().get(0).setText("other"));
+
+    property.setSemanticId(reference("0173-1#02-AAO676#003"));
+
+    assertEquals(
+        ECLASS_IRI,
+        ((Property) environment.getSubmodels().get(1).getSubmodelElements().get(0))
+            .getSemanticId()
+            .getKeys()
+            .get(0)
+            .getValue());
+  }
+
+  private static Environment environment() {
+    return new DefaultEnvironment.Builder()
+        .submodels(
+            new DefaultSubmodel.Builder()
+                .id("http://example.org/submodel/1")
+                .submodelElements(property("property1"))
+                .build())
+        .submodels(
+            new DefaultSubmodel.Builder()
+                .id("http://example.org/submodel/2")
+                .submodelElements(property("property2"))
+                .build())
+        .build();
+  }
+
+  private static Property property(String idShort) {
+    return new DefaultProperty.Builder()
+        .idShort(idShort)
+        .semanticId(reference(ECLASS_IRI))
+        .valueId(
+            new DefaultReference.Builder()
+                .type(ReferenceTypes.EXTERNAL_REFERENCE)
+                .keys(
+                    new DefaultKey.Builder()
+                        .type(KeyTypes.GLOBAL_REFERENCE)
+                        .value(new String(ECLASS_IRI))
+                        .build())
+                .referredSemanticId(reference(ECLASS_IRI))
+                .build())
+        .description(
+            new DefaultLangStringTextType.Builder().language("en").text("Manufacturer").build())
+        .build();
+  }
+
+  private static Reference reference(String value) {
+    return new DefaultReference.Builder()
+        .type(ReferenceTypes.EXTERNAL_REFERENCE)
+        .keys(new DefaultKey.Builder().type(KeyTypes.GLOBAL_REFERENCE).value(value).build())
+        .build();
+  }
+}
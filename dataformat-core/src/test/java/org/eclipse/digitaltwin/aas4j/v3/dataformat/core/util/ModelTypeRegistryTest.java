@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ModelTypeRegistry;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.junit.Test;
+
+public class ModelTypeRegistryTest {
+
+  @Test
+  public void whenLoad_withGeneratedResource_matchesScan() {
+    ModelTypeRegistry generated = ModelTypeRegistry.load();
+    assertNotNull(generated);
+    // the scan additionally finds the types defined in the model package by the tests
+    ModelTypeRegistry scanned = ModelTypeRegistry.scan();
+    assertEquals(
+        scanned.getModelTypes().stream().filter(x -> !isTestType(x)).collect(Collectors.toList()),
+        generated.getModelTypes());
+    assertEquals(scanned.getDefaultImplementations(), generated.getDefaultImplementations());
+    assertEquals(new HashSet<>(scanned.getEnums()), new HashSet<>(generated.getEnums()));
+    assertTrue(scanned.getTypesWithModelType().containsAll(generated.getTypesWithModelType()));
+    generated
+        .getSubtypes()
+        .forEach((x, y) -> assertTrue(scanned.getSubtypes().get(x).containsAll(y)));
+  }
+
+  @Test
+  public void whenWrite_isReproducible() throws IOException {
+    assertEquals(toString(ModelTypeRegistry.load()), toString(ModelTypeRegistry.load()));
+  }
+
+  @Test
+  public void whenGet_withMatchingFingerprint_usesGivenRegistry() {
+    ModelTypeRegistry scanned = ModelTypeRegistry.scan();
+    assertEquals(ModelTypeRegistry.fingerprint(), scanned.getFingerprint());
+    assertSame(scanned, ModelTypeRegistry.get(scanned));
+  }
+
+  @Test
+  public void whenGet_withMismatchedFingerprint_scans() throws IOException {
+    String written =
+        toString(ModelTypeRegistry.load()).replaceFirst("fingerprint=.*", "fingerprint=outdated");
+    ModelTypeRegistry outdated = ModelTypeRegistry.load(new StringReader(written));
+    assertEquals("outdated", outdated.getFingerprint());
+    ModelTypeRegistry result = ModelTypeRegistry.get(outdated);
+    assertNotSame(outdated, result);
+    assertEquals(ModelTypeRegistry.fingerprint(), result.getFingerprint());
+  }
+
+  @Test
+  public void whenGet_withoutFingerprint_scans() throws IOException {
+    String written =
+        toString(ModelTypeRegistry.load()).replaceFirst("fingerprint=.*", "fingerprint=");
+    ModelTypeRegistry unknown = ModelTypeRegistry.load(new StringReader(written));
+    assertNull(unknown.getFingerprint());
+    assertNotSame(unknown, ModelTypeRegistry.get(unknown));
+  }
+
+  @Test
+  public void whenFingerprint_readsModelArtifact() {
+    String fingerprint = ModelTypeRegistry.fingerprint();
+    assertNotNull(fingerprint);
+    assertTrue(fingerprint.matches(".+-[0-9a-f]{64}"));
+    assertEquals(fingerprint, ModelTypeRegistry.load().getFingerprint());
+  }
+
+  @Test
+  public void whenGet_withAdditionalTypesInModelPackage_scans() {
+    // the tests define additional types in the model package, which the generated registry misses
+    assertNotSame(ModelTypeRegistry.load(), ModelTypeRegistry.get());
+    assertTrue(ModelTypeRegistry.get().getModelTypes().stream().anyMatch(x -> isTestType(x)));
+  }
+
+  @Test
+  public void whenReflectionHelper_usesRegistry_success() {
+    assertEquals(DefaultProperty.class, ReflectionHelper.getDefaultImplementation(Property.class));
+    assertTrue(ReflectionHelper.INTERFACES.contains(Property.class));
+    assertEquals("Property", ReflectionHelper.getModelType(DefaultProperty.class));
+  }
+
+  private static boolean isTestType(Class<?> type) {
+    return Objects.equals(
+        type.getProtectionDomain().getCodeSource(),
+        ModelTypeRegistryTest.class.getProtectionDomain().getCodeSource());
+  }
+
+  private static String toString(ModelTypeRegistry registry) throws IOException {
+    StringWriter writer = new StringWriter();
+    registry.write(writer);
+    return writer.toString();
+  }
+}
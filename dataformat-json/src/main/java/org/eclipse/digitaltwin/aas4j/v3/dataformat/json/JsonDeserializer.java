@@ -18,6 +18,7 @@
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleAbstractTypeResolver;
 import java.io.IOException;
@@ -25,19 +26,60 @@
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.InterningPool;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 
-/** Class for deserializing/parsing AAS JSON documents. */
+/**
+ * Class for deserializing/parsing AAS JSON documents. Instances are thread-safe once configured and
+ * are meant to be shared. Instances using custom implementations should be created via {@link
+ * #builder()}, which builds the underlying mapper only once.
+ */
 public class JsonDeserializer {
   protected JsonMapper mapper;
   protected SimpleAbstractTypeResolver typeResolver;
   private JsonMapperFactory jsonMapperFactory;
+  private InterningPool interningPool;
+  private boolean locked;
+  private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+  private final Map<Class<?>, ObjectReader> listReaders = new ConcurrentHashMap<>();
 
   public JsonDeserializer() {
-    typeResolver = new SimpleAbstractTypeResolverFactory().create();
-    jsonMapperFactory = new JsonMapperFactory();
-    mapper = jsonMapperFactory.create(typeResolver);
+    this(new JsonMapperFactory(), new SimpleAbstractTypeResolverFactory().create());
+  }
+
+  /**
+   * Constructor for a deserializer using the given mapper, e.g. to share one mapper created by
+   * {@link JsonMapperFactory} between multiple deserializers and serializers. As the configuration
+   * of the given mapper is not known, {@link #useImplementation(Class, Class)} is not supported by
+   * such a deserializer, register custom implementations when creating the mapper instead.
+   *
+   * @param mapper the mapper to use
+   */
+  public JsonDeserializer(JsonMapper mapper) {
+    this.typeResolver = new SimpleAbstractTypeResolverFactory().create();
+    this.mapper = mapper;
+    this.locked = true;
+  }
+
+  private JsonDeserializer(
+      JsonMapperFactory jsonMapperFactory, SimpleAbstractTypeResolver typeResolver) {
+    this.typeResolver = typeResolver;
+    this.jsonMapperFactory = jsonMapperFactory;
+    this.mapper = jsonMapperFactory.create(typeResolver);
+  }
+
+  /**
+   * Creates a builder for a deserializer with custom configuration
+   *
+   * @return the builder
+   */
+  public static Builder builder() {
+    return new Builder();
   }
 
   /**
@@ -48,14 +90,26 @@ public JsonDeserializer() {
    * CustomSubmodel. Subsequent class with the same aasInterface parameter will override the effects
    * of all previous calls.
    *
+   * <p>Every call rebuilds the underlying mapper, use {@link Builder#useImplementation(Class,
+   * Class)} to register multiple implementations at once.
+   *
    * @param <T> the type of the interface to replace
    * @param aasInterface the class of the interface to replace
    * @param implementation the class implementing the interface that should be used for
    *     deserialization.
+   * @throws IllegalStateException if this deserializer has been built with {@link Builder#locked()}
+   *     or uses a mapper passed to {@link #JsonDeserializer(JsonMapper)}, as rebuilding it would
+   *     drop its configuration
    */
   public <T> void useImplementation(Class<T> aasInterface, Class<? extends T> implementation) {
+    if (locked) {
+      throw new IllegalStateException(
+          "custom implementations cannot be registered for a locked deserializer");
+    }
     typeResolver.addMapping(aasInterface, implementation);
     mapper = jsonMapperFactory.create(typeResolver);
+    readers.clear();
+    listReaders.clear();
   }
 
   /**
@@ -69,7 +123,7 @@ public <T> void useImplementation(Class<T> aasInterface, Class<? extends T> impl
    */
   public <T> T read(String value, Class<T> valueType) throws DeserializationException {
     try {
-      return mapper.readValue(value, valueType);
+      return intern(readerFor(valueType).readValue(value));
     } catch (JsonProcessingException ex) {
       throw new DeserializationException("error deserializing " + valueType.getSimpleName(), ex);
     }
@@ -86,8 +140,7 @@ public <T> T read(String value, Class<T> valueType) throws DeserializationExcept
    */
   public <T> List<T> readList(String value, Class<T> valueType) throws DeserializationException {
     try {
-      return mapper.readValue(
-          value, mapper.getTypeFactory().constructCollectionLikeType(List.class, valueType));
+      return intern(listReaderFor(valueType).readValue(value));
     } catch (JsonProcessingException ex) {
       throw new DeserializationException(
           "error deserializing list of " + valueType.getSimpleName(), ex);
@@ -122,7 +175,7 @@ public <T> T read(InputStream stream, Class<T> valueType) throws Deserialization
   public <T> T read(InputStream stream, Charset charset, Class<T> valueType)
       throws DeserializationException {
     try {
-      return mapper.readValue(new InputStreamReader(stream, charset), valueType);
+      return intern(readerFor(valueType).readValue(new InputStreamReader(stream, charset)));
     } catch (IOException ex) {
       throw new DeserializationException("error deserializing " + valueType.getSimpleName(), ex);
     }
@@ -155,15 +208,44 @@ public <T> List<T> readList(InputStream stream, Class<T> valueType)
   public <T> List<T> readList(InputStream stream, Charset charset, Class<T> valueType)
       throws DeserializationException {
     try {
-      return mapper.readValue(
-          new InputStreamReader(stream, charset),
-          mapper.getTypeFactory().constructCollectionLikeType(List.class, valueType));
+      return intern(listReaderFor(valueType).readValue(new InputStreamReader(stream, charset)));
     } catch (Exception ex) {
       throw new DeserializationException(
           "error deserializing list of " + valueType.getSimpleName(), ex);
     }
   }
 
+  /**
+   * Creates a reader that deserializes the elements of an AAS environment one at a time, using the
+   * default UTF-8 charset
+   *
+   * @param stream An InputStream containing the string representation of the AAS environment
+   * @return a reader for the elements of the environment
+   * @throws DeserializationException if the stream does not contain a JSON object
+   */
+  public JsonEnvironmentReader createEnvironmentReader(InputStream stream)
+      throws DeserializationException {
+    return createEnvironmentReader(stream, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Creates a reader that deserializes the elements of an AAS environment one at a time
+   *
+   * @param stream An InputStream containing the string representation of the AAS environment
+   * @param charset the charset to use for deserialization
+   * @return a reader for the elements of the environment
+   * @throws DeserializationException if the stream does not contain a JSON object
+   */
+  public JsonEnvironmentReader createEnvironmentReader(InputStream stream, Charset charset)
+      throws DeserializationException {
+    try {
+      return new JsonEnvironmentReader(
+          mapper, mapper.createParser(new InputStreamReader(stream, charset)), interningPool);
+    } catch (IOException ex) {
+      throw new DeserializationException("error deserializing Environment", ex);
+    }
+  }
+
   /**
    * Generic method to deserialize a given JSON node into instance of an AAS type
    *
@@ -175,8 +257,8 @@ public <T> List<T> readList(InputStream stream, Charset charset, Class<T> valueT
    */
   public <T> T read(JsonNode node, Class<T> valueType) throws DeserializationException {
     try {
-      return mapper.treeToValue(node, valueType);
-    } catch (JsonProcessingException ex) {
+      return intern(readerFor(valueType).readValue(node));
+    } catch (IOException ex) {
       throw new DeserializationException("error deserializing " + valueType.getSimpleName(), ex);
     }
   }
@@ -192,11 +274,102 @@ public <T> T read(JsonNode node, Class<T> valueType) throws DeserializationExcep
    */
   public <T> List<T> readList(JsonNode node, Class<T> valueType) throws DeserializationException {
     try {
-      return mapper.treeToValue(
-          node, mapper.getTypeFactory().constructCollectionLikeType(List.class, valueType));
-    } catch (JsonProcessingException ex) {
+      return intern(listReaderFor(valueType).readValue(node));
+    } catch (IOException ex) {
       throw new DeserializationException(
           "error deserializing list of " + valueType.getSimpleName(), ex);
     }
   }
+
+  private <T> T intern(T value) {
+    return interningPool != null ? interningPool.internAll(value) : value;
+  }
+
+  private ObjectReader readerFor(Class<?> valueType) {
+    return readers.computeIfAbsent(valueType, mapper::readerFor);
+  }
+
+  private ObjectReader listReaderFor(Class<?> valueType) {
+    return listReaders.computeIfAbsent(
+        valueType,
+        x -> mapper.readerFor(mapper.getTypeFactory().constructCollectionLikeType(List.class, x)));
+  }
+
+  /** Builder for {@link JsonDeserializer} instances that builds the underlying mapper only once. */
+  public static class Builder {
+    private final Map<Class<?>, Class<?>> implementations = new LinkedHashMap<>();
+    private JsonMapperFactory jsonMapperFactory = new JsonMapperFactory();
+    private InterningPool interningPool;
+    private boolean locked;
+
+    private Builder() {}
+
+    /**
+     * Uses a custom implementation for deserialization instead of the default implementation, see
+     * {@link JsonDeserializer#useImplementation(Class, Class)}
+     *
+     * @param <T> the type of the interface to replace
+     * @param aasInterface the class of the interface to replace
+     * @param implementation the class implementing the interface that should be used for
+     *     deserialization.
+     * @return this builder
+     */
+    public <T> Builder useImplementation(Class<T> aasInterface, Class<? extends T> implementation) {
+      implementations.put(aasInterface, implementation);
+      return this;
+    }
+
+    /**
+     * Uses a custom factory for creating the mapper
+     *
+     * @param jsonMapperFactory the factory
+     * @return this builder
+     */
+    public Builder jsonMapperFactory(JsonMapperFactory jsonMapperFactory) {
+      this.jsonMapperFactory = jsonMapperFactory;
+      return this;
+    }
+
+    /**
+     * Replaces equal references, keys and lang strings of all deserialized elements by a single
+     * canonical instance held by the given pool, see {@link InterningPool}. As canonical instances
+     * are shared, they are frozen and reject modification.
+     *
+     * @param interningPool the pool
+     * @return this builder
+     */
+    public Builder interningPool(InterningPool interningPool) {
+      this.interningPool = interningPool;
+      return this;
+    }
+
+    /**
+     * Locks the deserializer, so that {@link JsonDeserializer#useImplementation(Class, Class)}
+     * throws an {@link IllegalStateException}, e.g. for an instance shared between independent
+     * callers.
+     *
+     * @return this builder
+     */
+    public Builder locked() {
+      this.locked = true;
+      return this;
+    }
+
+    /**
+     * Builds the deserializer. The deserializers for an {@link Environment} and all of its content
+     * are resolved eagerly, so that the first document is not slowed down by their construction.
+     *
+     * @return the deserializer
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public JsonDeserializer build() {
+      SimpleAbstractTypeResolver typeResolver = new SimpleAbstractTypeResolverFactory().create();
+      implementations.forEach((x, y) -> typeResolver.addMapping((Class) x, (Class) y));
+      JsonDeserializer result = new JsonDeserializer(jsonMapperFactory, typeResolver);
+      result.interningPool = interningPool;
+      result.locked = locked;
+      result.readerFor(Environment.class);
+      return result;
+    }
+  }
 }
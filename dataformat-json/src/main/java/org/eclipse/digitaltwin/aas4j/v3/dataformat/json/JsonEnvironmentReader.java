@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.InterningPool;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Identifiable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+
+/**
+ * Pull-style reader for AAS JSON environments that deserializes the asset administration shells,
+ * submodels and concept descriptions of an {@link Environment} one at a time while the document is
+ * parsed. Only the element that is currently returned is held in memory, which allows to process
+ * environments that are too large to be deserialized as a whole.
+ *
+ * <p>Elements are returned in document order, i.e. usually all shells first, followed by all
+ * submodels and concept descriptions. Instances are created via {@link
+ * JsonDeserializer#createEnvironmentReader(java.io.InputStream)} and use the configuration of the
+ * creating deserializer. Instances are not thread-safe and must be closed after use, which also
+ * closes the underlying stream.
+ *
+ * <pre>{@code
+ * try (JsonEnvironmentReader reader = deserializer.createEnvironmentReader(in)) {
+ *   while (reader.hasNext()) {
+ *     Identifiable identifiable = reader.next();
+ *     if (identifiable instanceof Submodel) {
+ *       process((Submodel) identifiable);
+ *     }
+ *   }
+ * }
+ * }</pre>
+ */
+public class JsonEnvironmentReader implements Closeable {
+
+  private static final Map<String, Class<? extends Identifiable>> TYPES_BY_FIELD =
+      Map.of(
+          "assetAdministrationShells", AssetAdministrationShell.class,
+          "submodels", Submodel.class,
+          "conceptDescriptions", ConceptDescription.class);
+
+  private final JsonMapper mapper;
+  private final JsonParser parser;
+  private final InterningPool interningPool;
+  private Class<? extends Identifiable> currentType;
+  private Identifiable next;
+  private boolean finished;
+
+  JsonEnvironmentReader(JsonMapper mapper, JsonParser parser, InterningPool interningPool)
+      throws DeserializationException {
+    this.mapper = mapper;
+    this.parser = parser;
+    this.interningPool = interningPool;
+    try {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new DeserializationException("error deserializing Environment: expected an object");
+      }
+    } catch (IOException ex) {
+      throw new DeserializationException("error deserializing Environment", ex);
+    }
+  }
+
+  /**
+   * Checks whether there is another element in the environment, parsing the document up to that
+   * element if necessary
+   *
+   * @return true if there is another element
+   * @throws DeserializationException if deserialization fails
+   */
+  public boolean hasNext() throws DeserializationException {
+    if (next == null && !finished) {
+      try {
+        next = advance();
+      } catch (IOException ex) {
+        throw new DeserializationException("error deserializing Environment", ex);
+      }
+    }
+    return next != null;
+  }
+
+  /**
+   * Returns the next element of the environment, which is either an {@link
+   * AssetAdministrationShell}, a {@link Submodel} or a {@link ConceptDescription}
+   *
+   * @return the next element
+   * @throws DeserializationException if deserialization fails
+   * @throws NoSuchElementException if there are no more elements
+   */
+  public Identifiable next() throws DeserializationException {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Identifiable result = next;
+    next = null;
+    return result;
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+
+  private Identifiable advance() throws IOException, DeserializationException {
+    while (true) {
+      JsonToken token = parser.nextToken();
+      if (token == null) {
+        throw new DeserializationException(
+            "error deserializing Environment: unexpected end of input");
+      }
+      if (currentType != null) {
+        if (token == JsonToken.END_ARRAY) {
+          currentType = null;
+          continue;
+        }
+        Identifiable result = mapper.readValue(parser, currentType);
+        if (interningPool != null) {
+          interningPool.internAll(result);
+        }
+        if (result != null) {
+          return result;
+        }
+        continue;
+      }
+      if (token == JsonToken.END_OBJECT) {
+        finished = true;
+        return null;
+      }
+      Class<? extends Identifiable> type = TYPES_BY_FIELD.get(parser.currentName());
+      if (parser.nextToken() == JsonToken.START_ARRAY && type != null) {
+        currentType = type;
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+}
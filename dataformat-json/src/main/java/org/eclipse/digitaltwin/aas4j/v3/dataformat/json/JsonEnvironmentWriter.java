@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.Closeable;
+import java.io.IOException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+
+/**
+ * Writer for AAS JSON environments that serializes asset administration shells, submodels and
+ * concept descriptions one at a time, so that an {@link Environment} can be written without holding
+ * all of its elements in memory. The output is identical to serializing an environment containing
+ * the same elements with {@link JsonSerializer#write(java.io.OutputStream, Object)}.
+ *
+ * <p>As the elements of an environment are grouped by their type and written in the same order as
+ * by the serializer, all shells have to be written before the first concept description and all
+ * concept descriptions before the first submodel. Instances are created via {@link
+ * JsonSerializer#createEnvironmentWriter(java.io.OutputStream)} and use the configuration of the
+ * creating serializer. Instances are not thread-safe. Closing the writer completes the document and
+ * closes the underlying stream.
+ */
+public class JsonEnvironmentWriter implements Closeable {
+
+  private enum Section {
+    NONE(null),
+    ASSET_ADMINISTRATION_SHELLS("assetAdministrationShells"),
+    CONCEPT_DESCRIPTIONS("conceptDescriptions"),
+    SUBMODELS("submodels");
+
+    private final String fieldName;
+
+    Section(String fieldName) {
+      this.fieldName = fieldName;
+    }
+  }
+
+  private final JsonMapper mapper;
+  private final JsonGenerator generator;
+  private Section section = Section.NONE;
+  private boolean closed;
+
+  JsonEnvironmentWriter(JsonMapper mapper, JsonGenerator generator) throws SerializationException {
+    this.mapper = mapper;
+    this.generator = generator;
+    try {
+      generator.writeStartObject();
+    } catch (IOException ex) {
+      throw new SerializationException("error serializing Environment", ex);
+    }
+  }
+
+  /**
+   * Writes an asset administration shell
+   *
+   * @param shell the shell to write
+   * @return this writer
+   * @throws SerializationException if serialization fails
+   * @throws IllegalStateException if a concept description or submodel has been written already
+   */
+  public JsonEnvironmentWriter writeAssetAdministrationShell(AssetAdministrationShell shell)
+      throws SerializationException {
+    return write(Section.ASSET_ADMINISTRATION_SHELLS, shell);
+  }
+
+  /**
+   * Writes a submodel
+   *
+   * @param submodel the submodel to write
+   * @return this writer
+   * @throws SerializationException if serialization fails
+   */
+  public JsonEnvironmentWriter writeSubmodel(Submodel submodel) throws SerializationException {
+    return write(Section.SUBMODELS, submodel);
+  }
+
+  /**
+   * Writes a concept description
+   *
+   * @param conceptDescription the concept description to write
+   * @return this writer
+   * @throws SerializationException if serialization fails
+   * @throws IllegalStateException if a submodel has been written already
+   */
+  public JsonEnvironmentWriter writeConceptDescription(ConceptDescription conceptDescription)
+      throws SerializationException {
+    return write(Section.CONCEPT_DESCRIPTIONS, conceptDescription);
+  }
+
+  /**
+   * Completes the environment and closes the underlying stream
+   *
+   * @throws IOException if writing to the stream fails
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (section != Section.NONE) {
+        generator.writeEndArray();
+      }
+      generator.writeEndObject();
+    } finally {
+      generator.close();
+    }
+  }
+
+  private JsonEnvironmentWriter write(Section target, Object value) throws SerializationException {
+    if (closed) {
+      throw new IllegalStateException("writer has been closed already");
+    }
+    if (target.ordinal() < section.ordinal()) {
+      throw new IllegalStateException(
+          String.format("'%s' must be written before '%s'", target.fieldName, section.fieldName));
+    }
+    try {
+      if (target != section) {
+        if (section != Section.NONE) {
+          generator.writeEndArray();
+        }
+        generator.writeFieldName(target.fieldName);
+        generator.writeStartArray();
+        section = target;
+      }
+      mapper.writeValue(generator, value);
+      return this;
+    } catch (IOException ex) {
+      throw new SerializationException(
+          "error serializing " + (value == null ? "null" : value.getClass().getSimpleName()), ex);
+    }
+  }
+}
@@ -16,7 +16,6 @@
 
 package org.eclipse.digitaltwin.aas4j.v3.dataformat.json;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
@@ -25,9 +24,12 @@
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import java.util.Arrays;
 import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.deserialization.Base64Deserializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.deserialization.EnumDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.serialization.Base64Serializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.serialization.EnumSerializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.BinaryValueStore;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.internal.ReflectionAnnotationIntrospector;
 
 /**
@@ -38,14 +40,42 @@
  */
 public class JsonMapperFactory {
 
+  private final BinaryValueStore binaryValueStore;
+
+  public JsonMapperFactory() {
+    this(null);
+  }
+
+  /**
+   * Constructor for a factory creating mappers that keep binary values in the given store, see
+   * {@link BinaryValueStore}
+   *
+   * @param binaryValueStore the store or null to keep binary values in memory
+   */
+  public JsonMapperFactory(BinaryValueStore binaryValueStore) {
+    this.binaryValueStore = binaryValueStore;
+  }
+
   public JsonMapper create(SimpleAbstractTypeResolver typeResolver) {
+    return create(typeResolver, JsonSerializationProfile.PRETTY);
+  }
+
+  /**
+   * Creates a mapper producing output according to the given profile
+   *
+   * @param typeResolver the resolver for the implementations of the AAS interfaces
+   * @param profile the profile controlling the layout of the output
+   * @return the mapper
+   */
+  public JsonMapper create(
+      SimpleAbstractTypeResolver typeResolver, JsonSerializationProfile profile) {
     Builder builder =
         JsonMapper.builder()
-            .enable(SerializationFeature.INDENT_OUTPUT)
+            .configure(SerializationFeature.INDENT_OUTPUT, profile.isIndentOutput())
             .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
             .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
             .annotationIntrospector(new ReflectionAnnotationIntrospector())
-            .serializationInclusion(JsonInclude.Include.NON_NULL);
+            .serializationInclusion(profile.getInclusion());
 
     getModulesToInstall(typeResolver).stream().forEach(m -> builder.addModule(m));
 
@@ -56,7 +86,15 @@ public JsonMapper create(SimpleAbstractTypeResolver typeResolver) {
   }
 
   protected List<SimpleModule> getModulesToInstall(SimpleAbstractTypeResolver typeResolver) {
-    return Arrays.asList(buildEnumModule(), buildImplementationModule(typeResolver));
+    return Arrays.asList(
+        buildEnumModule(), buildImplementationModule(typeResolver), buildBinaryModule());
+  }
+
+  protected SimpleModule buildBinaryModule() {
+    SimpleModule module = new SimpleModule();
+    module.addSerializer(byte[].class, new Base64Serializer(binaryValueStore));
+    module.addDeserializer(byte[].class, new Base64Deserializer(binaryValueStore));
+    return module;
   }
 
   protected SimpleModule buildImplementationModule(SimpleAbstractTypeResolver typeResolver) {
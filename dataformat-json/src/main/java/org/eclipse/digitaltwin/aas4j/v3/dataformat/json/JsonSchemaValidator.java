@@ -15,30 +15,34 @@
  */
 package org.eclipse.digitaltwin.aas4j.v3.dataformat.json;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.schema.Error;
 import com.networknt.schema.Schema;
 import com.networknt.schema.SchemaRegistry;
 import com.networknt.schema.SpecificationVersion;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.URISyntaxException;
-import java.util.HashSet;
+import java.io.InputStream;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SchemaValidator;
 
 /**
  * Class for validating a serialized instance of AssetAdministrationShellEnvironment against a
  * json-schema.
+ *
+ * <p>The default schema is compiled once and shared by all instances. Custom schemas are compiled
+ * once per distinct schema content and cached as well. Instances are thread-safe.
  */
 public class JsonSchemaValidator implements SchemaValidator {
 
   private static final String SCHEMA = "/aas.json";
-  private final ObjectMapper mapper = new ObjectMapper();
+  private static final int MAX_CACHED_SCHEMAS = 32;
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final Map<String, Schema> CUSTOM_SCHEMAS = new ConcurrentHashMap<>();
+  private static volatile Schema defaultSchema;
 
   public JsonSchemaValidator() {}
 
@@ -51,8 +55,36 @@ public JsonSchemaValidator() {}
   @Override
   public Set<String> validateSchema(String serialized) {
     try {
-      return new HashSet<>(validateSchema(serialized, loadDefaultSchema()));
-    } catch (IOException | URISyntaxException e) {
+      return validate(getDefaultSchema(), MAPPER.readTree(serialized));
+    } catch (IOException e) {
+      return Set.of(e.getMessage());
+    }
+  }
+
+  /**
+   * validates against default schema
+   *
+   * @param serialized AssetAdministrationShellEnvironment, serialized as json and encoded in UTF-8
+   * @return Set of messages to display validation results
+   */
+  public Set<String> validateSchema(InputStream serialized) {
+    try {
+      return validate(getDefaultSchema(), MAPPER.readTree(serialized));
+    } catch (IOException e) {
+      return Set.of(e.getMessage());
+    }
+  }
+
+  /**
+   * validates against default schema
+   *
+   * @param node AssetAdministrationShellEnvironment, already parsed as json tree
+   * @return Set of messages to display validation results
+   */
+  public Set<String> validateSchema(JsonNode node) {
+    try {
+      return validate(getDefaultSchema(), node);
+    } catch (IOException e) {
       return Set.of(e.getMessage());
     }
   }
@@ -67,25 +99,53 @@ public Set<String> validateSchema(String serialized) {
    */
   public Set<String> validateSchema(String serialized, String serializedSchema) {
     try {
-      JsonNode schemaRootNode = mapper.readTree(serializedSchema);
-      SchemaRegistry schemaRegistry =
-          SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2019_09);
-      Schema schema = schemaRegistry.getSchema(schemaRootNode);
-      JsonNode node = mapper.readTree(serialized);
-      Set<Error> validationMessages = new HashSet<>(schema.validate(node));
-      return generalizeValidationMessagesAsStringSet(validationMessages);
-    } catch (JsonProcessingException e) {
+      return validate(getCustomSchema(serializedSchema), MAPPER.readTree(serialized));
+    } catch (IOException e) {
       return Set.of(e.getMessage());
     }
   }
 
-  private String loadDefaultSchema() throws IOException, URISyntaxException {
-    return new BufferedReader(new InputStreamReader(getClass().getResourceAsStream(SCHEMA)))
-        .lines()
-        .collect(Collectors.joining("\n"));
+  private static Schema getDefaultSchema() throws IOException {
+    Schema result = defaultSchema;
+    if (result == null) {
+      synchronized (JsonSchemaValidator.class) {
+        result = defaultSchema;
+        if (result == null) {
+          try (InputStream in = JsonSchemaValidator.class.getResourceAsStream(SCHEMA)) {
+            if (in == null) {
+              throw new IOException("Schema '" + SCHEMA + "' not found");
+            }
+            result = compile(MAPPER.readTree(in));
+          }
+          defaultSchema = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  private static Schema getCustomSchema(String serializedSchema) throws IOException {
+    Schema result = CUSTOM_SCHEMAS.get(serializedSchema);
+    if (result == null) {
+      result = compile(MAPPER.readTree(serializedSchema));
+      if (CUSTOM_SCHEMAS.size() >= MAX_CACHED_SCHEMAS) {
+        CUSTOM_SCHEMAS.clear();
+      }
+      CUSTOM_SCHEMAS.putIfAbsent(serializedSchema, result);
+    }
+    return result;
+  }
+
+  private static Schema compile(JsonNode schemaRootNode) {
+    SchemaRegistry schemaRegistry =
+        SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2019_09);
+    Schema schema = schemaRegistry.getSchema(schemaRootNode);
+    // resolve references eagerly so that the compiled schema is not modified while validating
+    schema.initializeValidators();
+    return schema;
   }
 
-  private Set<String> generalizeValidationMessagesAsStringSet(Set<Error> messages) {
-    return messages.stream().map(Error::getMessage).collect(Collectors.toSet());
+  private static Set<String> validate(Schema schema, JsonNode node) {
+    return schema.validate(node).stream().map(Error::getMessage).collect(Collectors.toSet());
   }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.dataformat.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Objects;
+
+/**
+ * Immutable set of options that control the layout of the JSON produced by a {@link
+ * JsonSerializer}, e.g. whether the output is indented and which properties are omitted.
+ *
+ * <p>{@link #PRETTY} is the default and produces indented output omitting null values. {@link
+ * #COMPACT} produces the same content without any whitespace, which is preferable for e.g. network
+ * payloads.
+ */
+public final class JsonSerializationProfile {
+
+  /** Indented output omitting null values */
+  public static final JsonSerializationProfile PRETTY =
+      new JsonSerializationProfile(true, JsonInclude.Include.NON_NULL);
+
+  /** Output without whitespace omitting null values */
+  public static final JsonSerializationProfile COMPACT =
+      new JsonSerializationProfile(false, JsonInclude.Include.NON_NULL);
+
+  private final boolean indentOutput;
+  private final JsonInclude.Include inclusion;
+
+  /**
+   * Creates a new profile
+   *
+   * @param indentOutput whether the output should be indented
+   * @param inclusion which properties are included in the output, e.g. {@link
+   *     JsonInclude.Include#NON_EMPTY} to additionally omit empty strings and collections.
+   *     Properties with a more specific inclusion are not affected.
+   */
+  public JsonSerializationProfile(boolean indentOutput, JsonInclude.Include inclusion) {
+    this.indentOutput = indentOutput;
+    this.inclusion = Objects.requireNonNull(inclusion, "inclusion must be non-null");
+  }
+
+  public boolean isIndentOutput() {
+    return indentOutput;
+  }
+
+  public JsonInclude.Include getInclusion() {
+    return inclusion;
+  }
+
+  /**
+   * Creates a copy of this profile with the given indentation
+   *
+   * @param indentOutput whether the output should be indented
+   * @return the new profile
+   */
+  public JsonSerializationProfile withIndentOutput(boolean indentOutput) {
+    return new JsonSerializationProfile(indentOutput, inclusion);
+  }
+
+  /**
+   * Creates a copy of this profile with the given inclusion
+   *
+   * @param inclusion which properties are included in the output
+   * @return the new profile
+   */
+  public JsonSerializationProfile withInclusion(JsonInclude.Include inclusion) {
+    return new JsonSerializationProfile(indentOutput, inclusion);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    JsonSerializationProfile that = (JsonSerializationProfile) o;
+    return indentOutput == that.indentOutput && inclusion == that.inclusion;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(indentOutput, inclusion);
+  }
+}
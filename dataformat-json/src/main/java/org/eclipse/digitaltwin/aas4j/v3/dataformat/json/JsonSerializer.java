@@ -18,6 +18,7 @@
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
@@ -28,14 +29,41 @@
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
 
-/** Class for serializing of AAS instances. */
+/**
+ * Class for serializing of AAS instances. The writers used for the different types of AAS instances
+ * are created once and cached, instances are thread-safe.
+ */
 public class JsonSerializer {
   protected JsonMapper mapper;
+  private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+  private final Map<Class<?>, ObjectWriter> listWriters = new ConcurrentHashMap<>();
 
   public JsonSerializer() {
-    mapper = new JsonMapperFactory().create(new SimpleAbstractTypeResolverFactory().create());
+    this(JsonSerializationProfile.PRETTY);
+  }
+
+  /**
+   * Constructor for a serializer producing output according to the given profile, e.g. {@link
+   * JsonSerializationProfile#COMPACT} for output without whitespace
+   *
+   * @param profile the profile controlling the layout of the output
+   */
+  public JsonSerializer(JsonSerializationProfile profile) {
+    this(new JsonMapperFactory().create(new SimpleAbstractTypeResolverFactory().create(), profile));
+  }
+
+  /**
+   * Constructor for a serializer using the given mapper, e.g. to share one mapper created by {@link
+   * JsonMapperFactory} between multiple serializers and deserializers
+   *
+   * @param mapper the mapper to use
+   */
+  public JsonSerializer(JsonMapper mapper) {
+    this.mapper = mapper;
   }
 
   /**
@@ -47,7 +75,7 @@ public JsonSerializer() {
    */
   public String write(Object aasInstance) throws SerializationException {
     try {
-      return mapper.writeValueAsString(aasInstance);
+      return writerFor(aasInstance).writeValueAsString(aasInstance);
     } catch (JsonProcessingException ex) {
       throw new SerializationException(
           String.format("error serializing %s", aasInstance.getClass().getSimpleName()), ex);
@@ -68,9 +96,7 @@ public String writeList(Collection<?> collection) throws SerializationException
 
     Class clazz = collection.iterator().next().getClass();
     try {
-      return mapper
-          .writerFor(mapper.getTypeFactory().constructCollectionType(List.class, clazz))
-          .writeValueAsString(collection);
+      return listWriterFor(clazz).writeValueAsString(collection);
     } catch (JsonProcessingException ex) {
       throw new SerializationException("error serializing list of " + clazz.getSimpleName(), ex);
     }
@@ -116,7 +142,7 @@ public JsonNode toArrayNode(Collection<?> aasInstances) {
   public void write(OutputStream out, Charset charset, Object aasInstance)
       throws SerializationException {
     try {
-      mapper.writeValue(new OutputStreamWriter(out, charset), aasInstance);
+      writerFor(aasInstance).writeValue(new OutputStreamWriter(out, charset), aasInstance);
     } catch (IOException ex) {
       throw new SerializationException(
           "error serializing " + aasInstance.getClass().getSimpleName(), ex);
@@ -134,6 +160,38 @@ public void write(OutputStream out, Object aasInstance) throws SerializationExce
     write(out, StandardCharsets.UTF_8, aasInstance);
   }
 
+  /**
+   * Creates a writer that serializes the elements of an AAS environment one at a time to an output
+   * stream using UTF-8 charset
+   *
+   * @param out the output stream to serialize to
+   * @return a writer for the elements of the environment
+   * @throws SerializationException if the environment can not be started
+   */
+  public JsonEnvironmentWriter createEnvironmentWriter(OutputStream out)
+      throws SerializationException {
+    return createEnvironmentWriter(out, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Creates a writer that serializes the elements of an AAS environment one at a time to an output
+   * stream using given charset
+   *
+   * @param out the output stream to serialize to
+   * @param charset the charset to use for serialization
+   * @return a writer for the elements of the environment
+   * @throws SerializationException if the environment can not be started
+   */
+  public JsonEnvironmentWriter createEnvironmentWriter(OutputStream out, Charset charset)
+      throws SerializationException {
+    try {
+      return new JsonEnvironmentWriter(
+          mapper, mapper.createGenerator(new OutputStreamWriter(out, charset)));
+    } catch (IOException ex) {
+      throw new SerializationException("error serializing Environment", ex);
+    }
+  }
+
   /**
    * Generic method to serialize a collection of AAS instances to an output stream using given
    * charset
@@ -150,9 +208,7 @@ public void writeList(OutputStream out, Charset charset, Collection<?> collectio
     } else {
       Class clazz = collection.iterator().next().getClass();
       try {
-        mapper
-            .writerFor(mapper.getTypeFactory().constructCollectionType(List.class, clazz))
-            .writeValue(new OutputStreamWriter(out, charset), collection);
+        listWriterFor(clazz).writeValue(new OutputStreamWriter(out, charset), collection);
       } catch (IOException ex) {
         throw new SerializationException("error serializing list of " + clazz.getSimpleName(), ex);
       }
@@ -170,4 +226,17 @@ public void writeList(OutputStream out, Charset charset, Collection<?> collectio
   public void writeList(OutputStream out, Collection<?> collection) throws SerializationException {
     writeList(out, StandardCharsets.UTF_8, collection);
   }
+
+  private ObjectWriter writerFor(Object aasInstance) {
+    if (aasInstance == null) {
+      return mapper.writer();
+    }
+    return writers.computeIfAbsent(aasInstance.getClass(), mapper::writerFor);
+  }
+
+  private ObjectWriter listWriterFor(Class<?> elementType) {
+    return listWriters.computeIfAbsent(
+        elementType,
+        x -> mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, x)));
+  }
 }
@@ -15,44 +15,103 @@
  */
 package org.eclipse.digitaltwin.aas4j.v3.dataformat.json;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.CustomProperty;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.CustomSubmodel;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.CustomSubmodel2;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.FileBinaryValueStore;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.InterningPool;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.util.ExampleData;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.util.Examples;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.DataSpecificationContent;
 import org.eclipse.digitaltwin.aas4j.v3.model.DefaultDummyDataSpecification;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Identifiable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Property;
 import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.frozen.Freezer;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
 import org.junit.BeforeClass;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class JsonDeserializerTest {
   private static JsonDeserializer deserializerToTest;
 
+  @Rule public TemporaryFolder tempFolder = new TemporaryFolder();
+
   @BeforeClass
   public static void initialize() {
     deserializerToTest = new JsonDeserializer();
   }
 
+  @Test
+  public void testEnvironmentReader() throws Exception {
+    Environment expected = Examples.EXAMPLE_FULL.getModel();
+    Environment actual = new DefaultEnvironment();
+    try (JsonEnvironmentReader reader =
+        deserializerToTest.createEnvironmentReader(Examples.EXAMPLE_FULL.fileContentStream())) {
+      while (reader.hasNext()) {
+        Identifiable identifiable = reader.next();
+        if (identifiable instanceof AssetAdministrationShell) {
+          actual.getAssetAdministrationShells().add((AssetAdministrationShell) identifiable);
+        } else if (identifiable instanceof Submodel) {
+          actual.getSubmodels().add((Submodel) identifiable);
+        } else {
+          actual.getConceptDescriptions().add((ConceptDescription) identifiable);
+        }
+      }
+    }
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void testEnvironmentReaderSkipsUnknownAndEmptyFields() throws Exception {
+    String json =
+        "{\"unknown\": {\"submodels\": [{\"id\": \"ignored\"}]}, \"assetAdministrationShells\": null,"
+            + " \"submodels\": [{\"modelType\": \"Submodel\", \"id\": \"http://example.org/submodel\"}],"
+            + " \"conceptDescriptions\": []}";
+    try (JsonEnvironmentReader reader =
+        deserializerToTest.createEnvironmentReader(
+            new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+      assertTrue(reader.hasNext());
+      assertEquals(
+          new DefaultSubmodel.Builder().id("http://example.org/submodel").build(), reader.next());
+      assertFalse(reader.hasNext());
+    }
+  }
+
   @Test
   public void testReadCustomDataSpecification() throws DeserializationException {
     JsonDeserializer deserializer = new JsonDeserializer();
@@ -79,6 +138,53 @@ public void testReadCustomImplementationClass() throws Exception {
     checkImplementationClasses(environment, CustomSubmodel2.class, CustomProperty.class);
   }
 
+  @Test
+  public void testBuilderWithCustomImplementationClasses() throws Exception {
+    String json = Examples.EXAMPLE_SIMPLE.fileContent();
+    JsonDeserializer deserializer =
+        JsonDeserializer.builder()
+            .useImplementation(Submodel.class, CustomSubmodel.class)
+            .useImplementation(Property.class, CustomProperty.class)
+            .useImplementation(Submodel.class, CustomSubmodel2.class)
+            .build();
+    Environment environment = deserializer.read(json, Environment.class);
+    checkImplementationClasses(environment, CustomSubmodel2.class, CustomProperty.class);
+  }
+
+  @Test
+  public void testSharedMapper() throws Exception {
+    JsonMapper mapper =
+        new JsonMapperFactory().create(new SimpleAbstractTypeResolverFactory().create());
+    Environment expected = Examples.EXAMPLE_FULL.getModel();
+    String json = new JsonSerializer(mapper).write(expected);
+    assertEquals(expected, new JsonDeserializer(mapper).read(json, Environment.class));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testSharedMapperRejectsCustomImplementation() {
+    JsonMapper mapper =
+        new JsonMapperFactory().create(new SimpleAbstractTypeResolverFactory().create());
+    new JsonDeserializer(mapper).useImplementation(Submodel.class, CustomSubmodel.class);
+  }
+
+  @Test
+  public void testReadWithInterningPool() throws Exception {
+    InterningPool pool = new InterningPool();
+    JsonDeserializer deserializer = JsonDeserializer.builder().interningPool(pool).build();
+    Environment expected = Examples.EXAMPLE_FULL.getModel();
+    Environment first = deserializer.read(Examples.EXAMPLE_FULL.fileContent(), Environment.class);
+    Environment second = deserializer.read(Examples.EXAMPLE_FULL.fileContent(), Environment.class);
+    assertEquals(Freezer.freeze(expected), Freezer.freeze(first));
+    assertEquals(Freezer.freeze(expected), Freezer.freeze(second));
+    assertEquals(new JsonSerializer().write(expected), new JsonSerializer().write(first));
+    assertNotNull(first.getSubmodels().get(0).getSemanticId());
+    assertSame(
+        first.getSubmodels().get(0).getSemanticId(), second.getSubmodels().get(0).getSemanticId());
+    assertSame(
+        first.getSubmodels().get(0).getDescription().get(0),
+        second.getSubmodels().get(0).getDescription().get(0));
+  }
+
   @Test
   @Ignore("Physical Unit has been removed from the V3.0 metamodel. Might be added later again.")
   public void testReadConceptDescriptionWithPhysicalUnit()
@@ -205,6 +311,43 @@ public void testReadSubmodelDescriptor() {
     readAndCompare(Examples.SUBMODEL_DESCRIPTOR);
   }
 
+  @Test
+  public void testReadBlobIntoBinaryValueStore() throws Exception {
+    byte[] content = new byte[100_000];
+    new Random(42).nextBytes(content);
+    Submodel expected =
+        new DefaultSubmodel.Builder()
+            .id("http://example.org/submodel")
+            .submodelElements(
+                new DefaultBlob.Builder()
+                    .idShort("blob")
+                    .contentType("application/octet-stream")
+                    .value(content)
+                    .build())
+            .build();
+    String json = new JsonSerializer().write(expected);
+    assertEquals(expected, deserializerToTest.read(json, Submodel.class));
+
+    try (FileBinaryValueStore store =
+        new FileBinaryValueStore(tempFolder.getRoot().toPath(), 1024)) {
+      JsonMapperFactory factory = new JsonMapperFactory(store);
+      Submodel actual =
+          JsonDeserializer.builder()
+              .jsonMapperFactory(factory)
+              .build()
+              .read(
+                  new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), Submodel.class);
+      byte[] handle = ((Blob) actual.getSubmodelElements().get(0)).getValue();
+      assertTrue(store.contains(handle));
+      assertArrayEquals(content, Files.readAllBytes(store.getFile(handle)));
+      JsonSerializer serializer =
+          new JsonSerializer(factory.create(new SimpleAbstractTypeResolverFactory().create()));
+      assertEquals(json, serializer.write(actual));
+      // serializers without the store must not write the handle as content
+      assertThrows(SerializationException.class, () -> new JsonSerializer().write(actual));
+    }
+  }
+
   @Test
   public void testReadSubmodelDescriptors() throws IOException, DeserializationException {
     String jsonString = "[" + Examples.SUBMODEL_DESCRIPTOR.fileContent() + "]";
@@ -17,8 +17,10 @@
 package org.eclipse.digitaltwin.aas4j.v3.dataformat.json;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import java.io.ByteArrayOutputStream;
@@ -33,8 +35,13 @@
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.util.ExampleData;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.util.Examples;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
 import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
 import org.json.JSONException;
 import org.junit.BeforeClass;
 import org.junit.Ignore;
@@ -94,6 +101,66 @@ public void testWriteToFile() throws IOException, SerializationException {
     assertTrue(file.exists());
   }
 
+  @Test
+  public void testCompactProfile() throws Exception {
+    Environment environment = Examples.EXAMPLE_FULL.getModel();
+    String pretty = serializerToTest.write(environment);
+    String compact = new JsonSerializer(JsonSerializationProfile.COMPACT).write(environment);
+    assertFalse(compact.contains("\n"));
+    assertTrue(compact.length() < pretty.length());
+    JSONAssert.assertEquals(pretty, compact, JSONCompareMode.STRICT);
+    assertEquals(environment, new JsonDeserializer().read(compact, Environment.class));
+  }
+
+  @Test
+  public void testNonEmptyProfile() throws Exception {
+    Property property = new DefaultProperty.Builder().idShort("property").value("").build();
+    assertTrue(
+        new JsonSerializer(JsonSerializationProfile.COMPACT)
+            .write(property)
+            .contains("\"value\":\"\""));
+    JsonSerializationProfile profile =
+        JsonSerializationProfile.COMPACT.withInclusion(JsonInclude.Include.NON_EMPTY);
+    assertFalse(new JsonSerializer(profile).write(property).contains("\"value\""));
+  }
+
+  @Test
+  public void testEnvironmentWriterMatchesSerializer() throws Exception {
+    for (Environment environment :
+        List.of(
+            Examples.EXAMPLE_FULL.getModel(),
+            Examples.EXAMPLE_SIMPLE.getModel(),
+            Examples.ENVIRONMENT_EMPTY.getModel())) {
+      ByteArrayOutputStream expected = new ByteArrayOutputStream();
+      serializerToTest.write(expected, environment);
+
+      ByteArrayOutputStream actual = new ByteArrayOutputStream();
+      try (JsonEnvironmentWriter writer = serializerToTest.createEnvironmentWriter(actual)) {
+        for (AssetAdministrationShell shell : environment.getAssetAdministrationShells()) {
+          writer.writeAssetAdministrationShell(shell);
+        }
+        for (ConceptDescription conceptDescription : environment.getConceptDescriptions()) {
+          writer.writeConceptDescription(conceptDescription);
+        }
+        for (Submodel submodel : environment.getSubmodels()) {
+          writer.writeSubmodel(submodel);
+        }
+      }
+      assertEquals(
+          expected.toString(StandardCharsets.UTF_8), actual.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testEnvironmentWriterRejectsShellAfterSubmodel() throws Exception {
+    Environment environment = Examples.EXAMPLE_SIMPLE.getModel();
+    try (JsonEnvironmentWriter writer =
+        serializerToTest.createEnvironmentWriter(new ByteArrayOutputStream())) {
+      writer.writeSubmodel(environment.getSubmodels().get(0));
+      writer.writeAssetAdministrationShell(environment.getAssetAdministrationShells().get(0));
+    }
+  }
+
   @Test
   public void testWriteEmptyEnv() {
     writeValidateAndCompare(Examples.ENVIRONMENT_EMPTY);
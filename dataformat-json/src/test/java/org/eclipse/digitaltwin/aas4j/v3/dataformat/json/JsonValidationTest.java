@@ -15,15 +15,23 @@
  */
 package org.eclipse.digitaltwin.aas4j.v3.dataformat.json;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeFalse;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
@@ -109,6 +117,51 @@ public void validateInvalidJson(String file) throws IOException {
     assertFalse(validate(file).isEmpty());
   }
 
+  @Test
+  @Parameters({
+    "src/test/resources/Example-Full.json",
+    "src/test/resources/Environment-Invalid.json"
+  })
+  public void validateStreamAndTreeLikeString(String file) throws IOException {
+    Set<String> expected = validate(file);
+    try (InputStream in = Files.newInputStream(Paths.get(file))) {
+      assertEquals(expected, validator.validateSchema(in));
+    }
+    assertEquals(
+        expected, validator.validateSchema(new ObjectMapper().readTree(Paths.get(file).toFile())));
+  }
+
+  @Test
+  public void validateWithCustomSchema() throws IOException {
+    String schema =
+        "{\"type\": \"object\", \"required\": [\"submodels\"], \"properties\": {\"submodels\": {\"type\": \"array\"}}}";
+    assertTrue(validator.validateSchema("{\"submodels\": []}", schema).isEmpty());
+    assertFalse(validator.validateSchema("{\"submodels\": 1}", schema).isEmpty());
+    assertFalse(validator.validateSchema("{}", schema).isEmpty());
+  }
+
+  @Test
+  public void validateConcurrently() throws Exception {
+    String valid =
+        new String(Files.readAllBytes(Paths.get("src/test/resources/Example-Full.json")));
+    String invalid =
+        new String(Files.readAllBytes(Paths.get("src/test/resources/Environment-Invalid.json")));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        String json = i % 2 == 0 ? valid : invalid;
+        results.add(
+            executor.submit(() -> new JsonSchemaValidator().validateSchema(json).isEmpty()));
+      }
+      for (int i = 0; i < results.size(); i++) {
+        assertEquals(i % 2 == 0, results.get(i).get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   private Set<String> validate(String file) throws IOException {
     String json = new String(Files.readAllBytes(Paths.get(file)));
     Set<String> result = validator.validateSchema(json);
@@ -24,18 +24,22 @@
 import com.fasterxml.jackson.dataformat.xml.XmlFactory;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.deserialization.Base64Deserializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.deserialization.EnumDeserializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.InterningPool;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.internal.XmlDataformatAnnotationIntrospector;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.internal.deserialization.OperationDeserializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.internal.deserialization.SubmodelElementDeserializer;
@@ -43,11 +47,18 @@
 import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 
+/**
+ * Class for deserializing/parsing AAS XML documents. Instances are thread-safe once configured and
+ * are meant to be shared. Instances using custom implementations should be created via {@link
+ * #builder()}, which builds the underlying mapper only once.
+ */
 public class XmlDeserializer {
 
   protected final XmlFactory xmlFactory;
   protected XmlMapper mapper;
   protected SimpleAbstractTypeResolver typeResolver;
+  protected InterningPool interningPool;
+  private boolean locked;
 
   @SuppressWarnings("rawtypes")
   protected static Map<Class<?>, JsonDeserializer> customDeserializers =
@@ -55,18 +66,31 @@ public class XmlDeserializer {
           SubmodelElement.class, new SubmodelElementDeserializer(),
           Operation.class, new OperationDeserializer());
 
-  private static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
-
   public XmlDeserializer() {
     this(new XmlFactory());
   }
 
   public XmlDeserializer(XmlFactory xmlFactory) {
+    this(xmlFactory, Map.of());
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private XmlDeserializer(XmlFactory xmlFactory, Map<Class<?>, Class<?>> implementations) {
     this.xmlFactory = xmlFactory;
     initTypeResolver();
+    implementations.forEach((x, y) -> typeResolver.addMapping((Class) x, (Class) y));
     buildMapper();
   }
 
+  /**
+   * Creates a builder for a deserializer with custom configuration
+   *
+   * @return the builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
   protected void buildMapper() {
     mapper =
         XmlMapper.builder(xmlFactory)
@@ -85,6 +109,7 @@ protected void buildMapper() {
   protected SimpleModule buildCustomDeserializerModule() {
     SimpleModule module = new SimpleModule();
     customDeserializers.forEach(module::addDeserializer);
+    module.addDeserializer(byte[].class, new Base64Deserializer());
     return module;
   }
 
@@ -117,15 +142,16 @@ protected SimpleModule buildImplementationModule() {
    */
   public Environment read(String value) throws DeserializationException {
     try {
-      return mapper.readValue(value, Environment.class);
+      return intern(mapper.readValue(value, Environment.class));
     } catch (JsonProcessingException ex) {
       throw new DeserializationException("deserialization failed", ex);
     }
   }
 
   /**
-   * Deserializes a given InputStream into an instance of AssetAdministrationShellEnvironment using
-   * DEFAULT_CHARSET
+   * Deserializes a given InputStream into an instance of AssetAdministrationShellEnvironment. The
+   * document is parsed directly from the stream, the charset is detected from the byte order mark
+   * and XML declaration and defaults to UTF-8.
    *
    * @param src an InputStream containing the string representation of the
    *     AssetAdministrationShellEnvironment
@@ -133,7 +159,11 @@ public Environment read(String value) throws DeserializationException {
    * @throws DeserializationException if deserialization fails
    */
   public Environment read(InputStream src) throws DeserializationException {
-    return read(src, DEFAULT_CHARSET);
+    try {
+      return intern(mapper.readValue(src, Environment.class));
+    } catch (IOException ex) {
+      throw new DeserializationException("deserialization failed", ex);
+    }
   }
 
   /**
@@ -147,15 +177,16 @@ public Environment read(InputStream src) throws DeserializationException {
    * @throws DeserializationException if deserialization fails
    */
   public Environment read(InputStream src, Charset charset) throws DeserializationException {
-    return read(
-        new BufferedReader(new InputStreamReader(src, charset))
-            .lines()
-            .collect(Collectors.joining(System.lineSeparator())));
+    try {
+      return intern(mapper.readValue(new InputStreamReader(src, charset), Environment.class));
+    } catch (IOException ex) {
+      throw new DeserializationException("deserialization failed", ex);
+    }
   }
 
   /**
-   * Deserializes a given File into an instance of AssetAdministrationShellEnvironment using
-   * DEFAULT_CHARSET
+   * Deserializes a given File into an instance of AssetAdministrationShellEnvironment using a given
+   * charset
    *
    * @param file A java.io.File containing the string representation of the
    *     AssetAdministrationShellEnvironment
@@ -166,12 +197,18 @@ public Environment read(InputStream src, Charset charset) throws Deserialization
    */
   public Environment read(java.io.File file, Charset charset)
       throws FileNotFoundException, DeserializationException {
-    return read(new FileInputStream(file), charset);
+    try (InputStream src = new FileInputStream(file)) {
+      return read(src, charset);
+    } catch (FileNotFoundException ex) {
+      throw ex;
+    } catch (IOException ex) {
+      throw new DeserializationException("deserialization failed", ex);
+    }
   }
 
   /**
-   * Deserializes a given File into an instance of AssetAdministrationShellEnvironment using a given
-   * charset
+   * Deserializes a given File into an instance of AssetAdministrationShellEnvironment. The charset
+   * is detected from the byte order mark and XML declaration and defaults to UTF-8.
    *
    * @param file a java.io.File containing the string representation of the
    *     AssetAdministrationShellEnvironment
@@ -181,7 +218,32 @@ public Environment read(java.io.File file, Charset charset)
    */
   public Environment read(java.io.File file)
       throws FileNotFoundException, DeserializationException {
-    return read(file, DEFAULT_CHARSET);
+    try (InputStream src = new FileInputStream(file)) {
+      return read(src);
+    } catch (FileNotFoundException ex) {
+      throw ex;
+    } catch (IOException ex) {
+      throw new DeserializationException("deserialization failed", ex);
+    }
+  }
+
+  /**
+   * Deserializes a given file into an instance of AssetAdministrationShellEnvironment. The file is
+   * read through a buffered channel and the charset is detected from the byte order mark and XML
+   * declaration and defaults to UTF-8.
+   *
+   * @param path the path of the file containing the string representation of the
+   *     AssetAdministrationShellEnvironment
+   * @return an instance of AssetAdministrationShellEnvironment
+   * @throws IOException if reading the file fails
+   * @throws DeserializationException if deserialization fails
+   */
+  public Environment read(Path path) throws IOException, DeserializationException {
+    try (InputStream src = new BufferedInputStream(Files.newInputStream(path))) {
+      return intern(mapper.readValue(src, Environment.class));
+    } catch (JsonProcessingException ex) {
+      throw new DeserializationException("deserialization failed", ex);
+    }
   }
 
   /**
@@ -192,13 +254,104 @@ public Environment read(java.io.File file)
    * CustomSubmodel. Subsequent class with the same aasInterface parameter will override the effects
    * of all previous calls.
    *
+   * <p>Every call rebuilds the underlying mapper, use {@link Builder#useImplementation(Class,
+   * Class)} to register multiple implementations at once.
+   *
    * @param <T> the type of the interface to replace
    * @param aasInterface the class of the interface to replace
    * @param implementation the class implementing the interface that should be used for
    *     deserialization.
+   * @throws IllegalStateException if this deserializer has been built with {@link Builder#locked()}
    */
   public <T> void useImplementation(Class<T> aasInterface, Class<? extends T> implementation) {
+    if (locked) {
+      throw new IllegalStateException(
+          "custom implementations cannot be registered for a locked deserializer");
+    }
     typeResolver.addMapping(aasInterface, implementation);
     buildMapper();
   }
+
+  private Environment intern(Environment environment) {
+    return interningPool != null ? interningPool.internAll(environment) : environment;
+  }
+
+  /** Builder for {@link XmlDeserializer} instances that builds the underlying mapper only once. */
+  public static class Builder {
+    private final Map<Class<?>, Class<?>> implementations = new LinkedHashMap<>();
+    private XmlFactory xmlFactory;
+    private InterningPool interningPool;
+    private boolean locked;
+
+    private Builder() {}
+
+    /**
+     * Uses a custom implementation for deserialization instead of the default implementation, see
+     * {@link XmlDeserializer#useImplementation(Class, Class)}
+     *
+     * @param <T> the type of the interface to replace
+     * @param aasInterface the class of the interface to replace
+     * @param implementation the class implementing the interface that should be used for
+     *     deserialization.
+     * @return this builder
+     */
+    public <T> Builder useImplementation(Class<T> aasInterface, Class<? extends T> implementation) {
+      implementations.put(aasInterface, implementation);
+      return this;
+    }
+
+    /**
+     * Uses a custom factory for creating parsers
+     *
+     * @param xmlFactory the factory
+     * @return this builder
+     */
+    public Builder xmlFactory(XmlFactory xmlFactory) {
+      this.xmlFactory = xmlFactory;
+      return this;
+    }
+
+    /**
+     * Replaces equal references, keys and lang strings of all deserialized elements by a single
+     * canonical instance held by the given pool, see {@link InterningPool}. As canonical instances
+     * are shared, they are frozen and reject modification.
+     *
+     * @param interningPool the pool
+     * @return this builder
+     */
+    public Builder interningPool(InterningPool interningPool) {
+      this.interningPool = interningPool;
+      return this;
+    }
+
+    /**
+     * Locks the deserializer, so that {@link XmlDeserializer#useImplementation(Class, Class)}
+     * throws an {@link IllegalStateException}, e.g. for an instance shared between independent
+     * callers. As the mapper of a locked deserializer is never rebuilt, it keeps the custom
+     * deserializers present when it was built.
+     *
+     * @return this builder
+     */
+    public Builder locked() {
+      this.locked = true;
+      return this;
+    }
+
+    /**
+     * Builds the deserializer. The deserializers for an {@link Environment} and all of its content
+     * are resolved eagerly, so that the first document is not slowed down by their construction.
+     *
+     * @return the deserializer
+     */
+    public XmlDeserializer build() {
+      XmlDeserializer result =
+          new XmlDeserializer(
+              xmlFactory != null ? xmlFactory : new XmlFactory(),
+              new LinkedHashMap<>(implementations));
+      result.interningPool = interningPool;
+      result.locked = locked;
+      result.mapper.readerFor(Environment.class);
+      return result;
+    }
+  }
 }
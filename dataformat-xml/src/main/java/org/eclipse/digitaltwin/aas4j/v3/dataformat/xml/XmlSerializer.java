@@ -24,15 +24,19 @@
 import com.fasterxml.jackson.dataformat.xml.XmlFactory;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
+import java.io.BufferedOutputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.serialization.Base64Serializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.serialization.EnumSerializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.internal.XmlDataformatAnnotationIntrospector;
@@ -47,7 +51,6 @@ public class XmlSerializer {
   protected final XmlFactory xmlFactory;
   protected XmlMapper mapper;
   protected Map<String, String> namespacePrefixes;
-  private static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
 
   public XmlSerializer() {
     this(null);
@@ -89,6 +92,7 @@ protected SimpleModule buildCustomSerializerModule() {
     module.addSerializer(Environment.class, aasEnvSerializer);
     module.addSerializer(OperationVariable.class, new OperationVariableSerializer());
     module.addSerializer(Operation.class, new OperationSerializer());
+    module.addSerializer(byte[].class, new Base64Serializer());
     return module;
   }
 
@@ -115,7 +119,8 @@ public String write(Environment aasEnvironment) throws SerializationException {
   }
 
   /**
-   * Serializes a given instance of Environment to an OutputStream using DEFAULT_CHARSET
+   * Serializes a given instance of Environment to an OutputStream using UTF-8. The document is
+   * streamed to the OutputStream without being buffered as a whole.
    *
    * @param out the Outputstream to serialize to
    * @param aasEnvironment the Environment to serialize
@@ -124,11 +129,16 @@ public String write(Environment aasEnvironment) throws SerializationException {
    */
   public void write(OutputStream out, Environment aasEnvironment)
       throws IOException, SerializationException {
-    write(out, DEFAULT_CHARSET, aasEnvironment);
+    try {
+      mapper.writer().writeValue(out, aasEnvironment);
+    } catch (JsonProcessingException ex) {
+      throw new SerializationException("serialization failed", ex);
+    }
   }
 
   /**
-   * Serializes a given instance of Environment to an OutputStream using given charset
+   * Serializes a given instance of Environment to an OutputStream using given charset. The document
+   * is streamed to the OutputStream without being buffered as a whole.
    *
    * @param out the Outputstream to serialize to
    * @param charset the Charset to use for serialization
@@ -136,16 +146,48 @@ public void write(OutputStream out, Environment aasEnvironment)
    * @throws IOException if writing to the stream fails
    * @throws SerializationException if serialization fails
    */
-  void write(OutputStream out, Charset charset, Environment aasEnvironment)
+  public void write(OutputStream out, Charset charset, Environment aasEnvironment)
+      throws IOException, SerializationException {
+    write(new OutputStreamWriter(out, charset), aasEnvironment);
+  }
+
+  /**
+   * Serializes a given instance of Environment to a Writer. The document is streamed to the Writer
+   * without being buffered as a whole.
+   *
+   * @param writer the Writer to serialize to
+   * @param aasEnvironment the Environment to serialize
+   * @throws IOException if writing to the writer fails
+   * @throws SerializationException if serialization fails
+   */
+  public void write(Writer writer, Environment aasEnvironment)
+      throws IOException, SerializationException {
+    try {
+      mapper.writer().writeValue(writer, aasEnvironment);
+    } catch (JsonProcessingException ex) {
+      throw new SerializationException("serialization failed", ex);
+    }
+  }
+
+  /**
+   * Serializes a given instance of Environment to a file using UTF-8. The file is created or
+   * truncated if it already exists.
+   *
+   * @param path the path of the file to serialize to
+   * @param aasEnvironment the Environment to serialize
+   * @throws IOException if writing to the file fails
+   * @throws SerializationException if serialization fails
+   */
+  public void write(Path path, Environment aasEnvironment)
       throws IOException, SerializationException {
-    try (OutputStreamWriter writer = new OutputStreamWriter(out, charset)) {
-      writer.write(write(aasEnvironment));
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+      write(out, aasEnvironment);
     }
   }
 
   // Note that the AAS also defines a file class
   /**
-   * Serializes a given instance of Environment to a java.io.File using DEFAULT_CHARSET
+   * Serializes a given instance of Environment to a java.io.File using given charset
    *
    * @param file the java.io.File to serialize to
    * @param charset the Charset to use for serialization
@@ -154,15 +196,15 @@ void write(OutputStream out, Charset charset, Environment aasEnvironment)
    * @throws IOException if writing to the file fails
    * @throws SerializationException if serialization fails
    */
-  void write(java.io.File file, Charset charset, Environment aasEnvironment)
+  public void write(java.io.File file, Charset charset, Environment aasEnvironment)
       throws FileNotFoundException, IOException, SerializationException {
-    try (OutputStream out = new FileOutputStream(file)) {
+    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
       write(out, charset, aasEnvironment);
     }
   }
 
   /**
-   * Serializes a given instance of Environment to a java.io.File using given charset
+   * Serializes a given instance of Environment to a java.io.File using UTF-8
    *
    * @param file the java.io.File to serialize to
    * @param aasEnvironment the Environment to serialize
@@ -170,8 +212,10 @@ void write(java.io.File file, Charset charset, Environment aasEnvironment)
    * @throws IOException if writing to the file fails
    * @throws SerializationException if serialization fails
    */
-  void write(java.io.File file, Environment aasEnvironment)
+  public void write(java.io.File file, Environment aasEnvironment)
       throws FileNotFoundException, IOException, SerializationException {
-    write(file, DEFAULT_CHARSET, aasEnvironment);
+    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+      write(out, aasEnvironment);
+    }
   }
 }
@@ -18,6 +18,7 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAnnotatedRelationshipElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBasicEventElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
@@ -79,8 +80,10 @@ public class SubmodelElementManager {
    * Resolves the XML element name for a given submodel element type.
    *
    * <p>The mapping is defined in {@code CLASS_TO_NAME}. If the exact class is not present, the
-   * method walks up the class hierarchy and returns the first mapped superclass. This supports
-   * subclasses of the known model implementations.
+   * method walks up the class hierarchy and returns the first mapped superclass, and finally falls
+   * back to the default implementation of the AAS interface implemented by the class. This supports
+   * subclasses of the known model implementations as well as other implementations of the model
+   * interfaces, e.g. frozen elements.
    *
    * @param type the Java class to resolve
    * @return the XML element local name, or {@code null} if no mapping exists
@@ -98,7 +101,10 @@ public static String getXmlName(Class<?> type) {
       }
       current = current.getSuperclass();
     }
-    return null;
+    Class<?> aasInterface = ReflectionHelper.getAasInterface(type);
+    return aasInterface != null
+        ? CLASS_TO_NAME.get(ReflectionHelper.getDefaultImplementation(aasInterface))
+        : null;
   }
 
   public static Class<?> getClassByXmlName(String xmlName) {
@@ -17,12 +17,15 @@
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -43,6 +46,9 @@ public DataElementsDeserializer() {}
   @Override
   public List<DataElement> deserialize(JsonParser parser, DeserializationContext ctxt)
       throws IOException, JsonProcessingException {
+    if (parser instanceof FromXmlParser) {
+      return readDataElements(parser, ctxt);
+    }
     TreeNode treeNode = DeserializationHelper.getRootTreeNode(parser);
     if (treeNode instanceof TextNode) {
       return new ArrayList<>();
@@ -65,6 +71,23 @@ public List<DataElement> deserialize(JsonParser parser, DeserializationContext c
     return dataElements;
   }
 
+  private List<DataElement> readDataElements(JsonParser parser, DeserializationContext ctxt)
+      throws IOException {
+    List<DataElement> dataElements = new ArrayList<>();
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return dataElements;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      SubmodelElement elem = deserializer.deserializeElement(parser, ctxt, parser.currentName());
+      if (!(elem instanceof DataElement)) {
+        throw new JsonMappingException(parser, "Expected data element but found " + elem);
+      }
+      dataElements.add((DataElement) elem);
+    }
+    return dataElements;
+  }
+
   private DataElement createDataElementFromNode(
       JsonParser parser, DeserializationContext ctxt, ObjectNode dataElementNode)
       throws IOException, JsonProcessingException {
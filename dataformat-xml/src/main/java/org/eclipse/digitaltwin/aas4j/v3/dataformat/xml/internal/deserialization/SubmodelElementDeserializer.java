@@ -17,9 +17,11 @@
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -29,15 +31,85 @@
 import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
 import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.internal.SubmodelElementManager;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 
+/**
+ * Deserializes a single submodel element wrapped in an element named after its type, e.g. {@code
+ * <property>...</property>}.
+ *
+ * <p>When reading from an XML parser the type is determined by the first field name and the content
+ * is handed directly to the bean deserializer of the respective type, i.e. no intermediate tree is
+ * built. For other parsers (e.g. when the content has already been buffered into a tree by an
+ * enclosing deserializer) the element is read as tree and wrapped lists are unwrapped based on
+ * metadata that is computed once per type.
+ */
 public class SubmodelElementDeserializer extends JsonDeserializer<SubmodelElement> {
 
+  private static final Map<String, JavaType> TYPES_BY_NAME = new HashMap<>();
+
+  static {
+    SubmodelElementManager.NAME_TO_CLASS.forEach(
+        (name, clazz) ->
+            TYPES_BY_NAME.put(name, TypeFactory.defaultInstance().constructType(clazz)));
+  }
+
+  private final Map<Class<?>, List<WrappedProperty>> wrappedProperties = new ConcurrentHashMap<>();
+
   @Override
   public SubmodelElement deserialize(JsonParser parser, DeserializationContext ctxt)
       throws IOException, JsonProcessingException {
+    if (!(parser instanceof FromXmlParser)) {
+      return deserializeFromTree(parser);
+    }
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = parser.nextToken();
+    }
+    if (token != JsonToken.FIELD_NAME) {
+      throw new JsonMappingException(parser, "Expected submodel element but found " + token);
+    }
+    SubmodelElement element = deserializeElement(parser, ctxt, parser.currentName());
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+    return element;
+  }
+
+  /**
+   * Reads the content of a submodel element from the given parser which must be positioned at the
+   * field name of the element.
+   *
+   * @param parser the parser positioned at the field name
+   * @param ctxt the deserialization context
+   * @param elementName the XML name of the element, e.g. {@code property}
+   * @return the submodel element
+   * @throws IOException if the element is unknown or reading fails
+   */
+  SubmodelElement deserializeElement(
+      JsonParser parser, DeserializationContext ctxt, String elementName) throws IOException {
+    JavaType type = TYPES_BY_NAME.get(elementName);
+    if (type == null) {
+      throw new JsonMappingException(parser, "Unknown element " + elementName);
+    }
+    if (parser.nextToken() == JsonToken.VALUE_NULL) {
+      return (SubmodelElement) ctxt.findRootValueDeserializer(type).getEmptyValue(ctxt);
+    }
+    return ctxt.readValue(parser, type);
+  }
+
+  private SubmodelElement deserializeFromTree(JsonParser parser) throws IOException {
     ObjectNode node = DeserializationHelper.getRootObjectNode(parser);
     String elemName = findSubmodelElementName(parser, node);
     JsonNode nodeContent = node.get(elemName);
@@ -49,9 +121,11 @@ public SubmodelElement deserialize(JsonParser parser, DeserializationContext ctx
 
   private String findSubmodelElementName(JsonParser parser, ObjectNode node)
       throws JsonMappingException {
-    for (String value : SubmodelElementManager.NAME_TO_CLASS.keySet()) {
-      if (node.has(value)) {
-        return value;
+    Iterator<String> names = node.fieldNames();
+    while (names.hasNext()) {
+      String name = names.next();
+      if (TYPES_BY_NAME.containsKey(name)) {
+        return name;
       }
     }
     throw new JsonMappingException(parser, "Unknown element " + node);
@@ -65,10 +139,25 @@ private JsonNode unwrapWrappedLists(JsonParser parser, JsonNode node, Class<?> c
     if (!(codec instanceof ObjectMapper)) {
       return node;
     }
-    ObjectMapper mapper = (ObjectMapper) codec;
+    ObjectNode objectNode = (ObjectNode) node;
+    for (WrappedProperty prop :
+        wrappedProperties.computeIfAbsent(
+            clazz, x -> findWrappedProperties((ObjectMapper) codec, x))) {
+      JsonNode wrapperNode = objectNode.get(prop.wrapperName);
+      if (wrapperNode != null && wrapperNode.isObject()) {
+        JsonNode inner = wrapperNode.get(prop.propertyName);
+        if (inner != null) {
+          objectNode.set(prop.wrapperName, inner);
+        }
+      }
+    }
+    return objectNode;
+  }
+
+  private static List<WrappedProperty> findWrappedProperties(ObjectMapper mapper, Class<?> clazz) {
     BeanDescription desc =
         mapper.getDeserializationConfig().introspect(mapper.constructType(clazz));
-    ObjectNode objectNode = (ObjectNode) node;
+    List<WrappedProperty> result = new ArrayList<>();
     for (BeanPropertyDefinition prop : desc.findProperties()) {
       if (hasCustomDeserializer(prop)) {
         continue;
@@ -78,25 +167,15 @@ private JsonNode unwrapWrappedLists(JsonParser parser, JsonNode node, Class<?> c
         continue;
       }
       String wrapperLocalName = wrapperName.getSimpleName();
-      String propertyName = prop.getName();
       if (wrapperLocalName == null || wrapperLocalName.isEmpty()) {
         continue;
       }
-      JsonNode wrapperNode = objectNode.get(wrapperLocalName);
-      if (wrapperNode == null || wrapperNode.isNull()) {
-        continue;
-      }
-      if (wrapperNode.isObject()) {
-        JsonNode inner = wrapperNode.get(propertyName);
-        if (inner != null) {
-          objectNode.set(wrapperLocalName, inner);
-        }
-      }
+      result.add(new WrappedProperty(wrapperLocalName, prop.getName()));
     }
-    return objectNode;
+    return Collections.unmodifiableList(result);
   }
 
-  private boolean hasCustomDeserializer(BeanPropertyDefinition prop) {
+  private static boolean hasCustomDeserializer(BeanPropertyDefinition prop) {
     AnnotatedMember accessor = prop.getAccessor();
     if (accessor != null && accessor.getAnnotation(JsonDeserialize.class) != null) {
       return true;
@@ -104,4 +183,14 @@ private boolean hasCustomDeserializer(BeanPropertyDefinition prop) {
     AnnotatedMember mutator = prop.getMutator();
     return mutator != null && mutator.getAnnotation(JsonDeserialize.class) != null;
   }
+
+  private static class WrappedProperty {
+    private final String wrapperName;
+    private final String propertyName;
+
+    private WrappedProperty(String wrapperName, String propertyName) {
+      this.wrapperName = wrapperName;
+      this.propertyName = propertyName;
+    }
+  }
 }
@@ -17,6 +17,7 @@
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
@@ -25,6 +26,7 @@
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -44,6 +46,9 @@ public SubmodelElementsDeserializer() {}
   @Override
   public List<SubmodelElement> deserialize(JsonParser parser, DeserializationContext ctxt)
       throws IOException, JsonProcessingException {
+    if (parser instanceof FromXmlParser) {
+      return readSubmodelElements(parser, ctxt);
+    }
     TreeNode treeNode = DeserializationHelper.getRootTreeNode(parser);
     if (treeNode instanceof TextNode) {
       return new ArrayList<>();
@@ -52,6 +57,24 @@ public List<SubmodelElement> deserialize(JsonParser parser, DeserializationConte
     }
   }
 
+  private List<SubmodelElement> readSubmodelElements(JsonParser parser, DeserializationContext ctxt)
+      throws IOException {
+    List<SubmodelElement> submodelElements = new ArrayList<>();
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.START_ARRAY) {
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        submodelElements.add(deserializer.deserialize(parser, ctxt));
+      }
+    } else if (token == JsonToken.START_OBJECT) {
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        submodelElements.add(deserializer.deserializeElement(parser, ctxt, parser.currentName()));
+      }
+    } else {
+      parser.skipChildren();
+    }
+    return submodelElements;
+  }
+
   private List<SubmodelElement> createSubmodelElements(
       JsonParser parser, DeserializationContext ctxt, TreeNode treeNode)
       throws IOException, JsonProcessingException {
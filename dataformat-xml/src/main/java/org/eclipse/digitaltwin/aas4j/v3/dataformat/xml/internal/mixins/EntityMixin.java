@@ -27,7 +27,7 @@
 
 public interface EntityMixin {
   @JacksonXmlProperty(namespace = AasXmlNamespaceContext.AAS_URI, localName = "statements")
-  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonInclude(JsonInclude.Include.NON_EMPTY)
   @JsonSerialize(using = SubmodelElementsSerializer.class)
   @JsonDeserialize(using = SubmodelElementsDeserializer.class)
   public List<SubmodelElement> getStatements();
@@ -21,7 +21,6 @@
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import java.io.IOException;
 import java.util.List;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.internal.SubmodelElementManager;
 import org.eclipse.digitaltwin.aas4j.v3.model.AbstractLangString;
 
@@ -45,14 +44,8 @@ public void serialize(List<T> langStrings, JsonGenerator gen, SerializerProvider
     ToXmlGenerator xgen = (ToXmlGenerator) gen;
     xgen.writeStartObject();
     for (T element : langStrings) {
-      List<Runnable> resetRunnables =
-          ReflectionHelper.setEmptyListsToNull(
-              element); // call is needed to prevent empty tags (e.g. statements.size=0 leads to
-      // <statements />, which is not allowed according to the schema
       xgen.writeFieldName(SubmodelElementManager.getXmlName(element.getClass()));
       ser.serialize(element, xgen, serializers);
-
-      resetRunnables.stream().forEach(r -> r.run());
     }
     xgen.writeEndObject();
   }
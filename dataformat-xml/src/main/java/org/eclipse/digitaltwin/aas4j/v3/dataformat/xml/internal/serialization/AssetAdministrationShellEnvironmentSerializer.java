@@ -20,14 +20,12 @@
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.internal.AasXmlNamespaceContext;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
@@ -132,12 +130,6 @@ private void writeSubmodels(ToXmlGenerator xgen, List<Submodel> submodels) throw
 
   private void writeWrappedArray(ToXmlGenerator xgen, QName wrapper, QName wrapped, List<?> list)
       throws IOException {
-    // overwrite all empty list with null, as the schema does not allow empty XML lists
-
-    List<Runnable> resetRunnables = new ArrayList<>();
-
-    for (Object obj : list) resetRunnables.addAll(ReflectionHelper.setEmptyListsToNull(obj));
-
     xgen.writeFieldName(wrapper.getLocalPart());
     xgen.writeStartArray();
     xgen.startWrappedValue(wrapper, wrapped);
@@ -146,8 +138,6 @@ private void writeWrappedArray(ToXmlGenerator xgen, QName wrapper, QName wrapped
     }
     xgen.finishWrappedValue(wrapper, wrapped);
     xgen.writeEndArray();
-
-    resetRunnables.stream().forEach(r -> r.run());
   }
 
   private void closeOpeningTag(ToXmlGenerator xgen) throws IOException {
@@ -46,4 +46,9 @@ public void serialize(
     }
     xgen.writeEndObject();
   }
+
+  @Override
+  public boolean isEmpty(SerializerProvider provider, List<SubmodelElement> value) {
+    return value == null || value.isEmpty();
+  }
 }
@@ -64,4 +64,9 @@ private void writeReference(ToXmlGenerator xgen, Reference ref) throws IOExcepti
     xgen.writeFieldName("reference");
     xgen.writeObject(ref);
   }
+
+  @Override
+  public boolean isEmpty(SerializerProvider provider, List<Reference> value) {
+    return value == null || value.isEmpty();
+  }
 }
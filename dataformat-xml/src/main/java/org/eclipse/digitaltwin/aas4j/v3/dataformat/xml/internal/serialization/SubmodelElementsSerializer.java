@@ -21,7 +21,6 @@
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import java.io.IOException;
 import java.util.List;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.internal.SubmodelElementManager;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 
@@ -37,17 +36,7 @@ public void serialize(
     ToXmlGenerator xgen = (ToXmlGenerator) gen;
     // If list is null or contains no non-null elements, omit the wrapper entirely to
     // avoid generating an empty <value/> element, which is not valid per the XSD.
-    if (value == null) {
-      return;
-    }
-    boolean hasNonNull = false;
-    for (SubmodelElement e : value) {
-      if (e != null) {
-        hasNonNull = true;
-        break;
-      }
-    }
-    if (!hasNonNull) {
+    if (isEmpty(serializers, value)) {
       return;
     }
     xgen.writeStartObject();
@@ -56,14 +45,26 @@ public void serialize(
         // Skip null entries to avoid NPE during serialization and schema-invalid empty tags
         continue;
       }
-      List<Runnable> resetRunnables =
-          ReflectionHelper.setEmptyListsToNull(
-              element); // call is needed to prevent empty tags (e.g. statements.size=0 leads to
-      // <statements />, which is not allowed according to the schema
       xgen.writeFieldName(SubmodelElementManager.getXmlName(element.getClass()));
       ser.serialize(element, xgen, serializers);
-      resetRunnables.stream().forEach(r -> r.run());
     }
     xgen.writeEndObject();
   }
+
+  /**
+   * Reports lists without any non-null element as empty so that properties using this serializer
+   * are omitted entirely when included as NON_EMPTY, as the schema does not allow empty XML lists.
+   */
+  @Override
+  public boolean isEmpty(SerializerProvider provider, List<SubmodelElement> value) {
+    if (value == null) {
+      return true;
+    }
+    for (SubmodelElement element : value) {
+      if (element != null) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
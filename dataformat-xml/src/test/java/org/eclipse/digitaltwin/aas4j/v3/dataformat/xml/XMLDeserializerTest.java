@@ -15,13 +15,18 @@
  */
 package org.eclipse.digitaltwin.aas4j.v3.dataformat.xml;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Random;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.AASFull;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.AASSimple;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.CustomSubmodel;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.Examples;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.InterningPool;
 import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.File;
@@ -31,6 +36,12 @@
 import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.frozen.Freezer;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
 import org.junit.Assert;
 import org.junit.Test;
 import org.xml.sax.SAXException;
@@ -44,6 +55,58 @@ public void deserializeAASSimple() throws FileNotFoundException, Deserialization
     Assert.assertEquals(AASSimple.createEnvironment(), env);
   }
 
+  @Test
+  public void deserializeLargeBlob() throws Exception {
+    byte[] content = new byte[100_000];
+    new Random(42).nextBytes(content);
+    Environment expected =
+        new DefaultEnvironment.Builder()
+            .submodels(
+                new DefaultSubmodel.Builder()
+                    .id("http://example.org/submodel")
+                    .submodelElements(
+                        new DefaultBlob.Builder()
+                            .idShort("blob")
+                            .contentType("application/octet-stream")
+                            .value(content)
+                            .build())
+                    .build())
+            .build();
+    String xml = new XmlSerializer().write(expected);
+    Assert.assertEquals(expected, new XmlDeserializer().read(xml));
+  }
+
+  @Test
+  public void deserializeAASSimpleFromPath() throws Exception {
+    Environment env = new XmlDeserializer().read(XmlSerializerTest.AASSIMPLE_FILE.toPath());
+
+    Assert.assertEquals(AASSimple.createEnvironment(), env);
+  }
+
+  @Test
+  public void deserializeFromInputStreamWithDeclaredEncoding() throws Exception {
+    String xml =
+        new XmlSerializer()
+            .write(AASSimple.createEnvironment())
+            .replaceFirst("encoding=['\"][^'\"]*['\"]", "encoding=\"UTF-16\"");
+    Environment env =
+        new XmlDeserializer().read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_16)));
+
+    Assert.assertEquals(AASSimple.createEnvironment(), env);
+  }
+
+  @Test
+  public void deserializeWithCustomImplementationFromBuilder() throws Exception {
+    XmlDeserializer deserializer =
+        XmlDeserializer.builder().useImplementation(Submodel.class, CustomSubmodel.class).build();
+    Environment env = deserializer.read(XmlSerializerTest.AASSIMPLE_FILE);
+
+    Assert.assertFalse(env.getSubmodels().isEmpty());
+    for (Submodel submodel : env.getSubmodels()) {
+      Assert.assertEquals(CustomSubmodel.class, submodel.getClass());
+    }
+  }
+
   @Test
   public void deserializeAASSimpleAAS() throws Exception {
     Environment env = new XmlDeserializer().read(XmlSerializerTest.AASSIMPLE_FILE);
@@ -121,6 +184,24 @@ public void deserializeAASFull() throws FileNotFoundException, DeserializationEx
     Assert.assertEquals(expectedEnv, env);
   }
 
+  @Test
+  public void deserializeAASFullWithInterningPool() throws Exception {
+    InterningPool pool = new InterningPool();
+    XmlDeserializer deserializer = XmlDeserializer.builder().interningPool(pool).build();
+    Environment first = deserializer.read(XmlSerializerTest.AASFULL_FILE);
+    Environment second = deserializer.read(XmlSerializerTest.AASFULL_FILE);
+    Assert.assertEquals(Freezer.freeze(AASFull.createEnvironment()), Freezer.freeze(first));
+    Assert.assertEquals(Freezer.freeze(AASFull.createEnvironment()), Freezer.freeze(second));
+    Assert.assertEquals(
+        new XmlSerializer().write(AASFull.createEnvironment()), new XmlSerializer().write(first));
+    Assert.assertNotNull(first.getSubmodels().get(0).getSemanticId());
+    Assert.assertSame(
+        first.getSubmodels().get(0).getSemanticId(), second.getSubmodels().get(0).getSemanticId());
+    Assert.assertSame(
+        first.getSubmodels().get(0).getDescription().get(0),
+        second.getSubmodels().get(0).getDescription().get(0));
+  }
+
   @Test
   public void deserializeAASFullAAS() throws FileNotFoundException, DeserializationException {
     Environment env = new XmlDeserializer().read(XmlSerializerTest.AASFULL_FILE);
@@ -245,4 +326,43 @@ public void deserializeEmbeddedDataSpecificationsInSubmodelElement() throws Exce
     Assert.assertFalse(specs.isEmpty());
     Assert.assertNotNull(specs.get(0).getDataSpecificationContent());
   }
+
+  @Test
+  public void deserializeMixedSubmodelElementsKeepsDocumentOrder() throws Exception {
+    String xml =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<aas:environment xmlns:aas=\"https://admin-shell.io/aas/3/1\">\n"
+            + "  <aas:submodels>\n"
+            + "    <aas:submodel>\n"
+            + "      <aas:id>urn:example:submodel:1</aas:id>\n"
+            + "      <aas:submodelElements>\n"
+            + "        <aas:property>\n"
+            + "          <aas:idShort>first</aas:idShort>\n"
+            + "          <aas:valueType>xs:string</aas:valueType>\n"
+            + "        </aas:property>\n"
+            + "        <aas:submodelElementList>\n"
+            + "          <aas:idShort>second</aas:idShort>\n"
+            + "          <aas:typeValueListElement>SubmodelElementCollection</aas:typeValueListElement>\n"
+            + "          <aas:value>\n"
+            + "            <aas:submodelElementCollection/>\n"
+            + "          </aas:value>\n"
+            + "        </aas:submodelElementList>\n"
+            + "        <aas:property>\n"
+            + "          <aas:idShort>third</aas:idShort>\n"
+            + "          <aas:valueType>xs:string</aas:valueType>\n"
+            + "        </aas:property>\n"
+            + "      </aas:submodelElements>\n"
+            + "    </aas:submodel>\n"
+            + "  </aas:submodels>\n"
+            + "</aas:environment>\n";
+
+    List<SubmodelElement> elements =
+        new XmlDeserializer().read(xml).getSubmodels().get(0).getSubmodelElements();
+    Assert.assertArrayEquals(
+        new String[] {"first", "second", "third"},
+        elements.stream().map(SubmodelElement::getIdShort).toArray(String[]::new));
+    List<SubmodelElement> listValue = ((SubmodelElementList) elements.get(1)).getValue();
+    Assert.assertEquals(1, listValue.size());
+    Assert.assertTrue(listValue.get(0) instanceof SubmodelElementCollection);
+  }
 }
@@ -20,13 +20,22 @@
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.AASFull;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.AASSimple;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
@@ -45,6 +54,7 @@
 import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
 import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAnnotatedRelationshipElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultDataSpecificationIec61360;
@@ -61,6 +71,7 @@
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultQualifier;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
 import org.hamcrest.MatcherAssert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -103,6 +114,30 @@ public void writeToFile() throws IOException, SerializationException {
     assertTrue(file.exists());
   }
 
+  @Test
+  public void writeToPath() throws Exception {
+    Path path = tempFolder.newFile("output.xml").toPath();
+    new XmlSerializer().write(path, AASSimple.createEnvironment());
+    assertEquals(AASSimple.createEnvironment(), new XmlDeserializer().read(path));
+  }
+
+  @Test
+  public void writeToWriter() throws Exception {
+    XmlSerializer serializer = new XmlSerializer();
+    StringWriter writer = new StringWriter();
+    serializer.write(writer, AASSimple.createEnvironment());
+    assertEquals(serializer.write(AASSimple.createEnvironment()), writer.toString());
+  }
+
+  @Test
+  public void writeToOutputStream() throws Exception {
+    XmlSerializer serializer = new XmlSerializer();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    serializer.write(out, AASSimple.createEnvironment());
+    assertEquals(
+        serializer.write(AASSimple.createEnvironment()), out.toString(StandardCharsets.UTF_8));
+  }
+
   @Test
   public void serializeMinimal() throws SerializationException, SAXException {
     File file = new File("src/test/resources/minimum.xml");
@@ -146,6 +181,59 @@ public void serializationDoesNotChangeEnvironment() throws SerializationExceptio
     assertEquals(AASSimple.createEnvironment(), env);
   }
 
+  @Test
+  public void serializeEmptyListsAgainstXsdSchema() throws SerializationException, SAXException {
+    Environment env = createEnvironmentWithEmptyLists();
+    String xml = new XmlSerializer().write(env);
+    assertTrue(validateAgainstXsdSchema(xml).isEmpty());
+    assertEquals(createEnvironmentWithEmptyLists(), env);
+  }
+
+  private static Environment createEnvironmentWithEmptyLists() {
+    return new DefaultEnvironment.Builder()
+        .submodels(
+            new DefaultSubmodel.Builder()
+                .id("testSubmodel")
+                .submodelElements(
+                    new DefaultEntity.Builder()
+                        .idShort("entity")
+                        .entityType(EntityType.SELF_MANAGED_ENTITY)
+                        .statements(new ArrayList<>())
+                        .build())
+                .submodelElements(
+                    new DefaultSubmodelElementCollection.Builder()
+                        .idShort("collection")
+                        .value(new ArrayList<>())
+                        .build())
+                .submodelElements(
+                    new DefaultAnnotatedRelationshipElement.Builder()
+                        .idShort("relationship")
+                        .annotations(new ArrayList<>())
+                        .build())
+                .build())
+        .build();
+  }
+
+  @Test
+  public void serializeConcurrently() throws Exception {
+    Environment env = AASFull.createEnvironment();
+    XmlSerializer serializer = new XmlSerializer();
+    String expected = serializer.write(env);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        results.add(executor.submit(() -> serializer.write(env)));
+      }
+      for (Future<String> result : results) {
+        assertEquals(expected, result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(AASFull.createEnvironment(), env);
+  }
+
   @Test
   public void validateConceptDescriptionAgainstXsdSchema()
       throws SerializationException, SAXException {
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes the fingerprint of the model to the class output when this module is built, i.e. the
+ * version of the model and a SHA-256 of the sorted names of the classes in the model and default
+ * implementation packages. The dataformat modules compare it against the fingerprint recorded in
+ * their generated model type metadata to detect that a different model is used at runtime.
+ *
+ * <p>Run as single-file source program, see the pom of this module.
+ */
+public class ModelFingerprint {
+
+  private static final String MODEL_PACKAGE = "org/eclipse/digitaltwin/aas4j/v3/model";
+  private static final String DEFAULT_IMPLEMENTATION_PACKAGE = MODEL_PACKAGE + "/impl";
+  private static final String RESOURCE_NAME = "model-fingerprint.properties";
+  private static final String CLASS_FILE_SUFFIX = ".class";
+
+  public static void main(String[] args) throws IOException, NoSuchAlgorithmException {
+    if (args.length != 2) {
+      throw new IllegalArgumentException("usage: ModelFingerprint <output directory> <version>");
+    }
+    Path root = Paths.get(args[0]);
+    List<String> names = new ArrayList<>();
+    names.addAll(listClassNames(root, MODEL_PACKAGE));
+    names.addAll(listClassNames(root, DEFAULT_IMPLEMENTATION_PACKAGE));
+    Collections.sort(names);
+    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+    for (String name : names) {
+      digest.update(name.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) '\n');
+    }
+    StringBuilder hash = new StringBuilder();
+    for (byte b : digest.digest()) {
+      hash.append(String.format("%02x", b));
+    }
+    Path file = root.resolve(MODEL_PACKAGE).resolve(RESOURCE_NAME);
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write("# Generated by " + ModelFingerprint.class.getSimpleName() + ", do not edit\n");
+      writer.write("version=" + args[1] + "\n");
+      writer.write("classes=" + hash + "\n");
+    }
+  }
+
+  private static List<String> listClassNames(Path root, String packagePath) throws IOException {
+    try (Stream<Path> files = Files.list(root.resolve(packagePath))) {
+      return files
+          .map(x -> x.getFileName().toString())
+          .filter(x -> x.endsWith(CLASS_FILE_SUFFIX))
+          .map(
+              x ->
+                  packagePath.replace('/', '.')
+                      + "."
+                      + x.substring(0, x.length() - CLASS_FILE_SUFFIX.length()))
+          .collect(Collectors.toList());
+    }
+  }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+
+/**
+ * Immutable snapshot of an environment which can be read by any number of threads without locking.
+ *
+ * <p>A snapshot is created by {@link #freeze(Environment)} and never changes afterwards: all of its
+ * elements are frozen copies created by {@link Freezer}, i.e. their setters and lists reject any
+ * modification, so the elements returned to readers can safely be shared between threads and
+ * snapshots. Edits return a new snapshot which copies only the path from the environment to the
+ * modified element, all other submodels and elements are shared with the previous snapshot. A
+ * shared, updatable environment is therefore typically held in an {@link
+ * java.util.concurrent.atomic.AtomicReference AtomicReference}: readers call {@code get()}, writers
+ * call {@code updateAndGet(snapshot -> snapshot.withSubmodel(submodel))}.
+ *
+ * <p>Submodel elements are addressed by idShort paths relative to their submodel, e.g. {@code
+ * collection.list[2].property}. Elements passed to a snapshot are copied when they are frozen, so
+ * later modifications by the caller do not affect the snapshot.
+ */
+public final class EnvironmentSnapshot {
+
+  private final FrozenEnvironment environment;
+
+  private final Map<String, Integer> submodelIndex;
+
+  private EnvironmentSnapshot(FrozenEnvironment environment, Map<String, Integer> submodelIndex) {
+    this.environment = environment;
+    this.submodelIndex = submodelIndex;
+  }
+
+  /**
+   * Creates a snapshot of the given environment. Only the elements of the environment which are not
+   * frozen already are copied.
+   *
+   * @param environment the environment to freeze
+   * @return the snapshot
+   * @throws IllegalArgumentException if the environment contains an element which cannot be frozen
+   */
+  public static EnvironmentSnapshot freeze(Environment environment) {
+    Objects.requireNonNull(environment, "environment must not be null");
+    FrozenEnvironment frozen = (FrozenEnvironment) Freezer.freeze(environment);
+    return new EnvironmentSnapshot(frozen, indexSubmodels(frozen.getSubmodels()));
+  }
+
+  /**
+   * Returns the frozen environment of this snapshot, which rejects any modification.
+   *
+   * @return the environment
+   */
+  public Environment getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * Returns the submodel with the given id.
+   *
+   * @param submodelId the id of the submodel
+   * @return the submodel or null if there is no such submodel
+   */
+  public Submodel getSubmodel(String submodelId) {
+    Integer index = submodelIndex.get(submodelId);
+    return index == null ? null : environment.getSubmodels().get(index);
+  }
+
+  /**
+   * Returns the submodel element addressed by an idShort path within a submodel.
+   *
+   * @param submodelId the id of the submodel
+   * @param idShortPath the idShort path relative to the submodel
+   * @return the submodel element or null if the path could not be resolved
+   */
+  public SubmodelElement getSubmodelElement(String submodelId, String idShortPath) {
+    Submodel submodel = getSubmodel(submodelId);
+    if (submodel == null || idShortPath == null || idShortPath.isEmpty()) {
+      return null;
+    }
+    List<Object> path = parsePath(idShortPath);
+    List<SubmodelElement> elements = submodel.getSubmodelElements();
+    boolean indexed = false;
+    SubmodelElement current = null;
+    for (Object segment : path) {
+      int index = indexOf(elements, indexed, segment);
+      if (index < 0) {
+        return null;
+      }
+      current = elements.get(index);
+      indexed = current instanceof SubmodelElementList;
+      elements = getChildren(current);
+    }
+    return current;
+  }
+
+  /**
+   * Returns a snapshot in which the given submodel replaces the submodel with the same id, or is
+   * appended if there is no such submodel.
+   *
+   * @param submodel the submodel to add
+   * @return the new snapshot
+   * @throws IllegalArgumentException if the submodel has no id or contains an element which cannot
+   *     be frozen
+   */
+  public EnvironmentSnapshot withSubmodel(Submodel submodel) {
+    Objects.requireNonNull(submodel, "submodel must not be null");
+    if (submodel.getId() == null) {
+      throw new IllegalArgumentException("submodel id must not be null");
+    }
+    Submodel frozen = Freezer.freeze(submodel);
+    FrozenList<Submodel> submodels = FrozenList.copyOf(nonNull(environment.getSubmodels()));
+    Integer index = submodelIndex.get(frozen.getId());
+    if (index != null) {
+      return new EnvironmentSnapshot(
+          environment.withSubmodels(submodels.with(index, frozen)), submodelIndex);
+    }
+    Map<String, Integer> newIndex = new HashMap<>(submodelIndex);
+    newIndex.put(frozen.getId(), submodels.size());
+    return new EnvironmentSnapshot(
+        environment.withSubmodels(submodels.plus(frozen)), Collections.unmodifiableMap(newIndex));
+  }
+
+  /**
+   * Returns a snapshot without the submodel with the given id.
+   *
+   * @param submodelId the id of the submodel to remove
+   * @return the new snapshot, or this snapshot if there is no such submodel
+   */
+  public EnvironmentSnapshot withoutSubmodel(String submodelId) {
+    Integer index = submodelIndex.get(submodelId);
+    if (index == null) {
+      return this;
+    }
+    FrozenList<Submodel> submodels = FrozenList.copyOf(environment.getSubmodels()).minus(index);
+    return new EnvironmentSnapshot(environment.withSubmodels(submodels), indexSubmodels(submodels));
+  }
+
+  /**
+   * Returns a snapshot in which the given element replaces the element addressed by the idShort
+   * path. If the last segment of the path is an idShort which does not exist yet, the element is
+   * appended to the addressed container instead. If the last segment is an idShort, it must match
+   * the idShort of the element.
+   *
+   * @param submodelId the id of the submodel
+   * @param idShortPath the idShort path relative to the submodel
+   * @param element the new element
+   * @return the new snapshot
+   * @throws IllegalArgumentException if the submodel or the container of the element does not
+   *     exist, the idShort of the element does not match the path or the element cannot be frozen
+   */
+  public EnvironmentSnapshot withSubmodelElement(
+      String submodelId, String idShortPath, SubmodelElement element) {
+    Objects.requireNonNull(element, "element must not be null");
+    return edit(submodelId, idShortPath, Freezer.freeze(element));
+  }
+
+  /**
+   * Returns a snapshot without the element addressed by the idShort path.
+   *
+   * @param submodelId the id of the submodel
+   * @param idShortPath the idShort path relative to the submodel
+   * @return the new snapshot, or this snapshot if there is no such element
+   */
+  public EnvironmentSnapshot withoutSubmodelElement(String submodelId, String idShortPath) {
+    if (getSubmodelElement(submodelId, idShortPath) == null) {
+      return this;
+    }
+    return edit(submodelId, idShortPath, null);
+  }
+
+  private EnvironmentSnapshot edit(
+      String submodelId, String idShortPath, SubmodelElement replacement) {
+    Integer index = submodelIndex.get(submodelId);
+    if (index == null) {
+      throw new IllegalArgumentException(
+          String.format("submodel with id %s does not exist", submodelId));
+    }
+    if (idShortPath == null || idShortPath.isEmpty()) {
+      throw new IllegalArgumentException("idShort path must not be empty");
+    }
+    FrozenSubmodel submodel = (FrozenSubmodel) environment.getSubmodels().get(index);
+    submodel =
+        submodel.withSubmodelElements(
+            edit(
+                submodel.getSubmodelElements(),
+                false,
+                parsePath(idShortPath),
+                0,
+                idShortPath,
+                replacement));
+    FrozenList<Submodel> submodels = FrozenList.copyOf(environment.getSubmodels());
+    return new EnvironmentSnapshot(
+        environment.withSubmodels(submodels.with(index, submodel)), submodelIndex);
+  }
+
+  private static List<SubmodelElement> edit(
+      List<SubmodelElement> elements,
+      boolean indexed,
+      List<Object> path,
+      int position,
+      String idShortPath,
+      SubmodelElement replacement) {
+    FrozenList<SubmodelElement> list = FrozenList.copyOf(nonNull(elements));
+    Object segment = path.get(position);
+    int index = indexOf(list, indexed, segment);
+    if (position == path.size() - 1) {
+      if (replacement != null
+          && segment instanceof String
+          && !segment.equals(replacement.getIdShort())) {
+        throw new IllegalArgumentException(
+            String.format(
+                "idShort %s of the element does not match idShort path %s",
+                replacement.getIdShort(), idShortPath));
+      }
+      if (replacement == null) {
+        return list.minus(index);
+      } else if (index >= 0) {
+        return list.with(index, replacement);
+      } else if (segment instanceof String) {
+        return list.plus(replacement);
+      }
+    } else if (index >= 0) {
+      SubmodelElement child = list.get(index);
+      if (child instanceof FrozenSubmodelElementCollection) {
+        FrozenSubmodelElementCollection collection = (FrozenSubmodelElementCollection) child;
+        return list.with(
+            index,
+            collection.withValue(
+                edit(collection.getValue(), false, path, position + 1, idShortPath, replacement)));
+      } else if (child instanceof FrozenSubmodelElementList) {
+        FrozenSubmodelElementList elementList = (FrozenSubmodelElementList) child;
+        return list.with(
+            index,
+            elementList.withValue(
+                edit(elementList.getValue(), true, path, position + 1, idShortPath, replacement)));
+      }
+    }
+    throw new IllegalArgumentException(
+        String.format("unable to resolve idShort path %s", idShortPath));
+  }
+
+  private static Map<String, Integer> indexSubmodels(List<Submodel> submodels) {
+    Map<String, Integer> result = new HashMap<>();
+    if (submodels != null) {
+      for (int i = 0; i < submodels.size(); i++) {
+        Submodel submodel = submodels.get(i);
+        if (submodel != null && submodel.getId() != null) {
+          result.putIfAbsent(submodel.getId(), i);
+        }
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  private static List<Object> parsePath(String idShortPath) {
+    List<Object> result = new ArrayList<>();
+    for (String segment : idShortPath.split("\\.", -1)) {
+      int bracket = segment.indexOf('[');
+      result.add(bracket < 0 ? segment : segment.substring(0, bracket));
+      while (bracket >= 0) {
+        int end = segment.indexOf(']', bracket);
+        if (end < 0) {
+          throw new IllegalArgumentException(String.format("invalid idShort path %s", idShortPath));
+        }
+        try {
+          result.add(Integer.parseInt(segment.substring(bracket + 1, end)));
+        } catch (NumberFormatException e) {
+          throw new IllegalArgumentException(
+              String.format("invalid idShort path %s", idShortPath), e);
+        }
+        bracket = segment.indexOf('[', end);
+      }
+    }
+    return result;
+  }
+
+  private static int indexOf(List<SubmodelElement> elements, boolean indexed, Object segment) {
+    if (elements == null) {
+      return -1;
+    }
+    if (segment instanceof Integer) {
+      int index = (Integer) segment;
+      return indexed && index >= 0 && index < elements.size() ? index : -1;
+    }
+    for (int i = 0; i < elements.size(); i++) {
+      SubmodelElement element = elements.get(i);
+      if (element != null && segment.equals(element.getIdShort())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static List<SubmodelElement> getChildren(SubmodelElement element) {
+    if (element instanceof SubmodelElementCollection) {
+      return ((SubmodelElementCollection) element).getValue();
+    } else if (element instanceof SubmodelElementList) {
+      return ((SubmodelElementList) element).getValue();
+    }
+    return null;
+  }
+
+  private static <T> List<T> nonNull(List<T> list) {
+    return list == null ? Collections.<T>emptyList() : list;
+  }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.eclipse.digitaltwin.aas4j.v3.model.AdministrativeInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.BaseOperationResult;
+import org.eclipse.digitaltwin.aas4j.v3.model.BasicEventElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.Capability;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataSpecificationIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.Descriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.Endpoint;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.EventPayload;
+import org.eclipse.digitaltwin.aas4j.v3.model.Extension;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringDefinitionTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringNameType;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringPreferredNameTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringShortNameTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.LevelType;
+import org.eclipse.digitaltwin.aas4j.v3.model.Message;
+import org.eclipse.digitaltwin.aas4j.v3.model.MultiLanguageProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationHandle;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationRequest;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationResult;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.PackageDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.ProtocolInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
+import org.eclipse.digitaltwin.aas4j.v3.model.Range;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.RelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Resource;
+import org.eclipse.digitaltwin.aas4j.v3.model.Result;
+import org.eclipse.digitaltwin.aas4j.v3.model.SecurityAttributeObject;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.ValueList;
+import org.eclipse.digitaltwin.aas4j.v3.model.ValueReferencePair;
+
+/**
+ * Creates frozen copies of model trees, i.e. trees of immutable elements which reject modifications
+ * through their setters and hold their children in immutable {@link FrozenList}s.
+ *
+ * <p>Freezing is an opt-in for large trees that are shared between threads, put into hash based
+ * collections or compared repeatedly: as a frozen tree cannot change, every frozen element computes
+ * its hash code once when it is created, so hashing e.g. a submodel only touches its own fields
+ * instead of its whole element tree, and equality checks between frozen elements reject differing
+ * elements by their hash code. To modify a frozen tree, copy the affected elements instead, e.g. by
+ * {@link EnvironmentSnapshot}.
+ *
+ * <p>Frozen elements have the same hash code as the default implementations with equal content, but
+ * like those they are only equal to elements of the same class. Elements of custom classes are
+ * frozen according to the most specific model interface they implement, so properties which are not
+ * part of the model interfaces are not copied. Byte arrays, e.g. the value of a {@link Blob}, are
+ * copied when they are frozen and when they are read.
+ */
+public final class Freezer {
+
+  private static final Map<Class<?>, Function<Object, Object>> FACTORIES = new HashMap<>();
+
+  static {
+    register(AdministrativeInformation.class, FrozenAdministrativeInformation::new);
+    register(AnnotatedRelationshipElement.class, FrozenAnnotatedRelationshipElement::new);
+    register(AssetAdministrationShell.class, FrozenAssetAdministrationShell::new);
+    register(
+        AssetAdministrationShellDescriptor.class, FrozenAssetAdministrationShellDescriptor::new);
+    register(AssetInformation.class, FrozenAssetInformation::new);
+    register(BaseOperationResult.class, FrozenBaseOperationResult::new);
+    register(BasicEventElement.class, FrozenBasicEventElement::new);
+    register(Blob.class, FrozenBlob::new);
+    register(Capability.class, FrozenCapability::new);
+    register(ConceptDescription.class, FrozenConceptDescription::new);
+    register(DataSpecificationIec61360.class, FrozenDataSpecificationIec61360::new);
+    register(Descriptor.class, FrozenDescriptor::new);
+    register(EmbeddedDataSpecification.class, FrozenEmbeddedDataSpecification::new);
+    register(Endpoint.class, FrozenEndpoint::new);
+    register(Entity.class, FrozenEntity::new);
+    register(Environment.class, FrozenEnvironment::new);
+    register(EventPayload.class, FrozenEventPayload::new);
+    register(Extension.class, FrozenExtension::new);
+    register(File.class, FrozenFile::new);
+    register(Key.class, FrozenKey::new);
+    register(LangStringDefinitionTypeIec61360.class, FrozenLangStringDefinitionTypeIec61360::new);
+    register(LangStringNameType.class, FrozenLangStringNameType::new);
+    register(
+        LangStringPreferredNameTypeIec61360.class, FrozenLangStringPreferredNameTypeIec61360::new);
+    register(LangStringShortNameTypeIec61360.class, FrozenLangStringShortNameTypeIec61360::new);
+    register(LangStringTextType.class, FrozenLangStringTextType::new);
+    register(LevelType.class, FrozenLevelType::new);
+    register(Message.class, FrozenMessage::new);
+    register(MultiLanguageProperty.class, FrozenMultiLanguageProperty::new);
+    register(Operation.class, FrozenOperation::new);
+    register(OperationHandle.class, FrozenOperationHandle::new);
+    register(OperationRequest.class, FrozenOperationRequest::new);
+    register(OperationResult.class, FrozenOperationResult::new);
+    register(OperationVariable.class, FrozenOperationVariable::new);
+    register(PackageDescription.class, FrozenPackageDescription::new);
+    register(Property.class, FrozenProperty::new);
+    register(ProtocolInformation.class, FrozenProtocolInformation::new);
+    register(Qualifier.class, FrozenQualifier::new);
+    register(Range.class, FrozenRange::new);
+    register(Reference.class, FrozenReference::new);
+    register(ReferenceElement.class, FrozenReferenceElement::new);
+    register(RelationshipElement.class, FrozenRelationshipElement::new);
+    register(Resource.class, FrozenResource::new);
+    register(Result.class, FrozenResult::new);
+    register(SecurityAttributeObject.class, FrozenSecurityAttributeObject::new);
+    register(SpecificAssetId.class, FrozenSpecificAssetId::new);
+    register(Submodel.class, FrozenSubmodel::new);
+    register(SubmodelDescriptor.class, FrozenSubmodelDescriptor::new);
+    register(SubmodelElementCollection.class, FrozenSubmodelElementCollection::new);
+    register(SubmodelElementList.class, FrozenSubmodelElementList::new);
+    register(ValueList.class, FrozenValueList::new);
+    register(ValueReferencePair.class, FrozenValueReferencePair::new);
+  }
+
+  private static final ClassValue<Function<Object, Object>> FACTORY =
+      new ClassValue<Function<Object, Object>>() {
+        @Override
+        protected Function<Object, Object> computeValue(Class<?> type) {
+          return findFactory(type);
+        }
+      };
+
+  private Freezer() {}
+
+  /**
+   * Returns a frozen copy of the given environment and all elements contained in it, see {@link
+   * #freeze(Class, Object)}.
+   *
+   * @param environment the environment to freeze, may be null
+   * @return the frozen copy, or null if the environment is null
+   * @throws IllegalArgumentException if the environment contains an element which cannot be frozen
+   */
+  public static Environment freeze(Environment environment) {
+    return freezeValue(environment);
+  }
+
+  /**
+   * Returns a frozen copy of the given submodel and all elements contained in it, see {@link
+   * #freeze(Class, Object)}.
+   *
+   * @param submodel the submodel to freeze, may be null
+   * @return the frozen copy, or null if the submodel is null
+   * @throws IllegalArgumentException if the submodel contains an element which cannot be frozen
+   */
+  public static Submodel freeze(Submodel submodel) {
+    return freezeValue(submodel);
+  }
+
+  /**
+   * Returns a frozen copy of the given submodel element and all elements contained in it, see
+   * {@link #freeze(Class, Object)}.
+   *
+   * @param element the submodel element to freeze, may be null
+   * @return the frozen copy, or null if the element is null
+   * @throws IllegalArgumentException if the element contains an element which cannot be frozen
+   */
+  public static SubmodelElement freeze(SubmodelElement element) {
+    return freezeValue(element);
+  }
+
+  /**
+   * Returns a frozen copy of the given element and all elements contained in it. Frozen elements
+   * are returned as-is, frozen elements contained in the given element are shared by the copy.
+   *
+   * @param type the model interface to return the copy as, e.g. {@code Reference.class}
+   * @param element the root of the tree to freeze, may be null
+   * @param <T> the type of the element
+   * @return the frozen copy, or null if the element is null
+   * @throws IllegalArgumentException if the type is not an interface, or if the tree contains an
+   *     element which does not implement exactly one most specific model interface
+   */
+  public static <T> T freeze(Class<T> type, T element) {
+    if (!type.isInterface()) {
+      throw new IllegalArgumentException(
+          String.format("type %s is not a model interface", type.getName()));
+    }
+    return type.cast(freezeValue(element));
+  }
+
+  /**
+   * Returns whether the given element has been created by {@link Freezer}.
+   *
+   * @param element the element
+   * @return whether the element is frozen
+   */
+  public static boolean isFrozen(Object element) {
+    return element instanceof FrozenElement;
+  }
+
+  /**
+   * Returns a frozen copy of the given element, which must be statically typed by a model interface
+   * as the copy is not an instance of the class of the element.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T freezeValue(T element) {
+    if (element == null || element instanceof FrozenElement) {
+      return element;
+    }
+    Function<Object, Object> factory = FACTORY.get(element.getClass());
+    if (factory == null) {
+      throw new IllegalArgumentException(
+          String.format("element of type %s cannot be frozen", element.getClass().getName()));
+    }
+    return (T) factory.apply(element);
+  }
+
+  static <T> List<T> freezeAll(List<T> elements) {
+    if (elements == null || elements instanceof FrozenList) {
+      return elements;
+    }
+    List<T> result = new ArrayList<>(elements.size());
+    for (T element : elements) {
+      result.add(freezeValue(element));
+    }
+    return FrozenList.copyOf(result);
+  }
+
+  static List<String> copyAll(List<String> values) {
+    return values != null ? FrozenList.copyOf(values) : null;
+  }
+
+  static byte[] copyOf(byte[] value) {
+    return value != null ? value.clone() : null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> void register(Class<T> type, Function<T, ? extends T> factory) {
+    FACTORIES.put(type, (Function<Object, Object>) factory);
+  }
+
+  private static Function<Object, Object> findFactory(Class<?> type) {
+    List<Class<?>> candidates = new ArrayList<>();
+    collectModelInterfaces(type, candidates);
+    Class<?> result = null;
+    for (Class<?> candidate : candidates) {
+      if (isMostSpecific(candidate, candidates)) {
+        if (result != null) {
+          return null;
+        }
+        result = candidate;
+      }
+    }
+    return result != null ? FACTORIES.get(result) : null;
+  }
+
+  private static boolean isMostSpecific(Class<?> type, List<Class<?>> candidates) {
+    for (Class<?> candidate : candidates) {
+      if (candidate != type && type.isAssignableFrom(candidate)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void collectModelInterfaces(Class<?> type, List<Class<?>> result) {
+    if (FACTORIES.containsKey(type) && !result.contains(type)) {
+      result.add(type);
+    }
+    for (Class<?> interfaceType : type.getInterfaces()) {
+      collectModelInterfaces(interfaceType, result);
+    }
+    if (type.getSuperclass() != null) {
+      collectModelInterfaces(type.getSuperclass(), result);
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.AdministrativeInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+
+/** Immutable implementation of {@link AdministrativeInformation}, see {@link Freezer}. */
+public final class FrozenAdministrativeInformation
+    implements AdministrativeInformation, FrozenElement {
+
+  private final Reference creator;
+
+  private final String revision;
+
+  private final String templateId;
+
+  private final String version;
+
+  private final List<EmbeddedDataSpecification> embeddedDataSpecifications;
+
+  private final int hash;
+
+  FrozenAdministrativeInformation(AdministrativeInformation source) {
+    this(
+        Freezer.freezeValue(source.getCreator()),
+        source.getRevision(),
+        source.getTemplateId(),
+        source.getVersion(),
+        Freezer.freezeAll(source.getEmbeddedDataSpecifications()));
+  }
+
+  private FrozenAdministrativeInformation(
+      Reference creator,
+      String revision,
+      String templateId,
+      String version,
+      List<EmbeddedDataSpecification> embeddedDataSpecifications) {
+    this.creator = creator;
+    this.revision = revision;
+    this.templateId = templateId;
+    this.version = version;
+    this.embeddedDataSpecifications = embeddedDataSpecifications;
+    this.hash =
+        Objects.hash(
+            this.version,
+            this.revision,
+            this.creator,
+            this.templateId,
+            this.embeddedDataSpecifications);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenAdministrativeInformation other = (FrozenAdministrativeInformation) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.version, other.version)
+          && Objects.equals(this.revision, other.revision)
+          && Objects.equals(this.creator, other.creator)
+          && Objects.equals(this.templateId, other.templateId)
+          && Objects.equals(this.embeddedDataSpecifications, other.embeddedDataSpecifications);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenAdministrativeInformation{"
+        + "creator="
+        + creator
+        + ", revision='"
+        + revision
+        + '\''
+        + ", templateId='"
+        + templateId
+        + '\''
+        + ", version='"
+        + version
+        + '\''
+        + ", embeddedDataSpecifications="
+        + embeddedDataSpecifications
+        + '}';
+  }
+
+  @Override
+  public String getVersion() {
+    return version;
+  }
+
+  @Override
+  public void setVersion(String version) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getRevision() {
+    return revision;
+  }
+
+  @Override
+  public void setRevision(String revision) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getCreator() {
+    return creator;
+  }
+
+  @Override
+  public void setCreator(Reference creator) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getTemplateId() {
+    return templateId;
+  }
+
+  @Override
+  public void setTemplateId(String templateId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<EmbeddedDataSpecification> getEmbeddedDataSpecifications() {
+    return embeddedDataSpecifications;
+  }
+
+  @Override
+  public void setEmbeddedDataSpecifications(
+      List<EmbeddedDataSpecification> embeddedDataSpecifications) {
+    throw new UnsupportedOperationException();
+  }
+}
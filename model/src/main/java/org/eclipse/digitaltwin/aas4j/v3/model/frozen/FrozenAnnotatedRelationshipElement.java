@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.Extension;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringNameType;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+
+/** Immutable implementation of {@link AnnotatedRelationshipElement}, see {@link Freezer}. */
+public final class FrozenAnnotatedRelationshipElement
+    implements AnnotatedRelationshipElement, FrozenElement {
+
+  private final List<DataElement> annotations;
+
+  private final List<EmbeddedDataSpecification> embeddedDataSpecifications;
+
+  private final List<Extension> extensions;
+
+  private final Reference semanticId;
+
+  private final List<Reference> supplementalSemanticIds;
+
+  private final List<Qualifier> qualifiers;
+
+  private final String category;
+
+  private final List<LangStringTextType> description;
+
+  private final List<LangStringNameType> displayName;
+
+  private final String idShort;
+
+  private final Reference first;
+
+  private final Reference second;
+
+  private final int hash;
+
+  FrozenAnnotatedRelationshipElement(AnnotatedRelationshipElement source) {
+    this(
+        Freezer.freezeAll(source.getAnnotations()),
+        Freezer.freezeAll(source.getEmbeddedDataSpecifications()),
+        Freezer.freezeAll(source.getExtensions()),
+        Freezer.freezeValue(source.getSemanticId()),
+        Freezer.freezeAll(source.getSupplementalSemanticIds()),
+        Freezer.freezeAll(source.getQualifiers()),
+        source.getCategory(),
+        Freezer.freezeAll(source.getDescription()),
+        Freezer.freezeAll(source.getDisplayName()),
+        source.getIdShort(),
+        Freezer.freezeValue(source.getFirst()),
+        Freezer.freezeValue(source.getSecond()));
+  }
+
+  private FrozenAnnotatedRelationshipElement(
+      List<DataElement> annotations,
+      List<EmbeddedDataSpecification> embeddedDataSpecifications,
+      List<Extension> extensions,
+      Reference semanticId,
+      List<Reference> supplementalSemanticIds,
+      List<Qualifier> qualifiers,
+      String category,
+      List<LangStringTextType> description,
+      List<LangStringNameType> displayName,
+      String idShort,
+      Reference first,
+      Reference second) {
+    this.annotations = annotations;
+    this.embeddedDataSpecifications = embeddedDataSpecifications;
+    this.extensions = extensions;
+    this.semanticId = semanticId;
+    this.supplementalSemanticIds = supplementalSemanticIds;
+    this.qualifiers = qualifiers;
+    this.category = category;
+    this.description = description;
+    this.displayName = displayName;
+    this.idShort = idShort;
+    this.first = first;
+    this.second = second;
+    this.hash =
+        Objects.hash(
+            this.annotations,
+            this.first,
+            this.second,
+            this.category,
+            this.idShort,
+            this.displayName,
+            this.description,
+            this.extensions,
+            this.embeddedDataSpecifications,
+            this.semanticId,
+            this.supplementalSemanticIds,
+            this.qualifiers);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenAnnotatedRelationshipElement other = (FrozenAnnotatedRelationshipElement) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.annotations, other.annotations)
+          && Objects.equals(this.first, other.first)
+          && Objects.equals(this.second, other.second)
+          && Objects.equals(this.category, other.category)
+          && Objects.equals(this.idShort, other.idShort)
+          && Objects.equals(this.displayName, other.displayName)
+          && Objects.equals(this.description, other.description)
+          && Objects.equals(this.extensions, other.extensions)
+          && Objects.equals(this.embeddedDataSpecifications, other.embeddedDataSpecifications)
+          && Objects.equals(this.semanticId, other.semanticId)
+          && Objects.equals(this.supplementalSemanticIds, other.supplementalSemanticIds)
+          && Objects.equals(this.qualifiers, other.qualifiers);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenAnnotatedRelationshipElement{"
+        + "annotations="
+        + annotations
+        + ", embeddedDataSpecifications="
+        + embeddedDataSpecifications
+        + ", extensions="
+        + extensions
+        + ", semanticId="
+        + semanticId
+        + ", supplementalSemanticIds="
+        + supplementalSemanticIds
+        + ", qualifiers="
+        + qualifiers
+        + ", category='"
+        + category
+        + '\''
+        + ", description="
+        + description
+        + ", displayName="
+        + displayName
+        + ", idShort='"
+        + idShort
+        + '\''
+        + ", first="
+        + first
+        + ", second="
+        + second
+        + '}';
+  }
+
+  @Override
+  public List<DataElement> getAnnotations() {
+    return annotations;
+  }
+
+  @Override
+  public void setAnnotations(List<DataElement> annotations) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getFirst() {
+    return first;
+  }
+
+  @Override
+  public void setFirst(Reference first) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getSecond() {
+    return second;
+  }
+
+  @Override
+  public void setSecond(Reference second) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getCategory() {
+    return category;
+  }
+
+  @Override
+  public void setCategory(String category) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getIdShort() {
+    return idShort;
+  }
+
+  @Override
+  public void setIdShort(String idShort) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<LangStringNameType> getDisplayName() {
+    return displayName;
+  }
+
+  @Override
+  public void setDisplayName(List<LangStringNameType> displayName) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<LangStringTextType> getDescription() {
+    return description;
+  }
+
+  @Override
+  public void setDescription(List<LangStringTextType> description) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Extension> getExtensions() {
+    return extensions;
+  }
+
+  @Override
+  public void setExtensions(List<Extension> extensions) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<EmbeddedDataSpecification> getEmbeddedDataSpecifications() {
+    return embeddedDataSpecifications;
+  }
+
+  @Override
+  public void setEmbeddedDataSpecifications(
+      List<EmbeddedDataSpecification> embeddedDataSpecifications) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getSemanticId() {
+    return semanticId;
+  }
+
+  @Override
+  public void setSemanticId(Reference semanticId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Reference> getSupplementalSemanticIds() {
+    return supplementalSemanticIds;
+  }
+
+  @Override
+  public void setSupplementalSemanticIds(List<Reference> supplementalSemanticIds) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Qualifier> getQualifiers() {
+    return qualifiers;
+  }
+
+  @Override
+  public void setQualifiers(List<Qualifier> qualifiers) {
+    throw new UnsupportedOperationException();
+  }
+}
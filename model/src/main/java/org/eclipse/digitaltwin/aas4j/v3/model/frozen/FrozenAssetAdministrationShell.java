@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.AdministrativeInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.Extension;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringNameType;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+
+/** Immutable implementation of {@link AssetAdministrationShell}, see {@link Freezer}. */
+public final class FrozenAssetAdministrationShell
+    implements AssetAdministrationShell, FrozenElement {
+
+  private final AssetInformation assetInformation;
+
+  private final Reference derivedFrom;
+
+  private final List<Reference> submodels;
+
+  private final List<EmbeddedDataSpecification> embeddedDataSpecifications;
+
+  private final List<Extension> extensions;
+
+  private final AdministrativeInformation administration;
+
+  private final String id;
+
+  private final String category;
+
+  private final List<LangStringTextType> description;
+
+  private final List<LangStringNameType> displayName;
+
+  private final String idShort;
+
+  private final int hash;
+
+  FrozenAssetAdministrationShell(AssetAdministrationShell source) {
+    this(
+        Freezer.freezeValue(source.getAssetInformation()),
+        Freezer.freezeValue(source.getDerivedFrom()),
+        Freezer.freezeAll(source.getSubmodels()),
+        Freezer.freezeAll(source.getEmbeddedDataSpecifications()),
+        Freezer.freezeAll(source.getExtensions()),
+        Freezer.freezeValue(source.getAdministration()),
+        source.getId(),
+        source.getCategory(),
+        Freezer.freezeAll(source.getDescription()),
+        Freezer.freezeAll(source.getDisplayName()),
+        source.getIdShort());
+  }
+
+  private FrozenAssetAdministrationShell(
+      AssetInformation assetInformation,
+      Reference derivedFrom,
+      List<Reference> submodels,
+      List<EmbeddedDataSpecification> embeddedDataSpecifications,
+      List<Extension> extensions,
+      AdministrativeInformation administration,
+      String id,
+      String category,
+      List<LangStringTextType> description,
+      List<LangStringNameType> displayName,
+      String idShort) {
+    this.assetInformation = assetInformation;
+    this.derivedFrom = derivedFrom;
+    this.submodels = submodels;
+    this.embeddedDataSpecifications = embeddedDataSpecifications;
+    this.extensions = extensions;
+    this.administration = administration;
+    this.id = id;
+    this.category = category;
+    this.description = description;
+    this.displayName = displayName;
+    this.idShort = idShort;
+    this.hash =
+        Objects.hash(
+            this.derivedFrom,
+            this.assetInformation,
+            this.submodels,
+            this.embeddedDataSpecifications,
+            this.administration,
+            this.id,
+            this.category,
+            this.idShort,
+            this.displayName,
+            this.description,
+            this.extensions);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenAssetAdministrationShell other = (FrozenAssetAdministrationShell) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.derivedFrom, other.derivedFrom)
+          && Objects.equals(this.assetInformation, other.assetInformation)
+          && Objects.equals(this.submodels, other.submodels)
+          && Objects.equals(this.embeddedDataSpecifications, other.embeddedDataSpecifications)
+          && Objects.equals(this.administration, other.administration)
+          && Objects.equals(this.id, other.id)
+          && Objects.equals(this.category, other.category)
+          && Objects.equals(this.idShort, other.idShort)
+          && Objects.equals(this.displayName, other.displayName)
+          && Objects.equals(this.description, other.description)
+          && Objects.equals(this.extensions, other.extensions);
+    }
+  }
+
+  @Override
+  public Reference getDerivedFrom() {
+    return derivedFrom;
+  }
+
+  @Override
+  public void setDerivedFrom(Reference derivedFrom) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public AssetInformation getAssetInformation() {
+    return assetInformation;
+  }
+
+  @Override
+  public void setAssetInformation(AssetInformation assetInformation) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Reference> getSubmodels() {
+    return submodels;
+  }
+
+  @Override
+  public void setSubmodels(List<Reference> submodels) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<EmbeddedDataSpecification> getEmbeddedDataSpecifications() {
+    return embeddedDataSpecifications;
+  }
+
+  @Override
+  public void setEmbeddedDataSpecifications(
+      List<EmbeddedDataSpecification> embeddedDataSpecifications) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public AdministrativeInformation getAdministration() {
+    return administration;
+  }
+
+  @Override
+  public void setAdministration(AdministrativeInformation administration) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public void setId(String id) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getCategory() {
+    return category;
+  }
+
+  @Override
+  public void setCategory(String category) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getIdShort() {
+    return idShort;
+  }
+
+  @Override
+  public void setIdShort(String idShort) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<LangStringNameType> getDisplayName() {
+    return displayName;
+  }
+
+  @Override
+  public void setDisplayName(List<LangStringNameType> displayName) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<LangStringTextType> getDescription() {
+    return description;
+  }
+
+  @Override
+  public void setDescription(List<LangStringTextType> description) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Extension> getExtensions() {
+    return extensions;
+  }
+
+  @Override
+  public void setExtensions(List<Extension> extensions) {
+    throw new UnsupportedOperationException();
+  }
+}
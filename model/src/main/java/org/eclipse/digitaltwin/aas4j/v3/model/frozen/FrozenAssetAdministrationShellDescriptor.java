@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.AdministrativeInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.Endpoint;
+import org.eclipse.digitaltwin.aas4j.v3.model.Extension;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringNameType;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+
+/** Immutable implementation of {@link AssetAdministrationShellDescriptor}, see {@link Freezer}. */
+public final class FrozenAssetAdministrationShellDescriptor
+    implements AssetAdministrationShellDescriptor, FrozenElement {
+
+  private final AdministrativeInformation administration;
+
+  private final AssetKind assetKind;
+
+  private final String assetType;
+
+  private final List<Endpoint> endpoints;
+
+  private final String globalAssetId;
+
+  private final String id;
+
+  private final String idShort;
+
+  private final List<SpecificAssetId> specificAssetIds;
+
+  private final List<SubmodelDescriptor> submodelDescriptors;
+
+  private final List<LangStringTextType> description;
+
+  private final List<LangStringNameType> displayName;
+
+  private final List<Extension> extensions;
+
+  private final int hash;
+
+  FrozenAssetAdministrationShellDescriptor(AssetAdministrationShellDescriptor source) {
+    this(
+        Freezer.freezeValue(source.getAdministration()),
+        source.getAssetKind(),
+        source.getAssetType(),
+        Freezer.freezeAll(source.getEndpoints()),
+        source.getGlobalAssetId(),
+        source.getId(),
+        source.getIdShort(),
+        Freezer.freezeAll(source.getSpecificAssetIds()),
+        Freezer.freezeAll(source.getSubmodelDescriptors()),
+        Freezer.freezeAll(source.getDescription()),
+        Freezer.freezeAll(source.getDisplayName()),
+        Freezer.freezeAll(source.getExtensions()));
+  }
+
+  private FrozenAssetAdministrationShellDescriptor(
+      AdministrativeInformation administration,
+      AssetKind assetKind,
+      String assetType,
+      List<Endpoint> endpoints,
+      String globalAssetId,
+      String id,
+      String idShort,
+      List<SpecificAssetId> specificAssetIds,
+      List<SubmodelDescriptor> submodelDescriptors,
+      List<LangStringTextType> description,
+      List<LangStringNameType> displayName,
+      List<Extension> extensions) {
+    this.administration = administration;
+    this.assetKind = assetKind;
+    this.assetType = assetType;
+    this.endpoints = endpoints;
+    this.globalAssetId = globalAssetId;
+    this.id = id;
+    this.idShort = idShort;
+    this.specificAssetIds = specificAssetIds;
+    this.submodelDescriptors = submodelDescriptors;
+    this.description = description;
+    this.displayName = displayName;
+    this.extensions = extensions;
+    this.hash =
+        Objects.hash(
+            this.administration,
+            this.assetKind,
+            this.assetType,
+            this.endpoints,
+            this.globalAssetId,
+            this.idShort,
+            this.id,
+            this.specificAssetIds,
+            this.submodelDescriptors,
+            this.description,
+            this.displayName,
+            this.extensions);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenAssetAdministrationShellDescriptor other =
+          (FrozenAssetAdministrationShellDescriptor) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.administration, other.administration)
+          && Objects.equals(this.assetKind, other.assetKind)
+          && Objects.equals(this.assetType, other.assetType)
+          && Objects.equals(this.endpoints, other.endpoints)
+          && Objects.equals(this.globalAssetId, other.globalAssetId)
+          && Objects.equals(this.idShort, other.idShort)
+          && Objects.equals(this.id, other.id)
+          && Objects.equals(this.specificAssetIds, other.specificAssetIds)
+          && Objects.equals(this.submodelDescriptors, other.submodelDescriptors)
+          && Objects.equals(this.description, other.description)
+          && Objects.equals(this.displayName, other.displayName)
+          && Objects.equals(this.extensions, other.extensions);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenAssetAdministrationShellDescriptor{"
+        + "administration="
+        + administration
+        + ", assetKind="
+        + assetKind
+        + ", assetType='"
+        + assetType
+        + '\''
+        + ", endpoints="
+        + endpoints
+        + ", globalAssetId='"
+        + globalAssetId
+        + '\''
+        + ", id='"
+        + id
+        + '\''
+        + ", idShort='"
+        + idShort
+        + '\''
+        + ", specificAssetIds="
+        + specificAssetIds
+        + ", submodelDescriptors="
+        + submodelDescriptors
+        + ", description="
+        + description
+        + ", displayName="
+        + displayName
+        + ", extensions="
+        + extensions
+        + '}';
+  }
+
+  @Override
+  public AdministrativeInformation getAdministration() {
+    return administration;
+  }
+
+  @Override
+  public void setAdministration(AdministrativeInformation administration) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public AssetKind getAssetKind() {
+    return assetKind;
+  }
+
+  @Override
+  public void setAssetKind(AssetKind assetKind) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getAssetType() {
+    return assetType;
+  }
+
+  @Override
+  public void setAssetType(String assetType) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Endpoint> getEndpoints() {
+    return endpoints;
+  }
+
+  @Override
+  public void setEndpoints(List<Endpoint> endpoints) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getGlobalAssetId() {
+    return globalAssetId;
+  }
+
+  @Override
+  public void setGlobalAssetId(String globalAssetId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getIdShort() {
+    return idShort;
+  }
+
+  @Override
+  public void setIdShort(String idShort) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public void setId(String id) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<SpecificAssetId> getSpecificAssetIds() {
+    return specificAssetIds;
+  }
+
+  @Override
+  public void setSpecificAssetIds(List<SpecificAssetId> specificAssetIds) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<SubmodelDescriptor> getSubmodelDescriptors() {
+    return submodelDescriptors;
+  }
+
+  @Override
+  public void setSubmodelDescriptors(List<SubmodelDescriptor> submodelDescriptors) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<LangStringTextType> getDescription() {
+    return description;
+  }
+
+  @Override
+  public void setDescription(List<LangStringTextType> description) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<LangStringNameType> getDisplayName() {
+    return displayName;
+  }
+
+  @Override
+  public void setDisplayName(List<LangStringNameType> displayName) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Extension> getExtensions() {
+    return extensions;
+  }
+
+  @Override
+  public void setExtensions(List<Extension> extensions) {
+    throw new UnsupportedOperationException();
+  }
+}
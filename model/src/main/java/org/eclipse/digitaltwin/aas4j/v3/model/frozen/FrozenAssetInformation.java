@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.Resource;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+
+/** Immutable implementation of {@link AssetInformation}, see {@link Freezer}. */
+public final class FrozenAssetInformation implements AssetInformation, FrozenElement {
+
+  private final AssetKind assetKind;
+
+  private final String assetType;
+
+  private final Resource defaultThumbnail;
+
+  private final String globalAssetId;
+
+  private final List<SpecificAssetId> specificAssetIds;
+
+  private final int hash;
+
+  FrozenAssetInformation(AssetInformation source) {
+    this(
+        source.getAssetKind(),
+        source.getAssetType(),
+        Freezer.freezeValue(source.getDefaultThumbnail()),
+        source.getGlobalAssetId(),
+        Freezer.freezeAll(source.getSpecificAssetIds()));
+  }
+
+  private FrozenAssetInformation(
+      AssetKind assetKind,
+      String assetType,
+      Resource defaultThumbnail,
+      String globalAssetId,
+      List<SpecificAssetId> specificAssetIds) {
+    this.assetKind = assetKind;
+    this.assetType = assetType;
+    this.defaultThumbnail = defaultThumbnail;
+    this.globalAssetId = globalAssetId;
+    this.specificAssetIds = specificAssetIds;
+    this.hash =
+        Objects.hash(
+            this.assetKind,
+            this.globalAssetId,
+            this.specificAssetIds,
+            this.assetType,
+            this.defaultThumbnail);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenAssetInformation other = (FrozenAssetInformation) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.assetKind, other.assetKind)
+          && Objects.equals(this.globalAssetId, other.globalAssetId)
+          && Objects.equals(this.specificAssetIds, other.specificAssetIds)
+          && Objects.equals(this.assetType, other.assetType)
+          && Objects.equals(this.defaultThumbnail, other.defaultThumbnail);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenAssetInformation{"
+        + "assetKind="
+        + assetKind
+        + ", assetType='"
+        + assetType
+        + '\''
+        + ", defaultThumbnail="
+        + defaultThumbnail
+        + ", globalAssetId='"
+        + globalAssetId
+        + '\''
+        + ", specificAssetIds="
+        + specificAssetIds
+        + '}';
+  }
+
+  @Override
+  public AssetKind getAssetKind() {
+    return assetKind;
+  }
+
+  @Override
+  public void setAssetKind(AssetKind assetKind) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getGlobalAssetId() {
+    return globalAssetId;
+  }
+
+  @Override
+  public void setGlobalAssetId(String globalAssetId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<SpecificAssetId> getSpecificAssetIds() {
+    return specificAssetIds;
+  }
+
+  @Override
+  public void setSpecificAssetIds(List<SpecificAssetId> specificAssetIds) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getAssetType() {
+    return assetType;
+  }
+
+  @Override
+  public void setAssetType(String assetType) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Resource getDefaultThumbnail() {
+    return defaultThumbnail;
+  }
+
+  @Override
+  public void setDefaultThumbnail(Resource defaultThumbnail) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.BasicEventElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Direction;
+import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.Extension;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringNameType;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.StateOfEvent;
+
+/** Immutable implementation of {@link BasicEventElement}, see {@link Freezer}. */
+public final class FrozenBasicEventElement implements BasicEventElement, FrozenElement {
+
+  private final Direction direction;
+
+  private final String lastUpdate;
+
+  private final String maxInterval;
+
+  private final Reference messageBroker;
+
+  private final String messageTopic;
+
+  private final String minInterval;
+
+  private final Reference observed;
+
+  private final StateOfEvent state;
+
+  private final List<EmbeddedDataSpecification> embeddedDataSpecifications;
+
+  private final List<Extension> extensions;
+
+  private final Reference semanticId;
+
+  private final List<Reference> supplementalSemanticIds;
+
+  private final List<Qualifier> qualifiers;
+
+  private final String category;
+
+  private final List<LangStringTextType> description;
+
+  private final List<LangStringNameType> displayName;
+
+  private final String idShort;
+
+  private final int hash;
+
+  FrozenBasicEventElement(BasicEventElement source) {
+    this(
+        source.getDirection(),
+        source.getLastUpdate(),
+        source.getMaxInterval(),
+        Freezer.freezeValue(source.getMessageBroker()),
+        source.getMessageTopic(),
+        source.getMinInterval(),
+        Freezer.freezeValue(source.getObserved()),
+        source.getState(),
+        Freezer.freezeAll(source.getEmbeddedDataSpecifications()),
+        Freezer.freezeAll(source.getExtensions()),
+        Freezer.freezeValue(source.getSemanticId()),
+        Freezer.freezeAll(source.getSupplementalSemanticIds()),
+        Freezer.freezeAll(source.getQualifiers()),
+        source.getCategory(),
+        Freezer.freezeAll(source.getDescription()),
+        Freezer.freezeAll(source.getDisplayName()),
+        source.getIdShort());
+  }
+
+  private FrozenBasicEventElement(
+      Direction direction,
+      String lastUpdate,
+      String maxInterval,
+      Reference messageBroker,
+      String messageTopic,
+      String minInterval,
+      Reference observed,
+      StateOfEvent state,
+      List<EmbeddedDataSpecification> embeddedDataSpecifications,
+      List<Extension> extensions,
+      Reference semanticId,
+      List<Reference> supplementalSemanticIds,
+      List<Qualifier> qualifiers,
+      String category,
+      List<LangStringTextType> description,
+      List<LangStringNameType> displayName,
+      String idShort) {
+    this.direction = direction;
+    this.lastUpdate = lastUpdate;
+    this.maxInterval = maxInterval;
+    this.messageBroker = messageBroker;
+    this.messageTopic = messageTopic;
+    this.minInterval = minInterval;
+    this.observed = observed;
+    this.state = state;
+    this.embeddedDataSpecifications = embeddedDataSpecifications;
+    this.extensions = extensions;
+    this.semanticId = semanticId;
+    this.supplementalSemanticIds = supplementalSemanticIds;
+    this.qualifiers = qualifiers;
+    this.category = category;
+    this.description = description;
+    this.displayName = displayName;
+    this.idShort = idShort;
+    this.hash =
+        Objects.hash(
+            this.observed,
+            this.direction,
+            this.state,
+            this.messageTopic,
+            this.messageBroker,
+            this.lastUpdate,
+            this.minInterval,
+            this.maxInterval,
+            this.category,
+            this.idShort,
+            this.displayName,
+            this.description,
+            this.extensions,
+            this.embeddedDataSpecifications,
+            this.semanticId,
+            this.supplementalSemanticIds,
+            this.qualifiers);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenBasicEventElement other = (FrozenBasicEventElement) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.observed, other.observed)
+          && Objects.equals(this.direction, other.direction)
+          && Objects.equals(this.state, other.state)
+          && Objects.equals(this.messageTopic, other.messageTopic)
+          && Objects.equals(this.messageBroker, other.messageBroker)
+          && Objects.equals(this.lastUpdate, other.lastUpdate)
+          && Objects.equals(this.minInterval, other.minInterval)
+          && Objects.equals(this.maxInterval, other.maxInterval)
+          && Objects.equals(this.category, other.category)
+          && Objects.equals(this.idShort, other.idShort)
+          && Objects.equals(this.displayName, other.displayName)
+          && Objects.equals(this.description, other.description)
+          && Objects.equals(this.extensions, other.extensions)
+          && Objects.equals(this.embeddedDataSpecifications, other.embeddedDataSpecifications)
+          && Objects.equals(this.semanticId, other.semanticId)
+          && Objects.equals(this.supplementalSemanticIds, other.supplementalSemanticIds)
+          && Objects.equals(this.qualifiers, other.qualifiers);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenBasicEventElement{"
+        + "direction="
+        + direction
+        + ", lastUpdate='"
+        + lastUpdate
+        + '\''
+        + ", maxInterval='"
+        + maxInterval
+        + '\''
+        + ", messageBroker="
+        + messageBroker
+        + ", messageTopic='"
+        + messageTopic
+        + '\''
+        + ", minInterval='"
+        + minInterval
+        + '\''
+        + ", observed="
+        + observed
+        + ", state="
+        + state
+        + ", embeddedDataSpecifications="
+        + embeddedDataSpecifications
+        + ", extensions="
+        + extensions
+        + ", semanticId="
+        + semanticId
+        + ", supplementalSemanticIds="
+        + supplementalSemanticIds
+        + ", qualifiers="
+        + qualifiers
+        + ", category='"
+        + category
+        + '\''
+        + ", description="
+        + description
+        + ", displayName="
+        + displayName
+        + ", idShort='"
+        + idShort
+        + '\''
+        + '}';
+  }
+
+  @Override
+  public Reference getObserved() {
+    return observed;
+  }
+
+  @Override
+  public void setObserved(Reference observed) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Direction getDirection() {
+    return direction;
+  }
+
+  @Override
+  public void setDirection(Direction direction) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public StateOfEvent getState() {
+    return state;
+  }
+
+  @Override
+  public void setState(StateOfEvent state) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getMessageTopic() {
+    return messageTopic;
+  }
+
+  @Override
+  public void setMessageTopic(String messageTopic) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getMessageBroker() {
+    return messageBroker;
+  }
+
+  @Override
+  public void setMessageBroker(Reference messageBroker) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getLastUpdate() {
+    return lastUpdate;
+  }
+
+  @Override
+  public void setLastUpdate(String lastUpdate) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getMinInterval() {
+    return minInterval;
+  }
+
+  @Override
+  public void setMinInterval(String minInterval) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getMaxInterval() {
+    return maxInterval;
+  }
+
+  @Override
+  public void setMaxInterval(String maxInterval) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getCategory() {
+    return category;
+  }
+
+  @Override
+  public void setCategory(String category) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getIdShort() {
+    return idShort;
+  }
+
+  @Override
+  public void setIdShort(String idShort) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<LangStringNameType> getDisplayName() {
+    return displayName;
+  }
+
+  @Override
+  public void setDisplayName(List<LangStringNameType> displayName) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<LangStringTextType> getDescription() {
+    return description;
+  }
+
+  @Override
+  public void setDescription(List<LangStringTextType> description) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Extension> getExtensions() {
+    return extensions;
+  }
+
+  @Override
+  public void setExtensions(List<Extension> extensions) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<EmbeddedDataSpecification> getEmbeddedDataSpecifications() {
+    return embeddedDataSpecifications;
+  }
+
+  @Override
+  public void setEmbeddedDataSpecifications(
+      List<EmbeddedDataSpecification> embeddedDataSpecifications) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getSemanticId() {
+    return semanticId;
+  }
+
+  @Override
+  public void setSemanticId(Reference semanticId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Reference> getSupplementalSemanticIds() {
+    return supplementalSemanticIds;
+  }
+
+  @Override
+  public void setSupplementalSemanticIds(List<Reference> supplementalSemanticIds) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Qualifier> getQualifiers() {
+    return qualifiers;
+  }
+
+  @Override
+  public void setQualifiers(List<Qualifier> qualifiers) {
+    throw new UnsupportedOperationException();
+  }
+}
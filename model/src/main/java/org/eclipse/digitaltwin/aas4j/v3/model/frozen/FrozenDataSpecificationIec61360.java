@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataSpecificationIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringDefinitionTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringPreferredNameTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringShortNameTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.LevelType;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ValueList;
+
+/** Immutable implementation of {@link DataSpecificationIec61360}, see {@link Freezer}. */
+public final class FrozenDataSpecificationIec61360
+    implements DataSpecificationIec61360, FrozenElement {
+
+  private final DataTypeIec61360 dataType;
+
+  private final List<LangStringDefinitionTypeIec61360> definition;
+
+  private final LevelType levelType;
+
+  private final List<LangStringPreferredNameTypeIec61360> preferredName;
+
+  private final List<LangStringShortNameTypeIec61360> shortName;
+
+  private final String sourceOfDefinition;
+
+  private final String symbol;
+
+  private final String unit;
+
+  private final Reference unitId;
+
+  private final String value;
+
+  private final String valueFormat;
+
+  private final ValueList valueList;
+
+  private final int hash;
+
+  FrozenDataSpecificationIec61360(DataSpecificationIec61360 source) {
+    this(
+        source.getDataType(),
+        Freezer.freezeAll(source.getDefinition()),
+        Freezer.freezeValue(source.getLevelType()),
+        Freezer.freezeAll(source.getPreferredName()),
+        Freezer.freezeAll(source.getShortName()),
+        source.getSourceOfDefinition(),
+        source.getSymbol(),
+        source.getUnit(),
+        Freezer.freezeValue(source.getUnitId()),
+        source.getValue(),
+        source.getValueFormat(),
+        Freezer.freezeValue(source.getValueList()));
+  }
+
+  private FrozenDataSpecificationIec61360(
+      DataTypeIec61360 dataType,
+      List<LangStringDefinitionTypeIec61360> definition,
+      LevelType levelType,
+      List<LangStringPreferredNameTypeIec61360> preferredName,
+      List<LangStringShortNameTypeIec61360> shortName,
+      String sourceOfDefinition,
+      String symbol,
+      String unit,
+      Reference unitId,
+      String value,
+      String valueFormat,
+      ValueList valueList) {
+    this.dataType = dataType;
+    this.definition = definition;
+    this.levelType = levelType;
+    this.preferredName = preferredName;
+    this.shortName = shortName;
+    this.sourceOfDefinition = sourceOfDefinition;
+    this.symbol = symbol;
+    this.unit = unit;
+    this.unitId = unitId;
+    this.value = value;
+    this.valueFormat = valueFormat;
+    this.valueList = valueList;
+    this.hash =
+        Objects.hash(
+            this.preferredName,
+            this.shortName,
+            this.unit,
+            this.unitId,
+            this.sourceOfDefinition,
+            this.symbol,
+            this.dataType,
+            this.definition,
+            this.valueFormat,
+            this.valueList,
+            this.value,
+            this.levelType);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenDataSpecificationIec61360 other = (FrozenDataSpecificationIec61360) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.preferredName, other.preferredName)
+          && Objects.equals(this.shortName, other.shortName)
+          && Objects.equals(this.unit, other.unit)
+          && Objects.equals(this.unitId, other.unitId)
+          && Objects.equals(this.sourceOfDefinition, other.sourceOfDefinition)
+          && Objects.equals(this.symbol, other.symbol)
+          && Objects.equals(this.dataType, other.dataType)
+          && Objects.equals(this.definition, other.definition)
+          && Objects.equals(this.valueFormat, other.valueFormat)
+          && Objects.equals(this.valueList, other.valueList)
+          && Objects.equals(this.value, other.value)
+          && Objects.equals(this.levelType, other.levelType);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenDataSpecificationIec61360{"
+        + "dataType="
+        + dataType
+        + ", definition="
+        + definition
+        + ", levelType="
+        + levelType
+        + ", preferredName="
+        + preferredName
+        + ", shortName="
+        + shortName
+        + ", sourceOfDefinition='"
+        + sourceOfDefinition
+        + '\''
+        + ", symbol='"
+        + symbol
+        + '\''
+        + ", unit='"
+        + unit
+        + '\''
+        + ", unitId="
+        + unitId
+        + ", value='"
+        + value
+        + '\''
+        + ", valueFormat='"
+        + valueFormat
+        + '\''
+        + ", valueList="
+        + valueList
+        + '}';
+  }
+
+  @Override
+  public List<LangStringPreferredNameTypeIec61360> getPreferredName() {
+    return preferredName;
+  }
+
+  @Override
+  public void setPreferredName(List<LangStringPreferredNameTypeIec61360> preferredName) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<LangStringShortNameTypeIec61360> getShortName() {
+    return shortName;
+  }
+
+  @Override
+  public void setShortName(List<LangStringShortNameTypeIec61360> shortName) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getUnit() {
+    return unit;
+  }
+
+  @Override
+  public void setUnit(String unit) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getUnitId() {
+    return unitId;
+  }
+
+  @Override
+  public void setUnitId(Reference unitId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getSourceOfDefinition() {
+    return sourceOfDefinition;
+  }
+
+  @Override
+  public void setSourceOfDefinition(String sourceOfDefinition) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getSymbol() {
+    return symbol;
+  }
+
+  @Override
+  public void setSymbol(String symbol) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public DataTypeIec61360 getDataType() {
+    return dataType;
+  }
+
+  @Override
+  public void setDataType(DataTypeIec61360 dataType) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<LangStringDefinitionTypeIec61360> getDefinition() {
+    return definition;
+  }
+
+  @Override
+  public void setDefinition(List<LangStringDefinitionTypeIec61360> definition) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getValueFormat() {
+    return valueFormat;
+  }
+
+  @Override
+  public void setValueFormat(String valueFormat) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public ValueList getValueList() {
+    return valueList;
+  }
+
+  @Override
+  public void setValueList(ValueList valueList) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public void setValue(String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public LevelType getLevelType() {
+    return levelType;
+  }
+
+  @Override
+  public void setLevelType(LevelType levelType) {
+    throw new UnsupportedOperationException();
+  }
+}
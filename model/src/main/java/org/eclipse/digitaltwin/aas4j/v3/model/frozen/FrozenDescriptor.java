@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.Descriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.Extension;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringNameType;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringTextType;
+
+/** Immutable implementation of {@link Descriptor}, see {@link Freezer}. */
+public final class FrozenDescriptor implements Descriptor, FrozenElement {
+
+  private final List<LangStringTextType> description;
+
+  private final List<LangStringNameType> displayName;
+
+  private final List<Extension> extensions;
+
+  private final int hash;
+
+  FrozenDescriptor(Descriptor source) {
+    this(
+        Freezer.freezeAll(source.getDescription()),
+        Freezer.freezeAll(source.getDisplayName()),
+        Freezer.freezeAll(source.getExtensions()));
+  }
+
+  private FrozenDescriptor(
+      List<LangStringTextType> description,
+      List<LangStringNameType> displayName,
+      List<Extension> extensions) {
+    this.description = description;
+    this.displayName = displayName;
+    this.extensions = extensions;
+    this.hash = Objects.hash(this.description, this.displayName, this.extensions);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenDescriptor other = (FrozenDescriptor) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.description, other.description)
+          && Objects.equals(this.displayName, other.displayName)
+          && Objects.equals(this.extensions, other.extensions);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenDescriptor{"
+        + "description="
+        + description
+        + ", displayName="
+        + displayName
+        + ", extensions="
+        + extensions
+        + '}';
+  }
+
+  @Override
+  public List<LangStringTextType> getDescription() {
+    return description;
+  }
+
+  @Override
+  public void setDescription(List<LangStringTextType> description) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<LangStringNameType> getDisplayName() {
+    return displayName;
+  }
+
+  @Override
+  public void setDisplayName(List<LangStringNameType> displayName) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Extension> getExtensions() {
+    return extensions;
+  }
+
+  @Override
+  public void setExtensions(List<Extension> extensions) {
+    throw new UnsupportedOperationException();
+  }
+}
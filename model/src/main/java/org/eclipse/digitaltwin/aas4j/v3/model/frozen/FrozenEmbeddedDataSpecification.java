@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataSpecificationContent;
+import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+
+/** Immutable implementation of {@link EmbeddedDataSpecification}, see {@link Freezer}. */
+public final class FrozenEmbeddedDataSpecification
+    implements EmbeddedDataSpecification, FrozenElement {
+
+  private final Reference dataSpecification;
+
+  private final DataSpecificationContent dataSpecificationContent;
+
+  private final int hash;
+
+  FrozenEmbeddedDataSpecification(EmbeddedDataSpecification source) {
+    this(
+        Freezer.freezeValue(source.getDataSpecification()),
+        Freezer.freezeValue(source.getDataSpecificationContent()));
+  }
+
+  private FrozenEmbeddedDataSpecification(
+      Reference dataSpecification, DataSpecificationContent dataSpecificationContent) {
+    this.dataSpecification = dataSpecification;
+    this.dataSpecificationContent = dataSpecificationContent;
+    this.hash = Objects.hash(this.dataSpecification, this.dataSpecificationContent);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenEmbeddedDataSpecification other = (FrozenEmbeddedDataSpecification) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.dataSpecification, other.dataSpecification)
+          && Objects.equals(this.dataSpecificationContent, other.dataSpecificationContent);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenEmbeddedDataSpecification{"
+        + "dataSpecification="
+        + dataSpecification
+        + ", dataSpecificationContent="
+        + dataSpecificationContent
+        + '}';
+  }
+
+  @Override
+  public Reference getDataSpecification() {
+    return dataSpecification;
+  }
+
+  @Override
+  public void setDataSpecification(Reference dataSpecification) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public DataSpecificationContent getDataSpecificationContent() {
+    return dataSpecificationContent;
+  }
+
+  @Override
+  public void setDataSpecificationContent(DataSpecificationContent dataSpecificationContent) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.Endpoint;
+import org.eclipse.digitaltwin.aas4j.v3.model.ProtocolInformation;
+
+/** Immutable implementation of {@link Endpoint}, see {@link Freezer}. */
+public final class FrozenEndpoint implements Endpoint, FrozenElement {
+
+  private final String _interface;
+
+  private final ProtocolInformation protocolInformation;
+
+  private final int hash;
+
+  FrozenEndpoint(Endpoint source) {
+    this(source.get_interface(), Freezer.freezeValue(source.getProtocolInformation()));
+  }
+
+  private FrozenEndpoint(String _interface, ProtocolInformation protocolInformation) {
+    this._interface = _interface;
+    this.protocolInformation = protocolInformation;
+    this.hash = Objects.hash(this._interface, this.protocolInformation);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenEndpoint other = (FrozenEndpoint) obj;
+      return this.hash == other.hash
+          && Objects.equals(this._interface, other._interface)
+          && Objects.equals(this.protocolInformation, other.protocolInformation);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenEndpoint{"
+        + "_interface='"
+        + _interface
+        + '\''
+        + ", protocolInformation="
+        + protocolInformation
+        + '}';
+  }
+
+  @Override
+  public String get_interface() {
+    return _interface;
+  }
+
+  @Override
+  public void set_interface(String _interface) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public ProtocolInformation getProtocolInformation() {
+    return protocolInformation;
+  }
+
+  @Override
+  public void setProtocolInformation(ProtocolInformation protocolInformation) {
+    throw new UnsupportedOperationException();
+  }
+}
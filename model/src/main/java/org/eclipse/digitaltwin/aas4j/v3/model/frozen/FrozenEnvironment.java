@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+
+/** Immutable implementation of {@link Environment}, see {@link Freezer}. */
+public final class FrozenEnvironment implements Environment, FrozenElement {
+
+  private final List<AssetAdministrationShell> assetAdministrationShells;
+
+  private final List<ConceptDescription> conceptDescriptions;
+
+  private final List<Submodel> submodels;
+
+  private final int hash;
+
+  FrozenEnvironment(Environment source) {
+    this(
+        Freezer.freezeAll(source.getAssetAdministrationShells()),
+        Freezer.freezeAll(source.getConceptDescriptions()),
+        Freezer.freezeAll(source.getSubmodels()));
+  }
+
+  private FrozenEnvironment(
+      List<AssetAdministrationShell> assetAdministrationShells,
+      List<ConceptDescription> conceptDescriptions,
+      List<Submodel> submodels) {
+    this.assetAdministrationShells = assetAdministrationShells;
+    this.conceptDescriptions = conceptDescriptions;
+    this.submodels = submodels;
+    this.hash =
+        Objects.hash(this.assetAdministrationShells, this.submodels, this.conceptDescriptions);
+  }
+
+  /** Returns a copy of this element with the given value, which must be frozen already. */
+  FrozenEnvironment withSubmodels(List<Submodel> submodels) {
+    return new FrozenEnvironment(assetAdministrationShells, conceptDescriptions, submodels);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenEnvironment other = (FrozenEnvironment) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.assetAdministrationShells, other.assetAdministrationShells)
+          && Objects.equals(this.submodels, other.submodels)
+          && Objects.equals(this.conceptDescriptions, other.conceptDescriptions);
+    }
+  }
+
+  @Override
+  public List<AssetAdministrationShell> getAssetAdministrationShells() {
+    return assetAdministrationShells;
+  }
+
+  @Override
+  public void setAssetAdministrationShells(
+      List<AssetAdministrationShell> assetAdministrationShells) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Submodel> getSubmodels() {
+    return submodels;
+  }
+
+  @Override
+  public void setSubmodels(List<Submodel> submodels) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<ConceptDescription> getConceptDescriptions() {
+    return conceptDescriptions;
+  }
+
+  @Override
+  public void setConceptDescriptions(List<ConceptDescription> conceptDescriptions) {
+    throw new UnsupportedOperationException();
+  }
+}
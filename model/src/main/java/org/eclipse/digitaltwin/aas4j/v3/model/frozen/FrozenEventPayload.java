@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.Arrays;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.EventPayload;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+
+/** Immutable implementation of {@link EventPayload}, see {@link Freezer}. */
+public final class FrozenEventPayload implements EventPayload, FrozenElement {
+
+  private final Reference observableReference;
+
+  private final Reference observableSemanticId;
+
+  private final byte[] payload;
+
+  private final Reference source;
+
+  private final Reference sourceSemanticId;
+
+  private final Reference subjectId;
+
+  private final String timeStamp;
+
+  private final String topic;
+
+  private final int hash;
+
+  FrozenEventPayload(EventPayload source) {
+    this(
+        Freezer.freezeValue(source.getObservableReference()),
+        Freezer.freezeValue(source.getObservableSemanticId()),
+        Freezer.copyOf(source.getPayload()),
+        Freezer.freezeValue(source.getSource()),
+        Freezer.freezeValue(source.getSourceSemanticId()),
+        Freezer.freezeValue(source.getSubjectId()),
+        source.getTimeStamp(),
+        source.getTopic());
+  }
+
+  private FrozenEventPayload(
+      Reference observableReference,
+      Reference observableSemanticId,
+      byte[] payload,
+      Reference source,
+      Reference sourceSemanticId,
+      Reference subjectId,
+      String timeStamp,
+      String topic) {
+    this.observableReference = observableReference;
+    this.observableSemanticId = observableSemanticId;
+    this.payload = payload;
+    this.source = source;
+    this.sourceSemanticId = sourceSemanticId;
+    this.subjectId = subjectId;
+    this.timeStamp = timeStamp;
+    this.topic = topic;
+    this.hash =
+        Objects.hash(
+            this.source,
+            this.sourceSemanticId,
+            this.observableReference,
+            this.observableSemanticId,
+            this.topic,
+            this.subjectId,
+            this.timeStamp,
+            Arrays.hashCode(this.payload));
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenEventPayload other = (FrozenEventPayload) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.source, other.source)
+          && Objects.equals(this.sourceSemanticId, other.sourceSemanticId)
+          && Objects.equals(this.observableReference, other.observableReference)
+          && Objects.equals(this.observableSemanticId, other.observableSemanticId)
+          && Objects.equals(this.topic, other.topic)
+          && Objects.equals(this.subjectId, other.subjectId)
+          && Objects.equals(this.timeStamp, other.timeStamp)
+          && Arrays.equals(this.payload, other.payload);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenEventPayload{"
+        + "observableReference="
+        + observableReference
+        + ", observableSemanticId="
+        + observableSemanticId
+        + ", payload="
+        + Arrays.toString(payload)
+        + ", source="
+        + source
+        + ", sourceSemanticId="
+        + sourceSemanticId
+        + ", subjectId="
+        + subjectId
+        + ", timeStamp='"
+        + timeStamp
+        + '\''
+        + ", topic='"
+        + topic
+        + '\''
+        + '}';
+  }
+
+  @Override
+  public Reference getSource() {
+    return source;
+  }
+
+  @Override
+  public void setSource(Reference source) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getSourceSemanticId() {
+    return sourceSemanticId;
+  }
+
+  @Override
+  public void setSourceSemanticId(Reference sourceSemanticId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getObservableReference() {
+    return observableReference;
+  }
+
+  @Override
+  public void setObservableReference(Reference observableReference) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getObservableSemanticId() {
+    return observableSemanticId;
+  }
+
+  @Override
+  public void setObservableSemanticId(Reference observableSemanticId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getTopic() {
+    return topic;
+  }
+
+  @Override
+  public void setTopic(String topic) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getSubjectId() {
+    return subjectId;
+  }
+
+  @Override
+  public void setSubjectId(Reference subjectId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getTimeStamp() {
+    return timeStamp;
+  }
+
+  @Override
+  public void setTimeStamp(String timeStamp) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public byte[] getPayload() {
+    return payload != null ? payload.clone() : null;
+  }
+
+  @Override
+  public void setPayload(byte[] payload) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Extension;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+
+/** Immutable implementation of {@link Extension}, see {@link Freezer}. */
+public final class FrozenExtension implements Extension, FrozenElement {
+
+  private final String name;
+
+  private final List<Reference> refersTos;
+
+  private final String value;
+
+  private final DataTypeDefXsd valueType;
+
+  private final Reference semanticId;
+
+  private final List<Reference> supplementalSemanticIds;
+
+  private final int hash;
+
+  FrozenExtension(Extension source) {
+    this(
+        source.getName(),
+        Freezer.freezeAll(source.getRefersTo()),
+        source.getValue(),
+        source.getValueType(),
+        Freezer.freezeValue(source.getSemanticId()),
+        Freezer.freezeAll(source.getSupplementalSemanticIds()));
+  }
+
+  private FrozenExtension(
+      String name,
+      List<Reference> refersTos,
+      String value,
+      DataTypeDefXsd valueType,
+      Reference semanticId,
+      List<Reference> supplementalSemanticIds) {
+    this.name = name;
+    this.refersTos = refersTos;
+    this.value = value;
+    this.valueType = valueType;
+    this.semanticId = semanticId;
+    this.supplementalSemanticIds = supplementalSemanticIds;
+    this.hash =
+        Objects.hash(
+            this.name,
+            this.valueType,
+            this.value,
+            this.refersTos,
+            this.semanticId,
+            this.supplementalSemanticIds);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenExtension other = (FrozenExtension) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.name, other.name)
+          && Objects.equals(this.valueType, other.valueType)
+          && Objects.equals(this.value, other.value)
+          && Objects.equals(this.refersTos, other.refersTos)
+          && Objects.equals(this.semanticId, other.semanticId)
+          && Objects.equals(this.supplementalSemanticIds, other.supplementalSemanticIds);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenExtension{"
+        + "name='"
+        + name
+        + '\''
+        + ", refersTos="
+        + refersTos
+        + ", value='"
+        + value
+        + '\''
+        + ", valueType="
+        + valueType
+        + ", semanticId="
+        + semanticId
+        + ", supplementalSemanticIds="
+        + supplementalSemanticIds
+        + '}';
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public void setName(String name) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public DataTypeDefXsd getValueType() {
+    return valueType;
+  }
+
+  @Override
+  public void setValueType(DataTypeDefXsd valueType) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public void setValue(String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Reference> getRefersTo() {
+    return refersTos;
+  }
+
+  @Override
+  public void setRefersTo(List<Reference> refersTos) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getSemanticId() {
+    return semanticId;
+  }
+
+  @Override
+  public void setSemanticId(Reference semanticId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Reference> getSupplementalSemanticIds() {
+    return supplementalSemanticIds;
+  }
+
+  @Override
+  public void setSupplementalSemanticIds(List<Reference> supplementalSemanticIds) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+
+/** Immutable implementation of {@link Key}, see {@link Freezer}. */
+public final class FrozenKey implements Key, FrozenElement {
+
+  private final KeyTypes type;
+
+  private final String value;
+
+  private final int hash;
+
+  FrozenKey(Key source) {
+    this(source.getType(), source.getValue());
+  }
+
+  private FrozenKey(KeyTypes type, String value) {
+    this.type = type;
+    this.value = value;
+    this.hash = Objects.hash(this.type, this.value);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenKey other = (FrozenKey) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.type, other.type)
+          && Objects.equals(this.value, other.value);
+    }
+  }
+
+  @Override
+  public KeyTypes getType() {
+    return type;
+  }
+
+  @Override
+  public void setType(KeyTypes type) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public void setValue(String value) {
+    throw new UnsupportedOperationException();
+  }
+}
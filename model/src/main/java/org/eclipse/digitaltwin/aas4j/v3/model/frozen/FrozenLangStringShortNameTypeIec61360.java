@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringShortNameTypeIec61360;
+
+/** Immutable implementation of {@link LangStringShortNameTypeIec61360}, see {@link Freezer}. */
+public final class FrozenLangStringShortNameTypeIec61360
+    implements LangStringShortNameTypeIec61360, FrozenElement {
+
+  private final String language;
+
+  private final String text;
+
+  private final int hash;
+
+  FrozenLangStringShortNameTypeIec61360(LangStringShortNameTypeIec61360 source) {
+    this(source.getLanguage(), source.getText());
+  }
+
+  private FrozenLangStringShortNameTypeIec61360(String language, String text) {
+    this.language = language;
+    this.text = text;
+    this.hash = Objects.hash(this.language, this.text);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenLangStringShortNameTypeIec61360 other = (FrozenLangStringShortNameTypeIec61360) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.language, other.language)
+          && Objects.equals(this.text, other.text);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenLangStringShortNameTypeIec61360{"
+        + "language='"
+        + language
+        + '\''
+        + ", text='"
+        + text
+        + '\''
+        + '}';
+  }
+
+  @Override
+  public String getLanguage() {
+    return language;
+  }
+
+  @Override
+  public void setLanguage(String language) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getText() {
+    return text;
+  }
+
+  @Override
+  public void setText(String text) {
+    throw new UnsupportedOperationException();
+  }
+}
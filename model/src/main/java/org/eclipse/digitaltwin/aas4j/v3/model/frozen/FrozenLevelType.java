@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.LevelType;
+
+/** Immutable implementation of {@link LevelType}, see {@link Freezer}. */
+public final class FrozenLevelType implements LevelType, FrozenElement {
+
+  private final boolean max;
+
+  private final boolean min;
+
+  private final boolean nom;
+
+  private final boolean typ;
+
+  private final int hash;
+
+  FrozenLevelType(LevelType source) {
+    this(source.getMax(), source.getMin(), source.getNom(), source.getTyp());
+  }
+
+  private FrozenLevelType(boolean max, boolean min, boolean nom, boolean typ) {
+    this.max = max;
+    this.min = min;
+    this.nom = nom;
+    this.typ = typ;
+    this.hash = Objects.hash(this.min, this.nom, this.typ, this.max);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenLevelType other = (FrozenLevelType) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.min, other.min)
+          && Objects.equals(this.nom, other.nom)
+          && Objects.equals(this.typ, other.typ)
+          && Objects.equals(this.max, other.max);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenLevelType{"
+        + "max="
+        + max
+        + ", min="
+        + min
+        + ", nom="
+        + nom
+        + ", typ="
+        + typ
+        + '}';
+  }
+
+  @Override
+  public boolean getMin() {
+    return min;
+  }
+
+  @Override
+  public void setMin(boolean min) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean getNom() {
+    return nom;
+  }
+
+  @Override
+  public void setNom(boolean nom) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean getTyp() {
+    return typ;
+  }
+
+  @Override
+  public void setTyp(boolean typ) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean getMax() {
+    return max;
+  }
+
+  @Override
+  public void setMax(boolean max) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list used by {@link Freezer} to hold the children of frozen elements. Instances are
+ * only created by this package and only contain frozen elements. As these do not change anymore,
+ * the hash code is computed once and memoized, and {@link #equals(Object)} rejects other frozen
+ * lists with a different hash code without comparing their elements.
+ *
+ * @param <E> the type of the elements
+ */
+public final class FrozenList<E> extends AbstractList<E> implements RandomAccess {
+
+  private static final FrozenList<?> EMPTY = new FrozenList<>(new Object[0]);
+
+  private final Object[] elements;
+
+  private int hash;
+
+  private boolean hashIsZero;
+
+  private FrozenList(Object[] elements) {
+    this.elements = elements;
+  }
+
+  /**
+   * Returns a frozen list containing the given values, which must be frozen already. If the values
+   * already are a frozen list, it is returned as-is.
+   *
+   * @param values the values to copy
+   * @param <E> the type of the elements
+   * @return a frozen list containing the values in iteration order
+   */
+  @SuppressWarnings("unchecked")
+  static <E> FrozenList<E> copyOf(Collection<? extends E> values) {
+    if (values instanceof FrozenList) {
+      return (FrozenList<E>) values;
+    }
+    if (values.isEmpty()) {
+      return (FrozenList<E>) EMPTY;
+    }
+    return new FrozenList<>(values.toArray());
+  }
+
+  /**
+   * Returns a copy of this list with the element at the given position replaced. The elements are
+   * shared with this list.
+   *
+   * @param index the position of the element to replace
+   * @param element the new element
+   * @return the new list
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  FrozenList<E> with(int index, E element) {
+    checkIndex(index);
+    Object[] result = elements.clone();
+    result[index] = element;
+    return new FrozenList<>(result);
+  }
+
+  /**
+   * Returns a copy of this list with the given element appended. The elements are shared with this
+   * list.
+   *
+   * @param element the element to append
+   * @return the new list
+   */
+  FrozenList<E> plus(E element) {
+    Object[] result = Arrays.copyOf(elements, elements.length + 1);
+    result[elements.length] = element;
+    return new FrozenList<>(result);
+  }
+
+  /**
+   * Returns a copy of this list without the element at the given position. The remaining elements
+   * are shared with this list.
+   *
+   * @param index the position of the element to remove
+   * @return the new list
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  FrozenList<E> minus(int index) {
+    checkIndex(index);
+    Object[] result = new Object[elements.length - 1];
+    System.arraycopy(elements, 0, result, 0, index);
+    System.arraycopy(elements, index + 1, result, index, result.length - index);
+    return new FrozenList<>(result);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    return (E) elements[index];
+  }
+
+  @Override
+  public int size() {
+    return elements.length;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = hash;
+    if (result == 0 && !hashIsZero) {
+      result = super.hashCode();
+      if (result == 0) {
+        hashIsZero = true;
+      } else {
+        hash = result;
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof FrozenList)) {
+      return super.equals(obj);
+    }
+    FrozenList<?> other = (FrozenList<?>) obj;
+    if (elements.length != other.elements.length || hashCode() != other.hashCode()) {
+      return false;
+    }
+    for (int i = 0; i < elements.length; i++) {
+      Object element = elements[i];
+      Object otherElement = other.elements[i];
+      if (element != otherElement && (element == null || !element.equals(otherElement))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= elements.length) {
+      throw new IndexOutOfBoundsException(
+          String.format("index %d out of range for size %d", index, elements.length));
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.Message;
+import org.eclipse.digitaltwin.aas4j.v3.model.MessageType;
+
+/** Immutable implementation of {@link Message}, see {@link Freezer}. */
+public final class FrozenMessage implements Message, FrozenElement {
+
+  private final String code;
+
+  private final String correlationId;
+
+  private final MessageType messageType;
+
+  private final String text;
+
+  private final String timestamp;
+
+  private final int hash;
+
+  FrozenMessage(Message source) {
+    this(
+        source.getCode(),
+        source.getCorrelationId(),
+        source.getMessageType(),
+        source.getText(),
+        source.getTimestamp());
+  }
+
+  private FrozenMessage(
+      String code, String correlationId, MessageType messageType, String text, String timestamp) {
+    this.code = code;
+    this.correlationId = correlationId;
+    this.messageType = messageType;
+    this.text = text;
+    this.timestamp = timestamp;
+    this.hash =
+        Objects.hash(this.code, this.correlationId, this.messageType, this.text, this.timestamp);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenMessage other = (FrozenMessage) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.code, other.code)
+          && Objects.equals(this.correlationId, other.correlationId)
+          && Objects.equals(this.messageType, other.messageType)
+          && Objects.equals(this.text, other.text)
+          && Objects.equals(this.timestamp, other.timestamp);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenMessage{"
+        + "code='"
+        + code
+        + '\''
+        + ", correlationId='"
+        + correlationId
+        + '\''
+        + ", messageType="
+        + messageType
+        + ", text='"
+        + text
+        + '\''
+        + ", timestamp='"
+        + timestamp
+        + '\''
+        + '}';
+  }
+
+  @Override
+  public String getCode() {
+    return code;
+  }
+
+  @Override
+  public void setCode(String code) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getCorrelationId() {
+    return correlationId;
+  }
+
+  @Override
+  public void setCorrelationId(String correlationId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MessageType getMessageType() {
+    return messageType;
+  }
+
+  @Override
+  public void setMessageType(MessageType messageType) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getText() {
+    return text;
+  }
+
+  @Override
+  public void setText(String text) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getTimestamp() {
+    return timestamp;
+  }
+
+  @Override
+  public void setTimestamp(String timestamp) {
+    throw new UnsupportedOperationException();
+  }
+}
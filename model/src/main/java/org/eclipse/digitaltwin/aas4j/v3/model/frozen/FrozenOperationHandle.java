@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationHandle;
+
+/** Immutable implementation of {@link OperationHandle}, see {@link Freezer}. */
+public final class FrozenOperationHandle implements OperationHandle, FrozenElement {
+
+  private final String handleId;
+
+  private final int hash;
+
+  FrozenOperationHandle(OperationHandle source) {
+    this(source.getHandleId());
+  }
+
+  private FrozenOperationHandle(String handleId) {
+    this.handleId = handleId;
+    this.hash = Objects.hash(this.handleId);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenOperationHandle other = (FrozenOperationHandle) obj;
+      return this.hash == other.hash && Objects.equals(this.handleId, other.handleId);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenOperationHandle{" + "handleId='" + handleId + '\'' + '}';
+  }
+
+  @Override
+  public String getHandleId() {
+    return handleId;
+  }
+
+  @Override
+  public void setHandleId(String handleId) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import javax.xml.datatype.Duration;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationRequest;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+
+/** Immutable implementation of {@link OperationRequest}, see {@link Freezer}. */
+public final class FrozenOperationRequest implements OperationRequest, FrozenElement {
+
+  private final Duration clientTimeoutDuration;
+
+  private final List<OperationVariable> inoutputArguments;
+
+  private final List<OperationVariable> inputArguments;
+
+  private final int hash;
+
+  FrozenOperationRequest(OperationRequest source) {
+    this(
+        source.getClientTimeoutDuration(),
+        Freezer.freezeAll(source.getInoutputArguments()),
+        Freezer.freezeAll(source.getInputArguments()));
+  }
+
+  private FrozenOperationRequest(
+      Duration clientTimeoutDuration,
+      List<OperationVariable> inoutputArguments,
+      List<OperationVariable> inputArguments) {
+    this.clientTimeoutDuration = clientTimeoutDuration;
+    this.inoutputArguments = inoutputArguments;
+    this.inputArguments = inputArguments;
+    this.hash =
+        Objects.hash(this.inoutputArguments, this.inputArguments, this.clientTimeoutDuration);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenOperationRequest other = (FrozenOperationRequest) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.inoutputArguments, other.inoutputArguments)
+          && Objects.equals(this.inputArguments, other.inputArguments)
+          && Objects.equals(this.clientTimeoutDuration, other.clientTimeoutDuration);
+    }
+  }
+
+  @Override
+  public List<OperationVariable> getInoutputArguments() {
+    return inoutputArguments;
+  }
+
+  @Override
+  public void setInoutputArguments(List<OperationVariable> inoutputArguments) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<OperationVariable> getInputArguments() {
+    return inputArguments;
+  }
+
+  @Override
+  public void setInputArguments(List<OperationVariable> inputArguments) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Duration getClientTimeoutDuration() {
+    return clientTimeoutDuration;
+  }
+
+  @Override
+  public void setClientTimeoutDuration(Duration clientTimeoutDuration) {
+    throw new UnsupportedOperationException();
+  }
+}
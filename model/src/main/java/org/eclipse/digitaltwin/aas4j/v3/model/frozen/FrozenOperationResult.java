@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.ExecutionState;
+import org.eclipse.digitaltwin.aas4j.v3.model.Message;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationResult;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+
+/** Immutable implementation of {@link OperationResult}, see {@link Freezer}. */
+public final class FrozenOperationResult implements OperationResult, FrozenElement {
+
+  private final ExecutionState executionState;
+
+  private final boolean success;
+
+  private final List<OperationVariable> inoutputArguments;
+
+  private final List<OperationVariable> outputArguments;
+
+  private final List<Message> messages;
+
+  private final int hash;
+
+  FrozenOperationResult(OperationResult source) {
+    this(
+        source.getExecutionState(),
+        source.getSuccess(),
+        Freezer.freezeAll(source.getInoutputArguments()),
+        Freezer.freezeAll(source.getOutputArguments()),
+        Freezer.freezeAll(source.getMessages()));
+  }
+
+  private FrozenOperationResult(
+      ExecutionState executionState,
+      boolean success,
+      List<OperationVariable> inoutputArguments,
+      List<OperationVariable> outputArguments,
+      List<Message> messages) {
+    this.executionState = executionState;
+    this.success = success;
+    this.inoutputArguments = inoutputArguments;
+    this.outputArguments = outputArguments;
+    this.messages = messages;
+    this.hash =
+        Objects.hash(
+            this.inoutputArguments,
+            this.outputArguments,
+            this.executionState,
+            this.success,
+            this.messages);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenOperationResult other = (FrozenOperationResult) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.inoutputArguments, other.inoutputArguments)
+          && Objects.equals(this.outputArguments, other.outputArguments)
+          && Objects.equals(this.executionState, other.executionState)
+          && Objects.equals(this.success, other.success)
+          && Objects.equals(this.messages, other.messages);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenOperationResult{"
+        + "executionState="
+        + executionState
+        + ", success="
+        + success
+        + ", inoutputArguments="
+        + inoutputArguments
+        + ", outputArguments="
+        + outputArguments
+        + ", messages="
+        + messages
+        + '}';
+  }
+
+  @Override
+  public List<OperationVariable> getInoutputArguments() {
+    return inoutputArguments;
+  }
+
+  @Override
+  public void setInoutputArguments(List<OperationVariable> inoutputArguments) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<OperationVariable> getOutputArguments() {
+    return outputArguments;
+  }
+
+  @Override
+  public void setOutputArguments(List<OperationVariable> outputArguments) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public ExecutionState getExecutionState() {
+    return executionState;
+  }
+
+  @Override
+  public void setExecutionState(ExecutionState executionState) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean getSuccess() {
+    return success;
+  }
+
+  @Override
+  public void setSuccess(boolean success) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Message> getMessages() {
+    return messages;
+  }
+
+  @Override
+  public void setMessages(List<Message> messages) {
+    throw new UnsupportedOperationException();
+  }
+}
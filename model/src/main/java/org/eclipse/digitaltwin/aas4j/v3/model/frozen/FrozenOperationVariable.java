@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+
+/** Immutable implementation of {@link OperationVariable}, see {@link Freezer}. */
+public final class FrozenOperationVariable implements OperationVariable, FrozenElement {
+
+  private final SubmodelElement value;
+
+  private final int hash;
+
+  FrozenOperationVariable(OperationVariable source) {
+    this(Freezer.freezeValue(source.getValue()));
+  }
+
+  private FrozenOperationVariable(SubmodelElement value) {
+    this.value = value;
+    this.hash = Objects.hash(this.value);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenOperationVariable other = (FrozenOperationVariable) obj;
+      return this.hash == other.hash && Objects.equals(this.value, other.value);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenOperationVariable{" + "value=" + value + '}';
+  }
+
+  @Override
+  public SubmodelElement getValue() {
+    return value;
+  }
+
+  @Override
+  public void setValue(SubmodelElement value) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.PackageDescription;
+
+/** Immutable implementation of {@link PackageDescription}, see {@link Freezer}. */
+public final class FrozenPackageDescription implements PackageDescription, FrozenElement {
+
+  private final List<String> aasIds;
+
+  private final String packageId;
+
+  private final int hash;
+
+  FrozenPackageDescription(PackageDescription source) {
+    this(Freezer.copyAll(source.getAasIds()), source.getPackageId());
+  }
+
+  private FrozenPackageDescription(List<String> aasIds, String packageId) {
+    this.aasIds = aasIds;
+    this.packageId = packageId;
+    this.hash = Objects.hash(this.aasIds, this.packageId);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenPackageDescription other = (FrozenPackageDescription) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.aasIds, other.aasIds)
+          && Objects.equals(this.packageId, other.packageId);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenPackageDescription{"
+        + "aasIds="
+        + aasIds
+        + ", packageId='"
+        + packageId
+        + '\''
+        + '}';
+  }
+
+  @Override
+  public List<String> getAasIds() {
+    return aasIds;
+  }
+
+  @Override
+  public void setAasIds(List<String> aasIds) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getPackageId() {
+    return packageId;
+  }
+
+  @Override
+  public void setPackageId(String packageId) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.ProtocolInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.SecurityAttributeObject;
+
+/** Immutable implementation of {@link ProtocolInformation}, see {@link Freezer}. */
+public final class FrozenProtocolInformation implements ProtocolInformation, FrozenElement {
+
+  private final String endpointProtocol;
+
+  private final List<String> endpointProtocolVersions;
+
+  private final String href;
+
+  private final List<SecurityAttributeObject> securityAttributes;
+
+  private final String subprotocol;
+
+  private final String subprotocolBody;
+
+  private final String subprotocolBodyEncoding;
+
+  private final int hash;
+
+  FrozenProtocolInformation(ProtocolInformation source) {
+    this(
+        source.getEndpointProtocol(),
+        Freezer.copyAll(source.getEndpointProtocolVersion()),
+        source.getHref(),
+        Freezer.freezeAll(source.getSecurityAttributes()),
+        source.getSubprotocol(),
+        source.getSubprotocolBody(),
+        source.getSubprotocolBodyEncoding());
+  }
+
+  private FrozenProtocolInformation(
+      String endpointProtocol,
+      List<String> endpointProtocolVersions,
+      String href,
+      List<SecurityAttributeObject> securityAttributes,
+      String subprotocol,
+      String subprotocolBody,
+      String subprotocolBodyEncoding) {
+    this.endpointProtocol = endpointProtocol;
+    this.endpointProtocolVersions = endpointProtocolVersions;
+    this.href = href;
+    this.securityAttributes = securityAttributes;
+    this.subprotocol = subprotocol;
+    this.subprotocolBody = subprotocolBody;
+    this.subprotocolBodyEncoding = subprotocolBodyEncoding;
+    this.hash =
+        Objects.hash(
+            this.href,
+            this.endpointProtocol,
+            this.endpointProtocolVersions,
+            this.subprotocol,
+            this.subprotocolBody,
+            this.subprotocolBodyEncoding,
+            this.securityAttributes);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenProtocolInformation other = (FrozenProtocolInformation) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.href, other.href)
+          && Objects.equals(this.endpointProtocol, other.endpointProtocol)
+          && Objects.equals(this.endpointProtocolVersions, other.endpointProtocolVersions)
+          && Objects.equals(this.subprotocol, other.subprotocol)
+          && Objects.equals(this.subprotocolBody, other.subprotocolBody)
+          && Objects.equals(this.subprotocolBodyEncoding, other.subprotocolBodyEncoding)
+          && Objects.equals(this.securityAttributes, other.securityAttributes);
+    }
+  }
+
+  @Override
+  public String getHref() {
+    return href;
+  }
+
+  @Override
+  public void setHref(String href) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getEndpointProtocol() {
+    return endpointProtocol;
+  }
+
+  @Override
+  public void setEndpointProtocol(String endpointProtocol) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<String> getEndpointProtocolVersion() {
+    return endpointProtocolVersions;
+  }
+
+  @Override
+  public void setEndpointProtocolVersion(List<String> endpointProtocolVersion) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getSubprotocol() {
+    return subprotocol;
+  }
+
+  @Override
+  public void setSubprotocol(String subprotocol) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getSubprotocolBody() {
+    return subprotocolBody;
+  }
+
+  @Override
+  public void setSubprotocolBody(String subprotocolBody) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getSubprotocolBodyEncoding() {
+    return subprotocolBodyEncoding;
+  }
+
+  @Override
+  public void setSubprotocolBodyEncoding(String subprotocolBodyEncoding) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<SecurityAttributeObject> getSecurityAttributes() {
+    return securityAttributes;
+  }
+
+  @Override
+  public void setSecurityAttributes(List<SecurityAttributeObject> securityAttributes) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
+import org.eclipse.digitaltwin.aas4j.v3.model.QualifierKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+
+/** Immutable implementation of {@link Qualifier}, see {@link Freezer}. */
+public final class FrozenQualifier implements Qualifier, FrozenElement {
+
+  private final Reference semanticId;
+
+  private final List<Reference> supplementalSemanticIds;
+
+  private final QualifierKind kind;
+
+  private final String type;
+
+  private final String value;
+
+  private final Reference valueId;
+
+  private final DataTypeDefXsd valueType;
+
+  private final int hash;
+
+  FrozenQualifier(Qualifier source) {
+    this(
+        Freezer.freezeValue(source.getSemanticId()),
+        Freezer.freezeAll(source.getSupplementalSemanticIds()),
+        source.getKind(),
+        source.getType(),
+        source.getValue(),
+        Freezer.freezeValue(source.getValueId()),
+        source.getValueType());
+  }
+
+  private FrozenQualifier(
+      Reference semanticId,
+      List<Reference> supplementalSemanticIds,
+      QualifierKind kind,
+      String type,
+      String value,
+      Reference valueId,
+      DataTypeDefXsd valueType) {
+    this.semanticId = semanticId;
+    this.supplementalSemanticIds = supplementalSemanticIds;
+    this.kind = kind;
+    this.type = type;
+    this.value = value;
+    this.valueId = valueId;
+    this.valueType = valueType;
+    this.hash =
+        Objects.hash(
+            this.kind,
+            this.type,
+            this.valueType,
+            this.value,
+            this.valueId,
+            this.semanticId,
+            this.supplementalSemanticIds);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenQualifier other = (FrozenQualifier) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.kind, other.kind)
+          && Objects.equals(this.type, other.type)
+          && Objects.equals(this.valueType, other.valueType)
+          && Objects.equals(this.value, other.value)
+          && Objects.equals(this.valueId, other.valueId)
+          && Objects.equals(this.semanticId, other.semanticId)
+          && Objects.equals(this.supplementalSemanticIds, other.supplementalSemanticIds);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenQualifier{"
+        + "semanticId="
+        + semanticId
+        + ", supplementalSemanticIds="
+        + supplementalSemanticIds
+        + ", kind="
+        + kind
+        + ", type='"
+        + type
+        + '\''
+        + ", value='"
+        + value
+        + '\''
+        + ", valueId="
+        + valueId
+        + ", valueType="
+        + valueType
+        + '}';
+  }
+
+  @Override
+  public QualifierKind getKind() {
+    return kind;
+  }
+
+  @Override
+  public void setKind(QualifierKind kind) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  @Override
+  public void setType(String type) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public DataTypeDefXsd getValueType() {
+    return valueType;
+  }
+
+  @Override
+  public void setValueType(DataTypeDefXsd valueType) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public void setValue(String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getValueId() {
+    return valueId;
+  }
+
+  @Override
+  public void setValueId(Reference valueId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getSemanticId() {
+    return semanticId;
+  }
+
+  @Override
+  public void setSemanticId(Reference semanticId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Reference> getSupplementalSemanticIds() {
+    return supplementalSemanticIds;
+  }
+
+  @Override
+  public void setSupplementalSemanticIds(List<Reference> supplementalSemanticIds) {
+    throw new UnsupportedOperationException();
+  }
+}
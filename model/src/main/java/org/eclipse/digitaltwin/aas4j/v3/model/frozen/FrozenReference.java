@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+
+/** Immutable implementation of {@link Reference}, see {@link Freezer}. */
+public final class FrozenReference implements Reference, FrozenElement {
+
+  private final List<Key> keys;
+
+  private final Reference referredSemanticId;
+
+  private final ReferenceTypes type;
+
+  private final int hash;
+
+  FrozenReference(Reference source) {
+    this(
+        Freezer.freezeAll(source.getKeys()),
+        Freezer.freezeValue(source.getReferredSemanticId()),
+        source.getType());
+  }
+
+  private FrozenReference(List<Key> keys, Reference referredSemanticId, ReferenceTypes type) {
+    this.keys = keys;
+    this.referredSemanticId = referredSemanticId;
+    this.type = type;
+    this.hash = Objects.hash(this.type, this.referredSemanticId, this.keys);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenReference other = (FrozenReference) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.type, other.type)
+          && Objects.equals(this.referredSemanticId, other.referredSemanticId)
+          && Objects.equals(this.keys, other.keys);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenReference{"
+        + "keys="
+        + keys
+        + ", referredSemanticId="
+        + referredSemanticId
+        + ", type="
+        + type
+        + '}';
+  }
+
+  @Override
+  public ReferenceTypes getType() {
+    return type;
+  }
+
+  @Override
+  public void setType(ReferenceTypes type) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getReferredSemanticId() {
+    return referredSemanticId;
+  }
+
+  @Override
+  public void setReferredSemanticId(Reference referredSemanticId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Key> getKeys() {
+    return keys;
+  }
+
+  @Override
+  public void setKeys(List<Key> keys) {
+    throw new UnsupportedOperationException();
+  }
+}
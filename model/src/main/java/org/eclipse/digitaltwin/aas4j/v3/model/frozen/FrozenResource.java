@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.Resource;
+
+/** Immutable implementation of {@link Resource}, see {@link Freezer}. */
+public final class FrozenResource implements Resource, FrozenElement {
+
+  private final String contentType;
+
+  private final String path;
+
+  private final int hash;
+
+  FrozenResource(Resource source) {
+    this(source.getContentType(), source.getPath());
+  }
+
+  private FrozenResource(String contentType, String path) {
+    this.contentType = contentType;
+    this.path = path;
+    this.hash = Objects.hash(this.path, this.contentType);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenResource other = (FrozenResource) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.path, other.path)
+          && Objects.equals(this.contentType, other.contentType);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenResource{"
+        + "contentType='"
+        + contentType
+        + '\''
+        + ", path='"
+        + path
+        + '\''
+        + '}';
+  }
+
+  @Override
+  public String getPath() {
+    return path;
+  }
+
+  @Override
+  public void setPath(String path) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getContentType() {
+    return contentType;
+  }
+
+  @Override
+  public void setContentType(String contentType) {
+    throw new UnsupportedOperationException();
+  }
+}
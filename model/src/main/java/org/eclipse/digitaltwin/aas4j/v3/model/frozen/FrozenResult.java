@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.Message;
+import org.eclipse.digitaltwin.aas4j.v3.model.Result;
+
+/** Immutable implementation of {@link Result}, see {@link Freezer}. */
+public final class FrozenResult implements Result, FrozenElement {
+
+  private final List<Message> messages;
+
+  private final int hash;
+
+  FrozenResult(Result source) {
+    this(Freezer.freezeAll(source.getMessages()));
+  }
+
+  private FrozenResult(List<Message> messages) {
+    this.messages = messages;
+    this.hash = Objects.hash(this.messages);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenResult other = (FrozenResult) obj;
+      return this.hash == other.hash && Objects.equals(this.messages, other.messages);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenResult{" + "messages=" + messages + '}';
+  }
+
+  @Override
+  public List<Message> getMessages() {
+    return messages;
+  }
+
+  @Override
+  public void setMessages(List<Message> messages) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.SecurityAttributeObject;
+import org.eclipse.digitaltwin.aas4j.v3.model.SecurityTypeEnum;
+
+/** Immutable implementation of {@link SecurityAttributeObject}, see {@link Freezer}. */
+public final class FrozenSecurityAttributeObject implements SecurityAttributeObject, FrozenElement {
+
+  private final String key;
+
+  private final SecurityTypeEnum type;
+
+  private final String value;
+
+  private final int hash;
+
+  FrozenSecurityAttributeObject(SecurityAttributeObject source) {
+    this(source.getKey(), source.getType(), source.getValue());
+  }
+
+  private FrozenSecurityAttributeObject(String key, SecurityTypeEnum type, String value) {
+    this.key = key;
+    this.type = type;
+    this.value = value;
+    this.hash = Objects.hash(this.type, this.type, this.key, this.value);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenSecurityAttributeObject other = (FrozenSecurityAttributeObject) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.type, other.type)
+          && Objects.equals(this.key, other.key)
+          && Objects.equals(this.value, other.value);
+    }
+  }
+
+  @Override
+  public SecurityTypeEnum getType() {
+    return type;
+  }
+
+  @Override
+  public void setType(SecurityTypeEnum type) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getKey() {
+    return key;
+  }
+
+  @Override
+  public void setKey(String key) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public void setValue(String value) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+
+/** Immutable implementation of {@link SpecificAssetId}, see {@link Freezer}. */
+public final class FrozenSpecificAssetId implements SpecificAssetId, FrozenElement {
+
+  private final Reference semanticId;
+
+  private final List<Reference> supplementalSemanticIds;
+
+  private final Reference externalSubjectId;
+
+  private final String name;
+
+  private final String value;
+
+  private final int hash;
+
+  FrozenSpecificAssetId(SpecificAssetId source) {
+    this(
+        Freezer.freezeValue(source.getSemanticId()),
+        Freezer.freezeAll(source.getSupplementalSemanticIds()),
+        Freezer.freezeValue(source.getExternalSubjectId()),
+        source.getName(),
+        source.getValue());
+  }
+
+  private FrozenSpecificAssetId(
+      Reference semanticId,
+      List<Reference> supplementalSemanticIds,
+      Reference externalSubjectId,
+      String name,
+      String value) {
+    this.semanticId = semanticId;
+    this.supplementalSemanticIds = supplementalSemanticIds;
+    this.externalSubjectId = externalSubjectId;
+    this.name = name;
+    this.value = value;
+    this.hash =
+        Objects.hash(
+            this.name,
+            this.value,
+            this.externalSubjectId,
+            this.semanticId,
+            this.supplementalSemanticIds);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenSpecificAssetId other = (FrozenSpecificAssetId) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.name, other.name)
+          && Objects.equals(this.value, other.value)
+          && Objects.equals(this.externalSubjectId, other.externalSubjectId)
+          && Objects.equals(this.semanticId, other.semanticId)
+          && Objects.equals(this.supplementalSemanticIds, other.supplementalSemanticIds);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenSpecificAssetId{"
+        + "semanticId="
+        + semanticId
+        + ", supplementalSemanticIds="
+        + supplementalSemanticIds
+        + ", externalSubjectId="
+        + externalSubjectId
+        + ", name='"
+        + name
+        + '\''
+        + ", value='"
+        + value
+        + '\''
+        + '}';
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public void setName(String name) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public void setValue(String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getExternalSubjectId() {
+    return externalSubjectId;
+  }
+
+  @Override
+  public void setExternalSubjectId(Reference externalSubjectId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getSemanticId() {
+    return semanticId;
+  }
+
+  @Override
+  public void setSemanticId(Reference semanticId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Reference> getSupplementalSemanticIds() {
+    return supplementalSemanticIds;
+  }
+
+  @Override
+  public void setSupplementalSemanticIds(List<Reference> supplementalSemanticIds) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.AdministrativeInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.Endpoint;
+import org.eclipse.digitaltwin.aas4j.v3.model.Extension;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringNameType;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+
+/** Immutable implementation of {@link SubmodelDescriptor}, see {@link Freezer}. */
+public final class FrozenSubmodelDescriptor implements SubmodelDescriptor, FrozenElement {
+
+  private final List<LangStringTextType> description;
+
+  private final List<LangStringNameType> displayName;
+
+  private final List<Extension> extensions;
+
+  private final AdministrativeInformation administration;
+
+  private final List<Endpoint> endpoints;
+
+  private final String id;
+
+  private final String idShort;
+
+  private final Reference semanticId;
+
+  private final List<Reference> supplementalSemanticIds;
+
+  private final int hash;
+
+  FrozenSubmodelDescriptor(SubmodelDescriptor source) {
+    this(
+        Freezer.freezeAll(source.getDescription()),
+        Freezer.freezeAll(source.getDisplayName()),
+        Freezer.freezeAll(source.getExtensions()),
+        Freezer.freezeValue(source.getAdministration()),
+        Freezer.freezeAll(source.getEndpoints()),
+        source.getId(),
+        source.getIdShort(),
+        Freezer.freezeValue(source.getSemanticId()),
+        Freezer.freezeAll(source.getSupplementalSemanticIds()));
+  }
+
+  private FrozenSubmodelDescriptor(
+      List<LangStringTextType> description,
+      List<LangStringNameType> displayName,
+      List<Extension> extensions,
+      AdministrativeInformation administration,
+      List<Endpoint> endpoints,
+      String id,
+      String idShort,
+      Reference semanticId,
+      List<Reference> supplementalSemanticIds) {
+    this.description = description;
+    this.displayName = displayName;
+    this.extensions = extensions;
+    this.administration = administration;
+    this.endpoints = endpoints;
+    this.id = id;
+    this.idShort = idShort;
+    this.semanticId = semanticId;
+    this.supplementalSemanticIds = supplementalSemanticIds;
+    this.hash =
+        Objects.hash(
+            this.administration,
+            this.endpoints,
+            this.idShort,
+            this.id,
+            this.semanticId,
+            this.supplementalSemanticIds,
+            this.description,
+            this.displayName,
+            this.extensions);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenSubmodelDescriptor other = (FrozenSubmodelDescriptor) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.administration, other.administration)
+          && Objects.equals(this.endpoints, other.endpoints)
+          && Objects.equals(this.idShort, other.idShort)
+          && Objects.equals(this.id, other.id)
+          && Objects.equals(this.semanticId, other.semanticId)
+          && Objects.equals(this.supplementalSemanticIds, other.supplementalSemanticIds)
+          && Objects.equals(this.description, other.description)
+          && Objects.equals(this.displayName, other.displayName)
+          && Objects.equals(this.extensions, other.extensions);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenSubmodelDescriptor{"
+        + "description="
+        + description
+        + ", displayName="
+        + displayName
+        + ", extensions="
+        + extensions
+        + ", administration="
+        + administration
+        + ", endpoints="
+        + endpoints
+        + ", id='"
+        + id
+        + '\''
+        + ", idShort='"
+        + idShort
+        + '\''
+        + ", semanticId="
+        + semanticId
+        + ", supplementalSemanticIds="
+        + supplementalSemanticIds
+        + '}';
+  }
+
+  @Override
+  public AdministrativeInformation getAdministration() {
+    return administration;
+  }
+
+  @Override
+  public void setAdministration(AdministrativeInformation administration) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Endpoint> getEndpoints() {
+    return endpoints;
+  }
+
+  @Override
+  public void setEndpoints(List<Endpoint> endpoints) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getIdShort() {
+    return idShort;
+  }
+
+  @Override
+  public void setIdShort(String idShort) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public void setId(String id) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getSemanticId() {
+    return semanticId;
+  }
+
+  @Override
+  public void setSemanticId(Reference semanticId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Reference> getSupplementalSemanticIds() {
+    return supplementalSemanticIds;
+  }
+
+  @Override
+  public void setSupplementalSemanticIds(List<Reference> supplementalSemanticIds) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<LangStringTextType> getDescription() {
+    return description;
+  }
+
+  @Override
+  public void setDescription(List<LangStringTextType> description) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<LangStringNameType> getDisplayName() {
+    return displayName;
+  }
+
+  @Override
+  public void setDisplayName(List<LangStringNameType> displayName) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<Extension> getExtensions() {
+    return extensions;
+  }
+
+  @Override
+  public void setExtensions(List<Extension> extensions) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.ValueList;
+import org.eclipse.digitaltwin.aas4j.v3.model.ValueReferencePair;
+
+/** Immutable implementation of {@link ValueList}, see {@link Freezer}. */
+public final class FrozenValueList implements ValueList, FrozenElement {
+
+  private final List<ValueReferencePair> valueReferencePairs;
+
+  private final int hash;
+
+  FrozenValueList(ValueList source) {
+    this(Freezer.freezeAll(source.getValueReferencePairs()));
+  }
+
+  private FrozenValueList(List<ValueReferencePair> valueReferencePairs) {
+    this.valueReferencePairs = valueReferencePairs;
+    this.hash = Objects.hash(this.valueReferencePairs);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenValueList other = (FrozenValueList) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.valueReferencePairs, other.valueReferencePairs);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenValueList{" + "valueReferencePairs=" + valueReferencePairs + '}';
+  }
+
+  @Override
+  public List<ValueReferencePair> getValueReferencePairs() {
+    return valueReferencePairs;
+  }
+
+  @Override
+  public void setValueReferencePairs(List<ValueReferencePair> valueReferencePairs) {
+    throw new UnsupportedOperationException();
+  }
+}
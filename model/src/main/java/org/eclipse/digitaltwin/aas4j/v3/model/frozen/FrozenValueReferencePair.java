@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ValueReferencePair;
+
+/** Immutable implementation of {@link ValueReferencePair}, see {@link Freezer}. */
+public final class FrozenValueReferencePair implements ValueReferencePair, FrozenElement {
+
+  private final String value;
+
+  private final Reference valueId;
+
+  private final int hash;
+
+  FrozenValueReferencePair(ValueReferencePair source) {
+    this(source.getValue(), Freezer.freezeValue(source.getValueId()));
+  }
+
+  private FrozenValueReferencePair(String value, Reference valueId) {
+    this.value = value;
+    this.valueId = valueId;
+    this.hash = Objects.hash(this.value, this.valueId);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    } else if (obj == null) {
+      return false;
+    } else if (this.getClass() != obj.getClass()) {
+      return false;
+    } else {
+      FrozenValueReferencePair other = (FrozenValueReferencePair) obj;
+      return this.hash == other.hash
+          && Objects.equals(this.value, other.value)
+          && Objects.equals(this.valueId, other.valueId);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FrozenValueReferencePair{" + "value='" + value + '\'' + ", valueId=" + valueId + '}';
+  }
+
+  @Override
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public void setValue(String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Reference getValueId() {
+    return valueId;
+  }
+
+  @Override
+  public void setValueId(Reference valueId) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.junit.Test;
+
+public class EnvironmentSnapshotTest {
+
+  private static final String FIRST = "https://example.org/submodel/1";
+
+  private static final String SECOND = "https://example.org/submodel/2";
+
+  @Test
+  public void freeze_resolvesElementsByIdShortPath() {
+    EnvironmentSnapshot snapshot = EnvironmentSnapshot.freeze(createEnvironment());
+
+    assertTrue(snapshot.getEnvironment().getSubmodels() instanceof FrozenList);
+    assertEquals("b", getValue(snapshot, "collection.list[1]"));
+    assertEquals("c", getValue(snapshot, "collection.property"));
+    assertNull(snapshot.getSubmodelElement(FIRST, "collection.list[2]"));
+    assertNull(snapshot.getSubmodelElement(FIRST, "collection[0]"));
+    assertNull(snapshot.getSubmodelElement("unknown", "collection"));
+  }
+
+  @Test
+  public void withSubmodelElement_copiesOnlyModifiedPath() {
+    EnvironmentSnapshot snapshot = EnvironmentSnapshot.freeze(createEnvironment());
+
+    EnvironmentSnapshot edited =
+        snapshot.withSubmodelElement(FIRST, "collection.list[1]", property(null, "x"));
+
+    assertEquals("b", getValue(snapshot, "collection.list[1]"));
+    assertEquals("x", getValue(edited, "collection.list[1]"));
+    assertNotSame(snapshot.getSubmodel(FIRST), edited.getSubmodel(FIRST));
+    assertSame(snapshot.getSubmodel(SECOND), edited.getSubmodel(SECOND));
+    assertSame(
+        snapshot.getSubmodelElement(FIRST, "collection.list[0]"),
+        edited.getSubmodelElement(FIRST, "collection.list[0]"));
+    assertSame(
+        snapshot.getSubmodelElement(FIRST, "collection.property"),
+        edited.getSubmodelElement(FIRST, "collection.property"));
+    assertTrue(
+        ((SubmodelElementList) edited.getSubmodelElement(FIRST, "collection.list")).getValue()
+            instanceof FrozenList);
+  }
+
+  @Test
+  public void withSubmodelElement_withNewIdShort_appendsElement() {
+    EnvironmentSnapshot snapshot = EnvironmentSnapshot.freeze(createEnvironment());
+
+    EnvironmentSnapshot edited =
+        snapshot.withSubmodelElement(FIRST, "collection.added", property("added", "y"));
+
+    assertEquals("y", getValue(edited, "collection.added"));
+    assertNull(snapshot.getSubmodelElement(FIRST, "collection.added"));
+    assertEquals(
+        3,
+        ((SubmodelElementCollection) edited.getSubmodelElement(FIRST, "collection"))
+            .getValue()
+            .size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withSubmodelElement_withUnknownContainer_throws() {
+    EnvironmentSnapshot.freeze(createEnvironment())
+        .withSubmodelElement(FIRST, "unknown.property", property("property", "z"));
+  }
+
+  @Test
+  public void withSubmodelElement_withMismatchedIdShort_throws() {
+    EnvironmentSnapshot snapshot = EnvironmentSnapshot.freeze(createEnvironment());
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> snapshot.withSubmodelElement(FIRST, "collection.property", property("other", "z")));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> snapshot.withSubmodelElement(FIRST, "collection.added", property("other", "z")));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> snapshot.withSubmodelElement(FIRST, "collection.added", property(null, "z")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withSubmodel_withoutId_throws() {
+    EnvironmentSnapshot.freeze(createEnvironment())
+        .withSubmodel(new DefaultSubmodel.Builder().idShort("submodel").build());
+  }
+
+  @Test
+  public void withoutSubmodelElement_removesElement() {
+    EnvironmentSnapshot snapshot = EnvironmentSnapshot.freeze(createEnvironment());
+
+    EnvironmentSnapshot edited = snapshot.withoutSubmodelElement(FIRST, "collection.list[0]");
+
+    assertEquals("b", getValue(edited, "collection.list[0]"));
+    assertNull(edited.getSubmodelElement(FIRST, "collection.list[1]"));
+    assertSame(snapshot, snapshot.withoutSubmodelElement(FIRST, "collection.unknown"));
+  }
+
+  @Test
+  public void withSubmodel_replacesAddsAndRemovesSubmodels() {
+    EnvironmentSnapshot snapshot = EnvironmentSnapshot.freeze(createEnvironment());
+    Submodel replacement = new DefaultSubmodel.Builder().id(SECOND).idShort("replaced").build();
+    Submodel added = new DefaultSubmodel.Builder().id("https://example.org/submodel/3").build();
+
+    EnvironmentSnapshot edited = snapshot.withSubmodel(replacement).withSubmodel(added);
+
+    assertEquals(Freezer.freeze(replacement), edited.getSubmodel(SECOND));
+    assertEquals(Freezer.freeze(added), edited.getSubmodel(added.getId()));
+    assertEquals(3, edited.getEnvironment().getSubmodels().size());
+    assertEquals(2, snapshot.getEnvironment().getSubmodels().size());
+
+    EnvironmentSnapshot removed = edited.withoutSubmodel(FIRST);
+
+    assertNull(removed.getSubmodel(FIRST));
+    assertSame(edited.getSubmodel(added.getId()), removed.getSubmodel(added.getId()));
+  }
+
+  @Test
+  public void snapshot_rejectsModificationByReadersAndWriters() {
+    Property added = property("added", "y");
+    EnvironmentSnapshot snapshot =
+        EnvironmentSnapshot.freeze(createEnvironment())
+            .withSubmodelElement(FIRST, "collection.added", added);
+    Property property = (Property) snapshot.getSubmodelElement(FIRST, "collection.property");
+    SubmodelElementCollection collection =
+        (SubmodelElementCollection) snapshot.getSubmodelElement(FIRST, "collection");
+
+    assertThrows(UnsupportedOperationException.class, () -> property.setValue("x"));
+    assertThrows(UnsupportedOperationException.class, () -> collection.setIdShort("x"));
+    assertThrows(UnsupportedOperationException.class, () -> collection.getValue().clear());
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.getSubmodel(FIRST).setId("x"));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> snapshot.getEnvironment().getSubmodels().remove(0));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> snapshot.getEnvironment().setSubmodels(new ArrayList<>()));
+
+    added.setValue("x");
+
+    assertEquals("y", getValue(snapshot, "collection.added"));
+  }
+
+  @Test(timeout = 60000)
+  public void updateAndGet_withConcurrentReaders_readersSeeConsistentSnapshots() throws Exception {
+    int writers = 4;
+    int readers = 4;
+    int updates = 250;
+    AtomicReference<EnvironmentSnapshot> current =
+        new AtomicReference<>(EnvironmentSnapshot.freeze(createEnvironment()));
+    SubmodelElement list = current.get().getSubmodelElement(FIRST, "collection.list");
+    AtomicBoolean done = new AtomicBoolean();
+    ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+    try {
+      List<Future<?>> writerTasks = new ArrayList<>();
+      for (int i = 0; i < writers; i++) {
+        writerTasks.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < updates; j++) {
+                    current.updateAndGet(EnvironmentSnapshotTest::increment);
+                  }
+                }));
+      }
+      List<Future<?>> readerTasks = new ArrayList<>();
+      for (int i = 0; i < readers; i++) {
+        readerTasks.add(
+            executor.submit(
+                () -> {
+                  int last = 0;
+                  do {
+                    EnvironmentSnapshot snapshot = current.get();
+                    int counter = getCount(snapshot, "collection.counter");
+                    assertEquals(counter, getCount(snapshot, "collection.mirror"));
+                    assertTrue(counter >= last);
+                    assertSame(list, snapshot.getSubmodelElement(FIRST, "collection.list"));
+                    assertEquals(
+                        snapshot.getSubmodel(FIRST).hashCode(),
+                        snapshot.getSubmodel(FIRST).hashCode());
+                    last = counter;
+                  } while (!done.get());
+                  return null;
+                }));
+      }
+      for (Future<?> task : writerTasks) {
+        task.get();
+      }
+      done.set(true);
+      for (Future<?> task : readerTasks) {
+        task.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(writers * updates, getCount(current.get(), "collection.counter"));
+    assertEquals(writers * updates, getCount(current.get(), "collection.mirror"));
+  }
+
+  private static EnvironmentSnapshot increment(EnvironmentSnapshot snapshot) {
+    String next = String.valueOf(getCount(snapshot, "collection.counter") + 1);
+    return snapshot.withSubmodelElement(
+        FIRST,
+        "collection",
+        new DefaultSubmodelElementCollection.Builder()
+            .idShort("collection")
+            .value(snapshot.getSubmodelElement(FIRST, "collection.list"))
+            .value(property("counter", next))
+            .value(property("mirror", next))
+            .build());
+  }
+
+  private static int getCount(EnvironmentSnapshot snapshot, String idShortPath) {
+    Property property = (Property) snapshot.getSubmodelElement(FIRST, idShortPath);
+    return property == null ? 0 : Integer.parseInt(property.getValue());
+  }
+
+  private static String getValue(EnvironmentSnapshot snapshot, String idShortPath) {
+    return ((Property) snapshot.getSubmodelElement(FIRST, idShortPath)).getValue();
+  }
+
+  private static Property property(String idShort, String value) {
+    return new DefaultProperty.Builder().idShort(idShort).value(value).build();
+  }
+
+  private static Environment createEnvironment() {
+    return new DefaultEnvironment.Builder()
+        .submodels(
+            new DefaultSubmodel.Builder()
+                .id(FIRST)
+                .submodelElements(
+                    new DefaultSubmodelElementCollection.Builder()
+                        .idShort("collection")
+                        .value(
+                            new DefaultSubmodelElementList.Builder()
+                                .idShort("list")
+                                .value(property(null, "a"))
+                                .value(property(null, "b"))
+                                .build())
+                        .value(property("property", "c"))
+                        .build())
+                .build())
+        .submodels(new DefaultSubmodel.Builder().id(SECOND).build())
+        .build();
+  }
+}
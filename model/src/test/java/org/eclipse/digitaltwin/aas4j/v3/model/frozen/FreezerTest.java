@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 SAP SE
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.aas4j.v3.model.frozen;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.junit.Test;
+
+public class FreezerTest {
+
+  @Test
+  public void freeze_withNestedElements_createsFrozenCopies() {
+    Submodel source = createSubmodel("value");
+    Submodel submodel = Freezer.freeze(source);
+
+    SubmodelElementCollection collection =
+        (SubmodelElementCollection) submodel.getSubmodelElements().get(0);
+    Property property = (Property) collection.getValue().get(0);
+    assertNotSame(source, submodel);
+    assertTrue(Freezer.isFrozen(submodel));
+    assertTrue(Freezer.isFrozen(collection));
+    assertTrue(Freezer.isFrozen(property.getSemanticId().getKeys().get(0)));
+    assertFalse(Freezer.isFrozen(source.getSubmodelElements().get(0)));
+    assertTrue(submodel.getSubmodelElements() instanceof FrozenList);
+    assertTrue(submodel.getDescription() instanceof FrozenList);
+    assertTrue(collection.getValue() instanceof FrozenList);
+    assertTrue(property.getSemanticId().getKeys() instanceof FrozenList);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void freeze_thenModifyList_throws() {
+    Submodel submodel = Freezer.freeze(createSubmodel("value"));
+
+    submodel.getSubmodelElements().add(new DefaultProperty());
+  }
+
+  @Test
+  public void freeze_keepsHashCodeOfDefaultImplementation() {
+    Submodel frozen = Freezer.freeze(createSubmodel("value"));
+    Submodel mutable = createSubmodel("value");
+
+    assertEquals(mutable.hashCode(), frozen.hashCode());
+    assertEquals(frozen, Freezer.freeze(createSubmodel("value")));
+    assertNotEquals(frozen, Freezer.freeze(createSubmodel("other")));
+    assertNotEquals(mutable, frozen);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void freeze_thenModifyBySetter_throws() {
+    Submodel submodel = Freezer.freeze(createSubmodel("value"));
+
+    submodel.setSubmodelElements(new ArrayList<>());
+  }
+
+  @Test
+  public void freeze_thenModifyNestedElement_throwsAndKeepsHashCode() {
+    Submodel submodel = Freezer.freeze(createSubmodel("value"));
+    int hashCode = submodel.hashCode();
+    Property property =
+        (Property)
+            ((SubmodelElementCollection) submodel.getSubmodelElements().get(0)).getValue().get(0);
+
+    assertThrows(UnsupportedOperationException.class, () -> property.setValue("other"));
+    assertThrows(UnsupportedOperationException.class, () -> property.setSemanticId(null));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> property.getSemanticId().getKeys().get(0).setValue("other"));
+    assertEquals("value", property.getValue());
+    assertEquals(hashCode, submodel.hashCode());
+    assertEquals(createSubmodel("value").hashCode(), submodel.hashCode());
+  }
+
+  @Test
+  public void freeze_thenModifySource_keepsCopy() {
+    Submodel source = createSubmodel("value");
+    Submodel submodel = Freezer.freeze(source);
+
+    ((Property) ((SubmodelElementCollection) source.getSubmodelElements().get(0)).getValue().get(0))
+        .setValue("other");
+    source.getSubmodelElements().clear();
+
+    assertEquals(Freezer.freeze(createSubmodel("value")), submodel);
+    assertEquals(createSubmodel("value").hashCode(), submodel.hashCode());
+  }
+
+  @Test
+  public void freeze_withFrozenElement_returnsSameInstance() {
+    Submodel submodel = Freezer.freeze(createSubmodel("value"));
+
+    assertSame(submodel, Freezer.freeze(submodel));
+    assertSame(
+        submodel.getSubmodelElements(),
+        Freezer.freeze(
+                new DefaultSubmodel.Builder()
+                    .submodelElements(submodel.getSubmodelElements())
+                    .build())
+            .getSubmodelElements());
+  }
+
+  @Test
+  public void freeze_withCustomImplementation_freezesByModelInterface() {
+    Key key = new CustomKey();
+    key.setType(KeyTypes.GLOBAL_REFERENCE);
+    key.setValue("https://example.org/semantics");
+    Submodel submodel = createSubmodel("value");
+    submodel.setSemanticId(new DefaultReference.Builder().keys(key).build());
+
+    Key frozen = Freezer.freeze(submodel).getSemanticId().getKeys().get(0);
+
+    assertTrue(Freezer.isFrozen(frozen));
+    assertEquals(KeyTypes.GLOBAL_REFERENCE, frozen.getType());
+    assertEquals("https://example.org/semantics", frozen.getValue());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void freeze_withNonModelElement_throws() {
+    Freezer.freeze(CharSequence.class, "value");
+  }
+
+  @Test
+  public void freeze_withBlob_copiesValue() {
+    byte[] value = {1, 2, 3};
+    Blob blob =
+        Freezer.freeze(Blob.class, new DefaultBlob.Builder().idShort("blob").value(value).build());
+
+    value[0] = 0;
+    blob.getValue()[1] = 0;
+
+    assertArrayEquals(new byte[] {1, 2, 3}, blob.getValue());
+  }
+
+  @Test
+  public void copyOf_withFrozenList_returnsSameInstance() {
+    List<String> frozen = FrozenList.copyOf(Arrays.asList("a", "b"));
+
+    assertSame(frozen, FrozenList.copyOf(frozen));
+    assertEquals(Arrays.asList("a", "b"), frozen);
+    assertEquals(Arrays.asList("a", "b").hashCode(), frozen.hashCode());
+  }
+
+  private static class CustomKey implements Key {
+
+    private KeyTypes type;
+
+    private String value;
+
+    @Override
+    public KeyTypes getType() {
+      return type;
+    }
+
+    @Override
+    public void setType(KeyTypes type) {
+      this.type = type;
+    }
+
+    @Override
+    public String getValue() {
+      return value;
+    }
+
+    @Override
+    public void setValue(String value) {
+      this.value = value;
+    }
+  }
+
+  private static Submodel createSubmodel(String value) {
+    return new DefaultSubmodel.Builder()
+        .id("https://example.org/submodel")
+        .idShort("submodel")
+        .description(new DefaultLangStringTextType.Builder().language("en").text("test").build())
+        .submodelElements(
+            new DefaultSubmodelElementCollection.Builder()
+                .idShort("collection")
+                .value(
+                    new DefaultProperty.Builder()
+                        .idShort("property")
+                        .value(value)
+                        .semanticId(
+                            new DefaultReference.Builder()
+                                .type(ReferenceTypes.EXTERNAL_REFERENCE)
+                                .keys(
+                                    new DefaultKey.Builder()
+                                        .type(KeyTypes.GLOBAL_REFERENCE)
+                                        .value("https://example.org/semantics")
+                                        .build())
+                                .build())
+                        .build())
+                .build())
+        .build();
+  }
+}